@@ -0,0 +1,72 @@
+package com.antock.backend.benchmark;
+
+import com.antock.backend.domain.BusinessNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사업자등록번호 검증 단계가 CSV 라인 파싱에 비해 무시할 만한 비용인지 측정합니다.
+ * DomesticBusinessEntityServiceImpl의 파싱(split + trim)과 같은 방식으로 라인을 처리합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BusinessNumberValidationBenchmark {
+
+    private static final int LINES = 10_000;
+
+    private List<String> lines;
+    private List<String> businessNumbers;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        lines = new ArrayList<>(LINES);
+        businessNumbers = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            String businessNumber = String.format("%03d-%02d-%05d",
+                random.nextInt(1000), random.nextInt(100), random.nextInt(100_000));
+            lines.add("2024-서울강남-" + i + ",테스트 주식회사 " + i + ",대표자" + i + "," + businessNumber
+                + ",법인,서울특별시 강남구 테헤란로 " + i + ",20240101,정상영업");
+            businessNumbers.add(businessNumber);
+        }
+    }
+
+    @Benchmark
+    public void parseLines(Blackhole blackhole) {
+        for (String line : lines) {
+            String[] fields = line.split(",");
+            blackhole.consume(fields[4].trim());
+            blackhole.consume(fields[3].trim());
+        }
+    }
+
+    @Benchmark
+    public void parseAndValidateLines(Blackhole blackhole) {
+        for (String line : lines) {
+            String[] fields = line.split(",");
+            blackhole.consume(fields[4].trim());
+            long digits = BusinessNumber.parseDigits(fields[3].trim());
+            blackhole.consume(digits != BusinessNumber.INVALID && BusinessNumber.isChecksumValid(digits));
+        }
+    }
+
+    @Benchmark
+    public void validateOnly(Blackhole blackhole) {
+        for (String businessNumber : businessNumbers) {
+            long digits = BusinessNumber.parseDigits(businessNumber);
+            blackhole.consume(digits != BusinessNumber.INVALID && BusinessNumber.isChecksumValid(digits));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.antock.backend.benchmark;
+
+import com.antock.backend.service.OverseasXlsCellExtractor;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워크북 모드에서 셀마다 타입을 판별하던 방식(getCellValueAsString)과
+ * 열마다 한 번 정한 추출 방식(OverseasXlsCellExtractor)의 셀 값 추출 비용을 비교합니다.
+ * 국외사업자 파일과 같은 5개 열(문자열 4개, 정수 사업자번호 1개)의 100,000행 시트를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OverseasXlsCellExtractionBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int COLUMNS = 5;
+
+    private Workbook workbook;
+    private Sheet sheet;
+    private OverseasXlsCellExtractor[] extractors;
+
+    @Setup
+    public void setup() {
+        workbook = new HSSFWorkbook();
+        sheet = workbook.createSheet("국외사업자");
+        Row header = sheet.createRow(0);
+        String[] headers = {"관리번호", "법인명(상호)", "사업자번호", "법인여부", "운영상태"};
+        for (int i = 0; i < COLUMNS; i++) {
+            header.createCell(i).setCellValue(headers[i]);
+        }
+        for (int i = 1; i <= ROWS; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue("2023-공정-" + i);
+            row.createCell(1).setCellValue("테스트 회사" + i);
+            row.createCell(2).setCellValue(1_234_500_000d + i);
+            row.createCell(3).setCellValue(i % 5 == 0 ? "N" : "Y");
+            row.createCell(4).setCellValue(i % 3 == 0 ? "02" : "01");
+        }
+
+        Row sampleRow = sheet.getRow(1);
+        extractors = new OverseasXlsCellExtractor[COLUMNS];
+        for (int i = 0; i < COLUMNS; i++) {
+            extractors[i] = OverseasXlsCellExtractor.forColumn(sampleRow.getCell(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public void perCellTypeSwitch(Blackhole blackhole) {
+        for (int rowIndex = 1; rowIndex <= ROWS; rowIndex++) {
+            Row row = sheet.getRow(rowIndex);
+            for (int i = 0; i < COLUMNS; i++) {
+                blackhole.consume(legacyCellValue(row.getCell(i)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void precompiledExtractors(Blackhole blackhole) {
+        for (int rowIndex = 1; rowIndex <= ROWS; rowIndex++) {
+            Row row = sheet.getRow(rowIndex);
+            for (int i = 0; i < COLUMNS; i++) {
+                blackhole.consume(extractors[i].extract(row.getCell(i)));
+            }
+        }
+    }
+
+    /**
+     * 기존 OverseasXlsParser.getCellValueAsString과 같은 방식 (비교 기준)
+     */
+    private static String legacyCellValue(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+        try {
+            switch (cell.getCellType()) {
+                case STRING:
+                    return cell.getStringCellValue().trim();
+                case NUMERIC:
+                    if (DateUtil.isCellDateFormatted(cell)) {
+                        return cell.getDateCellValue().toString();
+                    }
+                    double numValue = cell.getNumericCellValue();
+                    if (numValue == Math.floor(numValue)) {
+                        return String.format("%.0f", numValue);
+                    }
+                    return String.valueOf(numValue);
+                case BOOLEAN:
+                    return String.valueOf(cell.getBooleanCellValue());
+                case FORMULA:
+                    try {
+                        return cell.getStringCellValue();
+                    } catch (Exception e) {
+                        try {
+                            return String.valueOf(cell.getNumericCellValue());
+                        } catch (Exception ex) {
+                            return "";
+                        }
+                    }
+                default:
+                    return "";
+            }
+        } catch (Exception e) {
+            return "";
+        }
+    }
+}
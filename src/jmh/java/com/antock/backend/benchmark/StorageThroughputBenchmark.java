@@ -0,0 +1,83 @@
+package com.antock.backend.benchmark;
+
+import com.antock.backend.BackendApplication;
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.repository.BusinessEntityStorage;
+import com.antock.backend.repository.JdbcBusinessEntityStorage;
+import com.antock.backend.repository.JpaBusinessEntityStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA 구현체와 JDBC 구현체의 saveAll 처리량(rows/sec)을 비교합니다.
+ * 인메모리 H2에 매 호출마다 새 키를 가진 ROWS건을 저장합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageThroughputBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"jpa", "jdbc"})
+    public String storageType;
+
+    private ConfigurableApplicationContext context;
+    private BusinessEntityStorage storage;
+    private long sequence;
+    private List<BusinessEntity> batch;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + storageType,
+                "logging.level.com.antock.backend=warn")
+            .run();
+        storage = "jdbc".equals(storageType)
+            ? context.getBean(JdbcBusinessEntityStorage.class)
+            : context.getBean(JpaBusinessEntityStorage.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        batch = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            long key = sequence++;
+            batch.add(BusinessEntity.builder()
+                .mailOrderSalesNumber("BENCH-" + key)
+                .companyName("벤치마크 회사 " + key)
+                .businessNumber(String.format("%010d", key))
+                .administrativeCode("1168000000")
+                .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<BusinessEntity> saveAll() {
+        return storage.saveAll(batch);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+}
@@ -29,6 +29,7 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Slf4j
@@ -38,7 +39,7 @@ public class FtcCsvClient {
     private static final String MAIN_URL = "https://www.ftc.go.kr/www/selectBizCommOpenList.do?key=255";
     
     // 시/도 코드 매핑
-    private static final Map<String, String> CITY_CODE_MAP = new HashMap<>();
+    private static final Map<String, String> CITY_CODE_MAP = new LinkedHashMap<>();
     
     // 쓰레드 풀 설정
     private static final ExecutorService executorService =
@@ -65,6 +66,15 @@ public class FtcCsvClient {
         CITY_CODE_MAP.put("국외사업자", "9990000");
     }
     
+    /**
+     * 다운로드할 수 있는 국내 시/도 목록 (국외사업자 제외, 등록 순서)
+     */
+    public List<String> getDomesticCities() {
+        return CITY_CODE_MAP.keySet().stream()
+            .filter(city -> !"국외사업자".equals(city))
+            .toList();
+    }
+    
     /**
      * 공정거래위원회 사이트에서 CSV 파일을 다운로드합니다.
      * Selenium을 사용하여 실제 브라우저 동작을 시뮬레이션합니다.
@@ -1,9 +1,11 @@
 package com.antock.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
 
@@ -21,4 +23,60 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 국내 사업자 보강 단계의 외부 API 조회 전용 스레드 풀
+     * 실행마다 풀을 만들지 않고 하나를 공유하므로, 여러 지역을 동시에 수집해도 동시 조회 수는 이 크기를 넘지 않습니다.
+     */
+    @Bean(name = "lookupExecutor")
+    public Executor lookupExecutor(@Value("${ingestion.lookup.threads:10}") int lookupThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(lookupThreads);
+        executor.setMaxPoolSize(lookupThreads);
+        executor.setThreadNamePrefix("Lookup-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일괄 수집에서 다음 지역의 다운로드, 파싱, 검증을 미리 실행하는 단일 스레드
+     * 공정위 CSV 다운로드는 다운로드 디렉터리를 공유하므로 스레드 하나로 순서대로 실행합니다.
+     */
+    @Bean(name = "regionPrepareExecutor")
+    public Executor regionPrepareExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("RegionPrepare-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 국외사업자 XLS 워크북 모드의 행 구간 파싱 전용 스레드 풀
+     * 공용 ForkJoinPool을 다른 작업과 나눠 쓰지 않도록 분리합니다. (0이면 CPU 코어 수)
+     */
+    @Bean(name = "xlsParseExecutor")
+    public Executor xlsParseExecutor(@Value("${ingestion.overseas.parse-threads:0}") int parseThreads) {
+        int poolSize = parseThreads > 0 ? parseThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("XlsParse-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 수집 작업 진행 이벤트(SSE)를 주기적으로 보내는 스케줄러
+     * 파이프라인 스레드는 카운터만 갱신하고, 스냅샷 생성과 전송은 이 스레드에서만 합니다.
+     */
+    @Bean(name = "progressEventScheduler")
+    public ThreadPoolTaskScheduler progressEventScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("ProgressEvent-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,24 @@
+package com.antock.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 작업 전용 스케줄러 (이름으로 선택되므로 진행 이벤트 스케줄러와 섞이지 않음)
+     * 예약 갱신은 몇 시간씩 걸릴 수 있으므로 다른 스케줄러 스레드를 점유하지 않도록 분리합니다.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("Scheduled-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
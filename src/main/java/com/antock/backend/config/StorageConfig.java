@@ -1,18 +1,42 @@
 package com.antock.backend.config;
 
 import com.antock.backend.repository.BusinessEntityStorage;
+import com.antock.backend.repository.CachingBusinessEntityStorage;
+import com.antock.backend.repository.JdbcBusinessEntityStorage;
 import com.antock.backend.repository.JpaBusinessEntityStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+@Slf4j
 @Configuration
 public class StorageConfig {
     
+    /**
+     * storage.type 설정으로 저장소 구현체를 선택합니다.
+     * jpa(기본값): JPA 구현체, jdbc: JdbcTemplate 기반 벌크 구현체 (H2/PostgreSQL 외의 데이터베이스면 시작 시 실패)
+     * storage.cache.max-size가 0보다 크면 사업자등록번호, 통신판매번호 단건 조회 캐시로 감쌉니다.
+     */
     @Bean
     @Primary
-    public BusinessEntityStorage businessEntityStorage(JpaBusinessEntityStorage jpaStorage) {
-        // 현재는 JPA 구현체를 사용하지만, 향후 다른 구현체로 쉽게 교체 가능
-        return jpaStorage;
+    public BusinessEntityStorage businessEntityStorage(
+            @Value("${storage.type:jpa}") String storageType,
+            @Value("${storage.cache.max-size:10000}") int cacheMaxSize,
+            JpaBusinessEntityStorage jpaStorage,
+            JdbcBusinessEntityStorage jdbcStorage,
+            MeterRegistry meterRegistry) {
+        log.info("저장소 구현체: {}, 단건 조회 캐시 크기: {}", storageType, cacheMaxSize);
+        BusinessEntityStorage storage = switch (storageType.toLowerCase()) {
+            case "jpa" -> jpaStorage;
+            case "jdbc" -> {
+                jdbcStorage.requireSupportedDatabase();
+                yield jdbcStorage;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 storage.type: " + storageType);
+        };
+        return cacheMaxSize > 0 ? new CachingBusinessEntityStorage(storage, meterRegistry, cacheMaxSize) : storage;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.antock.backend.controller;
+
+import com.antock.backend.dto.ExportFormat;
+import com.antock.backend.repository.BusinessEntitySearch;
+import com.antock.backend.service.BusinessEntityExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/business")
+@RequiredArgsConstructor
+public class BusinessEntityExportController {
+    private final BusinessEntityExportService businessEntityExportService;
+
+    @Operation(summary = "통신판매사업자 정보 내보내기",
+        description = "조건에 맞는 사업자 정보 전체를 CSV 또는 NDJSON으로 스트리밍합니다. "
+            + "gzip=true이면 Content-Encoding: gzip으로 압축하여 전송합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBusinessEntities(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String administrativeCode,
+            @RequestParam(required = false) Boolean isOverseas,
+            @RequestParam(required = false) String businessNumber) {
+        // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 파라미터는 미리 검증
+        ExportFormat exportFormat = ExportFormat.from(format);
+        BusinessEntitySearch search = BusinessEntitySearch.builder()
+            .administrativeCodePrefix(administrativeCode)
+            .overseas(isOverseas)
+            .businessNumber(businessNumber)
+            .build();
+        search.validate();
+        log.info("통신판매사업자 정보 내보내기 요청 - 형식: {}, gzip: {}, 조건: {}", exportFormat, gzip, search);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                businessEntityExportService.export(search, exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                businessEntityExportService.export(search, exportFormat, out);
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"));
+        headers.setContentDisposition(ContentDisposition.attachment()
+            .filename("business_entity." + exportFormat.getExtension())
+            .build());
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+}
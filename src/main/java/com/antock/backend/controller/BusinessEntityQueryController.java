@@ -0,0 +1,60 @@
+package com.antock.backend.controller;
+
+import com.antock.backend.dto.BusinessEntityItem;
+import com.antock.backend.dto.BusinessEntityPageResponse;
+import com.antock.backend.repository.BusinessEntitySearch;
+import com.antock.backend.service.BusinessEntityQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/business")
+@RequiredArgsConstructor
+public class BusinessEntityQueryController {
+    private final BusinessEntityQueryService businessEntityQueryService;
+
+    @Operation(summary = "통신판매사업자 목록 조회",
+        description = "행정구역코드 앞자리(2~10자리), 국외사업자 여부, 사업자등록번호로 조회합니다. "
+            + "응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping
+    public ResponseEntity<BusinessEntityPageResponse> getBusinessEntities(
+            @RequestParam(required = false) String administrativeCode,
+            @RequestParam(required = false) Boolean isOverseas,
+            @RequestParam(required = false) String businessNumber,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        BusinessEntitySearch search = BusinessEntitySearch.builder()
+            .administrativeCodePrefix(administrativeCode)
+            .overseas(isOverseas)
+            .businessNumber(businessNumber)
+            .build();
+        log.debug("통신판매사업자 목록 조회 - {}, cursor: {}, size: {}", search, cursor, size);
+
+        return ResponseEntity.ok(businessEntityQueryService.findBusinessEntities(search, cursor, size));
+    }
+
+    @Operation(summary = "통신판매사업자 단건 조회", description = "하이픈 없는 사업자등록번호 10자리로 사업자 한 건을 조회합니다.")
+    @GetMapping("/{businessNumber:\\d+}")
+    public ResponseEntity<BusinessEntityItem> getBusinessEntity(@PathVariable String businessNumber) {
+        return businessEntityQueryService.findByBusinessNumber(businessNumber)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "통신판매사업자 통신판매번호 조회", description = "통신판매번호로 사업자 한 건을 조회합니다.")
+    @GetMapping("/mail-order-sales-number")
+    public ResponseEntity<BusinessEntityItem> getBusinessEntityByMailOrderSalesNumber(
+            @RequestParam String mailOrderSalesNumber) {
+        return businessEntityQueryService.findByMailOrderSalesNumber(mailOrderSalesNumber)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.antock.backend.controller;
+
+import com.antock.backend.dto.BatchIngestionRequest;
+import com.antock.backend.dto.BusinessEntityRequest;
+import com.antock.backend.dto.IngestionJobResponse;
+import com.antock.backend.service.IngestionJob;
+import com.antock.backend.service.IngestionJobEventService;
+import com.antock.backend.service.IngestionJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/v1/business/jobs")
+@RequiredArgsConstructor
+public class IngestionJobController {
+    private final IngestionJobService ingestionJobService;
+    private final IngestionJobEventService ingestionJobEventService;
+
+    @Operation(summary = "통신판매사업자 수집 작업 등록",
+        description = "수집을 백그라운드에서 실행하고 바로 작업 id를 반환합니다. "
+            + "Location 헤더의 주소로 진행 상황을 조회합니다.")
+    @PostMapping
+    public ResponseEntity<IngestionJobResponse> submit(@RequestBody BusinessEntityRequest request) {
+        log.info("수집 작업 등록 요청 - city: {}, district: {}", request.getCity(), request.getDistrict());
+
+        IngestionJob job = ingestionJobService.submit(request.getCity(), request.getDistrict());
+        return ResponseEntity.accepted()
+            .location(URI.create("/v1/business/jobs/" + job.getId()))
+            .body(IngestionJobResponse.from(job));
+    }
+
+    @Operation(summary = "통신판매사업자 일괄 수집 작업 등록",
+        description = "여러 지역을 한 작업으로 수집합니다. 지역을 비우면 모든 국내 시/도 전체를 수집합니다. "
+            + "다음 지역의 다운로드와 파싱은 현재 지역의 보강과 겹쳐 진행합니다.")
+    @PostMapping("/batch")
+    public ResponseEntity<IngestionJobResponse> submitBatch(@RequestBody BatchIngestionRequest request) {
+        log.info("일괄 수집 작업 등록 요청 - 지역 수: {}",
+            request.getRegions() == null ? 0 : request.getRegions().size());
+
+        IngestionJob job = ingestionJobService.submitBatch(request.getRegions());
+        return ResponseEntity.accepted()
+            .location(URI.create("/v1/business/jobs/" + job.getId()))
+            .body(IngestionJobResponse.from(job));
+    }
+
+    @Operation(summary = "통신판매사업자 수집 작업 조회",
+        description = "작업 상태, 현재 단계, 단계별 건수와 초당 처리량을 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<IngestionJobResponse> getJob(@PathVariable String jobId) {
+        return ingestionJobService.find(jobId)
+            .map(IngestionJobResponse::from)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "통신판매사업자 수집 작업 진행 이벤트",
+        description = "작업 진행 상황(단계, 파싱/조회/저장 건수, 조회 캐시 적중률, 초당 처리량)을 "
+            + "Server-Sent Events로 일정 주기마다 보냅니다. 작업이 끝나면 finished 이벤트를 보내고 스트림을 닫습니다.")
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobEvents(@PathVariable String jobId) {
+        return ingestionJobEventService.subscribe(jobId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
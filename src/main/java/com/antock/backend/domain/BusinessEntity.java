@@ -5,15 +5,28 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 @Entity
-@Table(name = "business_entity")
+@Table(name = "business_entity", indexes = {
+    // 통신판매번호 기준 중복 조회용 (사업자등록번호는 unique 제약으로 인덱스 보유)
+    @Index(name = "idx_business_entity_mail_order_sales_number", columnList = "mail_order_sales_number"),
+    // 목록 조회 keyset 페이지용: 조건 컬럼 다음에 id를 두어 "조건 = ? and id > ? order by id" 를 인덱스 범위 스캔으로 처리
+    // (행정구역코드 앞자리 LIKE는 코드 순서로 읽혀 정렬이 필요하므로, 시/도 코드 컬럼의 일치 조건으로 찾음)
+    @Index(name = "idx_business_entity_administrative_code_id", columnList = "administrative_code, id"),
+    @Index(name = "idx_business_entity_administrative_region_code_id", columnList = "administrative_region_code, id"),
+    @Index(name = "idx_business_entity_is_overseas_id", columnList = "is_overseas, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -22,7 +35,9 @@ import lombok.ToString;
 public class BusinessEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 전략은 Hibernate의 JDBC 배치 INSERT를 비활성화하므로 pooled 시퀀스를 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "business_entity_seq_generator")
+    @SequenceGenerator(name = "business_entity_seq_generator", sequenceName = "business_entity_seq", allocationSize = 100)
     private Long id;
 
     @Version
@@ -43,6 +58,29 @@ public class BusinessEntity {
     @Column(name = "administrative_code")
     private String administrativeCode; // 행정구역코드
 
+    @Column(name = "administrative_region_code", length = 2)
+    private String administrativeRegionCode; // 행정구역코드 앞 2자리 (시/도), 저장 시 행정구역코드에서 채움
+
     @Column(name = "is_overseas")
     private boolean isOverseas; // 해외사업자 여부
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt; // 삭제 시각 (원본에서 사라진 행의 soft-delete, null이면 유효)
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    /**
+     * 행정구역코드의 시/도 코드 (앞 2자리, 없으면 null)
+     */
+    public static String regionCodeOf(String administrativeCode) {
+        return administrativeCode != null && administrativeCode.length() >= 2 ? administrativeCode.substring(0, 2) : null;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void fillAdministrativeRegionCode() {
+        this.administrativeRegionCode = regionCodeOf(administrativeCode);
+    }
 }
\ No newline at end of file
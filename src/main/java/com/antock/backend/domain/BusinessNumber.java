@@ -0,0 +1,139 @@
+package com.antock.backend.domain;
+
+/**
+ * 사업자등록번호 (10자리, 검증번호 포함)
+ * 하이픈이 포함된 문자열을 한 번만 파싱하여 long으로 보관합니다.
+ */
+public final class BusinessNumber {
+
+    /**
+     * 파싱 실패 시 parseDigits가 반환하는 값
+     */
+    public static final long INVALID = -1L;
+
+    private static final int LENGTH = 10;
+    private static final long MAX_VALUE = 9_999_999_999L;
+    private static final int[] CHECK_WEIGHTS = {1, 3, 7, 1, 3, 7, 1, 3, 5};
+
+    private final long value;
+
+    private BusinessNumber(long value) {
+        this.value = value;
+    }
+
+    /**
+     * 사업자등록번호 문자열을 파싱하고 검증번호를 확인합니다.
+     *
+     * @param text 사업자등록번호 (예: "123-45-67890", "1234567890")
+     * @return 사업자등록번호
+     * @throws IllegalArgumentException 형식이 잘못되었거나 검증번호가 일치하지 않는 경우
+     */
+    public static BusinessNumber parse(String text) {
+        long digits = parseDigits(text);
+        if (digits == INVALID) {
+            throw new IllegalArgumentException("사업자등록번호 형식 오류: " + text);
+        }
+        if (!isChecksumValid(digits)) {
+            throw new IllegalArgumentException("사업자등록번호 검증번호 불일치: " + text);
+        }
+        return new BusinessNumber(digits);
+    }
+
+    /**
+     * 검증에 실패하면 예외 대신 null을 반환합니다.
+     */
+    public static BusinessNumber parseOrNull(String text) {
+        long digits = parseDigits(text);
+        return digits != INVALID && isChecksumValid(digits) ? new BusinessNumber(digits) : null;
+    }
+
+    public static BusinessNumber of(long value) {
+        if (value < 0 || value > MAX_VALUE || !isChecksumValid(value)) {
+            throw new IllegalArgumentException("유효하지 않은 사업자등록번호: " + value);
+        }
+        return new BusinessNumber(value);
+    }
+
+    /**
+     * 하이픈과 공백을 건너뛰고 숫자 10자리를 long으로 변환합니다. (검증번호는 확인하지 않음)
+     *
+     * @return 변환된 값, 숫자 이외의 문자가 있거나 10자리가 아니면 {@link #INVALID}
+     */
+    public static long parseDigits(CharSequence text) {
+        if (text == null) {
+            return INVALID;
+        }
+        long value = 0;
+        int digitCount = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitCount > LENGTH) {
+                    return INVALID;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c != '-' && c != ' ') {
+                return INVALID;
+            }
+        }
+        return digitCount == LENGTH ? value : INVALID;
+    }
+
+    /**
+     * 국세청 사업자등록번호 검증번호(10번째 자리) 규칙을 확인합니다.
+     * 앞 9자리에 가중치 1,3,7,1,3,7,1,3,5를 곱해 더하고, 9번째 자리 x 5의 십의 자리를 더한 뒤
+     * (10 - 합계 % 10) % 10 이 마지막 자리와 같아야 합니다.
+     */
+    public static boolean isChecksumValid(long digits) {
+        int checkDigit = (int) (digits % 10);
+        long rest = digits / 10;
+        int sum = 0;
+        for (int i = CHECK_WEIGHTS.length - 1; i >= 0; i--) {
+            int digit = (int) (rest % 10);
+            rest /= 10;
+            sum += digit * CHECK_WEIGHTS[i];
+            if (i == CHECK_WEIGHTS.length - 1) {
+                sum += (digit * 5) / 10;
+            }
+        }
+        return (10 - sum % 10) % 10 == checkDigit;
+    }
+
+    public long longValue() {
+        return value;
+    }
+
+    /**
+     * 하이픈 없는 10자리 문자열 (API 요청용)
+     */
+    public String digits() {
+        String raw = Long.toString(value);
+        if (raw.length() == LENGTH) {
+            return raw;
+        }
+        StringBuilder sb = new StringBuilder(LENGTH);
+        for (int i = raw.length(); i < LENGTH; i++) {
+            sb.append('0');
+        }
+        return sb.append(raw).toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof BusinessNumber other && value == other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * 000-00-00000 형식
+     */
+    @Override
+    public String toString() {
+        String digits = digits();
+        return digits.substring(0, 3) + "-" + digits.substring(3, 5) + "-" + digits.substring(5);
+    }
+}
@@ -0,0 +1,100 @@
+package com.antock.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 수집 실행의 커밋 진행 상황
+ * 청크가 커밋될 때마다 같은 트랜잭션 안에서 committedOffset이 갱신되므로,
+ * 실행이 중간에 실패해도 이 값까지의 행은 저장된 상태입니다.
+ * 원본 파일 해시가 기록된 실행은 끝나지 않은 채 재시작되면 같은 원본 파일로 이어서 진행할 수 있습니다.
+ */
+@Entity
+@Table(name = "ingestion_checkpoint")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class IngestionCheckpoint {
+
+    @Id
+    @Column(name = "source_key")
+    private String sourceKey; // 수집 단위 (예: domestic:서울특별시:강남구, overseas)
+
+    @Column(name = "total_rows", nullable = false)
+    private long totalRows; // 저장 대상 행 수
+
+    @Column(name = "committed_offset", nullable = false)
+    private long committedOffset; // 커밋이 끝난 행 수 (저장 대상 목록 기준)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "source_hash")
+    private String sourceHash; // 원본 파일의 SHA-256 (보관된 원본 파일 이름, 없으면 이어서 진행할 수 없음)
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    public static IngestionCheckpoint start(String sourceKey, long totalRows) {
+        return start(sourceKey, totalRows, null);
+    }
+
+    public static IngestionCheckpoint start(String sourceKey, long totalRows, String sourceHash) {
+        return IngestionCheckpoint.builder()
+            .sourceKey(sourceKey)
+            .totalRows(totalRows)
+            .committedOffset(0)
+            .status(Status.RUNNING)
+            .updatedAt(LocalDateTime.now())
+            .sourceHash(sourceHash)
+            .build();
+    }
+
+    /**
+     * 끝나지 않은(실행 중 재시작되었거나 실패한) 실행이고 원본 파일 해시가 있으면 이어서 진행할 수 있습니다.
+     */
+    public boolean isResumable() {
+        return status != Status.COMPLETED && sourceHash != null;
+    }
+
+    /**
+     * 커밋된 오프셋을 유지한 채 다시 실행 중으로 표시합니다.
+     */
+    public void resume(long totalRows) {
+        this.totalRows = totalRows;
+        this.status = Status.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void markCommitted(long offset) {
+        this.committedOffset = offset;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = Status.FAILED;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,59 @@
+package com.antock.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 끝나지 않은 수집 실행에서 외부 조회가 끝났지만 저장할 행이 없었던 키 (API 결과 없음, 필수 정보 누락)
+ * 저장된 행은 사업자 테이블로 확인하므로, 이어서 진행할 때 이 키와 저장된 키 모두 다시 조회하지 않습니다.
+ * 실행이 완료되면 해당 수집 단위의 키는 삭제됩니다.
+ */
+@Entity
+@Table(name = "ingestion_enriched_key", indexes = @Index(name = "idx_enriched_key_source", columnList = "source_key"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IngestionEnrichedKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "id")
+    private String id; // source_key + "|" + business_number
+
+    @Column(name = "source_key", nullable = false)
+    private String sourceKey;
+
+    @Column(name = "business_number", nullable = false)
+    private String businessNumber;
+
+    // 키는 실행 안에서 한 번만 기록되므로 저장 전 SELECT 없이 INSERT
+    @Transient
+    private boolean isNew = true;
+
+    public static IngestionEnrichedKey of(String sourceKey, String businessNumber) {
+        IngestionEnrichedKey key = new IngestionEnrichedKey();
+        key.id = sourceKey + "|" + businessNumber;
+        key.sourceKey = sourceKey;
+        key.businessNumber = businessNumber;
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,89 @@
+package com.antock.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 예약 갱신의 지역별 상태
+ * 마지막으로 끝까지 갱신한 시각(오래될수록 먼저 갱신)과 직전 실행의 행 수, 외부 조회 수를 기록합니다.
+ * 호출 한도 때문에 미룬 지역은 lastRefreshedAt이 그대로라서 다음 실행에서 가장 먼저 처리됩니다.
+ */
+@Entity
+@Table(name = "region_refresh_state")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class RegionRefreshState {
+
+    @Id
+    @Column(name = "region_key")
+    private String regionKey; // 정규화 지역 키 (예: 서울특별시:, 국외사업자:)
+
+    @Column(name = "last_refreshed_at")
+    private LocalDateTime lastRefreshedAt; // 마지막으로 끝까지 갱신한 시각 (없으면 한 번도 갱신하지 않음)
+
+    @Column(name = "last_attempted_at")
+    private LocalDateTime lastAttemptedAt;
+
+    @Column(name = "expected_rows", nullable = false)
+    private long expectedRows; // 직전 실행에서 파싱한 행 수
+
+    @Column(name = "expected_lookups", nullable = false)
+    private long expectedLookups; // 직전 실행에서 필요했던 외부 조회 수 (호출 한도 예측에 사용)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private Status status;
+
+    public enum Status {
+        REFRESHED, DEFERRED, FAILED
+    }
+
+    public static RegionRefreshState initial(String regionKey) {
+        return RegionRefreshState.builder()
+            .regionKey(regionKey)
+            .build();
+    }
+
+    public void refreshed(long rows, long lookups) {
+        refreshed();
+        this.expectedRows = rows;
+        this.expectedLookups = lookups;
+    }
+
+    /**
+     * 예상 행/조회 수는 그대로 두고 갱신 시각만 기록합니다 (이번 실행에서 수치를 측정하지 못한 경우).
+     */
+    public void refreshed() {
+        LocalDateTime now = LocalDateTime.now();
+        this.lastRefreshedAt = now;
+        this.lastAttemptedAt = now;
+        this.status = Status.REFRESHED;
+    }
+
+    /**
+     * 호출 한도 때문에 시작하지 못했거나 중간에 멈춘 경우 (lastRefreshedAt 유지)
+     */
+    public void deferred(long lookups) {
+        this.lastAttemptedAt = LocalDateTime.now();
+        this.expectedLookups = Math.max(expectedLookups, lookups);
+        this.status = Status.DEFERRED;
+    }
+
+    public void failed() {
+        this.lastAttemptedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+}
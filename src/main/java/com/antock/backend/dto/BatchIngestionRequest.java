@@ -0,0 +1,13 @@
+package com.antock.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchIngestionRequest {
+    private List<BusinessEntityRequest> regions; // 수집할 지역 목록 (비어 있으면 모든 국내 시/도 전체)
+}
@@ -0,0 +1,33 @@
+package com.antock.backend.dto;
+
+import com.antock.backend.domain.BusinessEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessEntityItem {
+    private Long id;
+    private String mailOrderSalesNumber;        // 통신판매번호
+    private String companyName;                 // 상호
+    private String businessNumber;              // 사업자등록번호
+    private String corporateRegistrationNumber; // 법인등록번호
+    private String administrativeCode;          // 행정구역코드
+    private boolean overseas;                   // 해외사업자 여부
+
+    public static BusinessEntityItem from(BusinessEntity entity) {
+        return BusinessEntityItem.builder()
+            .id(entity.getId())
+            .mailOrderSalesNumber(entity.getMailOrderSalesNumber())
+            .companyName(entity.getCompanyName())
+            .businessNumber(entity.getBusinessNumber())
+            .corporateRegistrationNumber(entity.getCorporateRegistrationNumber())
+            .administrativeCode(entity.getAdministrativeCode())
+            .overseas(entity.isOverseas())
+            .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.antock.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessEntityPageResponse {
+    private List<BusinessEntityItem> items;
+    private Long nextCursor; // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,66 @@
+package com.antock.backend.dto;
+
+import com.antock.backend.service.IngestionJob;
+import com.antock.backend.service.IngestionProgress;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionJobResponse {
+    private String jobId;
+    private String state;            // QUEUED, RUNNING, SUCCEEDED, FAILED
+    private String stage;            // 현재 단계 (DOWNLOADING, PARSING, ENRICHING, SAVING, FINISHED)
+    private int regionCount;         // 수집할 지역 수 (단건 작업은 1)
+    private int regionsCompleted;
+    private int regionsFailed;
+    private long rowsParsed;
+    private long lookupsCompleted;
+    private long lookupsFailed;
+    private long lookupsCached;      // 이미 저장되어 API 호출 없이 건너뛴 조회
+    private long lookupsDenied;      // 호출 한도를 다 써서 건너뛴 조회
+    private double lookupCacheHitRate;
+    private long rowsSaved;
+    private long rowsSkipped;
+    private long rowsFailed;
+    private Integer processedCount;  // 끝난 작업의 처리 건수 (실행 중이면 null)
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private double lookupsPerSecond;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public static IngestionJobResponse from(IngestionJob job) {
+        IngestionProgress progress = job.getProgress();
+        return IngestionJobResponse.builder()
+            .jobId(job.getId())
+            .state(job.getState().name())
+            .stage(progress.getStage().name())
+            .regionCount(job.getRegionCount())
+            .regionsCompleted(job.getRegionsCompleted())
+            .regionsFailed(job.getRegionsFailed())
+            .rowsParsed(progress.getRowsParsed())
+            .lookupsCompleted(progress.getLookupsCompleted())
+            .lookupsFailed(progress.getLookupsFailed())
+            .lookupsCached(progress.getLookupsCached())
+            .lookupsDenied(progress.getLookupsDenied())
+            .lookupCacheHitRate(progress.getLookupCacheHitRate())
+            .rowsSaved(progress.getRowsSaved())
+            .rowsSkipped(progress.getRowsSkipped())
+            .rowsFailed(progress.getRowsFailed())
+            .processedCount(job.getProcessedCount())
+            .elapsedMillis(progress.getElapsedMillis())
+            .rowsPerSecond(progress.getRowsPerSecond())
+            .lookupsPerSecond(progress.getLookupsPerSecond())
+            .error(job.getError())
+            .createdAt(job.getCreatedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.antock.backend.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,6 +27,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.notFound().build();
     }
 
+    // 잘못된 요청 파라미터 (조회 조건, 페이지 크기 등)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", "Invalid request");
+        errorResponse.put("error", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    // 비동기 실행 풀과 대기열이 가득 차 작업을 받을 수 없는 경우
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleTaskRejectedException(TaskRejectedException e) {
+        log.warn("비동기 작업 등록 거절: {}", e.getMessage());
+
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", "Too many running jobs, retry later");
+        errorResponse.put("error", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     public ResponseEntity<Map<String, String>> handleException(Exception e) {
         log.error("Unhandled exception occurred", e);
         
@@ -0,0 +1,48 @@
+package com.antock.backend.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * administrative_region_code 컬럼이 생기기 전에 저장된 행의 시/도 코드를 채웁니다.
+ * 행정구역코드 조회는 이 컬럼의 인덱스로 페이지를 찾으므로, 비어 있는 행은 조회 결과에서 빠집니다.
+ * 새로 저장되는 행은 저장 시점에 채워지므로 이미 채워진 뒤의 실행은 갱신하는 행이 없습니다.
+ */
+@Slf4j
+@Component
+public class AdministrativeRegionCodeBackfill {
+
+    private static final String BACKFILL_SQL = "UPDATE business_entity "
+        + "SET administrative_region_code = SUBSTRING(administrative_code, 1, 2) "
+        + "WHERE administrative_region_code IS NULL AND administrative_code IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AdministrativeRegionCodeBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 애플리케이션 시작 후 시/도 코드가 비어 있는 행을 한 번에 갱신합니다.
+     *
+     * @return 갱신한 행 수 (실패하면 0)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        long startTime = System.currentTimeMillis();
+        try {
+            int updated = jdbcTemplate.update(BACKFILL_SQL);
+            if (updated > 0) {
+                log.info("시/도 코드 채우기 완료. 행 수: {}, 소요 시간: {}ms",
+                    updated, System.currentTimeMillis() - startTime);
+            }
+            return updated;
+        } catch (Exception e) {
+            log.error("시/도 코드 채우기 실패. 비어 있는 행은 행정구역코드 조회에서 빠집니다: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * business_entity 벌크 쓰기용 네이티브 SQL을 데이터베이스별로 생성합니다.
+ * 사업자등록번호 또는 통신판매번호가 이미 존재하는 행은 INSERT하지 않습니다.
+ */
+enum BulkSqlDialect {
+
+    H2 {
+        @Override
+        String insertIgnoreSql(int rows) {
+            return "MERGE INTO business_entity t USING (" + valuesClause(rows) + ") AS s(" + SOURCE_COLUMNS + ") "
+                + "ON " + DUPLICATE_CONDITION + " "
+                + "WHEN NOT MATCHED THEN INSERT (" + TARGET_COLUMNS + ") "
+                + "VALUES (NEXT VALUE FOR business_entity_seq, 0, " + SOURCE_VALUES + ", " + REGION_CODE_VALUE + ")";
+        }
+
+        @Override
+        String sequenceValuesSql() {
+            return "SELECT NEXT VALUE FOR business_entity_seq FROM SYSTEM_RANGE(1, ?)";
+        }
+    },
+
+    POSTGRESQL {
+        @Override
+        String insertIgnoreSql(int rows) {
+            return "INSERT INTO business_entity (" + TARGET_COLUMNS + ") "
+                + "SELECT nextval('business_entity_seq'), 0, " + SOURCE_VALUES + ", " + REGION_CODE_VALUE + " "
+                + "FROM (" + valuesClause(rows) + ") AS s(" + SOURCE_COLUMNS + ") "
+                + "WHERE NOT EXISTS (SELECT 1 FROM business_entity t WHERE " + DUPLICATE_CONDITION + ") "
+                + "ON CONFLICT DO NOTHING";
+        }
+
+        @Override
+        String sequenceValuesSql() {
+            return "SELECT nextval('business_entity_seq') FROM generate_series(1, ?)";
+        }
+    },
+
+    /**
+     * 단일 구문 INSERT-IGNORE와 시퀀스 일괄 조회를 지원하지 않는 데이터베이스
+     * JPA 저장소는 INSERT-IGNORE를 행 단위로 처리하고, JDBC 저장소는 시작 시점에 거부합니다.
+     */
+    GENERIC {
+        @Override
+        String insertIgnoreSql(int rows) {
+            throw new UnsupportedOperationException("지원되지 않는 데이터베이스의 벌크 INSERT");
+        }
+
+        @Override
+        boolean supportsInsertIgnore() {
+            return false;
+        }
+
+        @Override
+        String sequenceValuesSql() {
+            throw new UnsupportedOperationException("지원되지 않는 데이터베이스의 시퀀스 일괄 조회");
+        }
+    };
+
+    /**
+     * 한 구문에 담을 최대 행 수 (행당 파라미터 6개)
+     */
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    /**
+     * business_entity_seq의 증가 단위 (BusinessEntity의 allocationSize와 같아야 함)
+     * 시퀀스 값 v 하나로 (v - 100, v] 구간의 ID를 사용합니다.
+     */
+    static final int ID_ALLOCATION_SIZE = 100;
+
+    private static final String SOURCE_COLUMNS = "mail_order_sales_number, company_name, business_number, "
+        + "corporate_registration_number, administrative_code, is_overseas";
+
+    private static final String SOURCE_VALUES = "s.mail_order_sales_number, s.company_name, s.business_number, "
+        + "s.corporate_registration_number, s.administrative_code, s.is_overseas";
+
+    // 시/도 코드는 행정구역코드 앞 2자리 (BusinessEntity.regionCodeOf와 같은 값)
+    private static final String REGION_CODE_VALUE = "SUBSTRING(s.administrative_code, 1, 2)";
+
+    private static final String TARGET_COLUMNS = "id, version, " + SOURCE_COLUMNS + ", administrative_region_code";
+
+    private static final String DUPLICATE_CONDITION =
+        "(t.business_number = s.business_number OR t.mail_order_sales_number = s.mail_order_sales_number)";
+
+    // 파라미터만으로 이루어진 VALUES 행은 타입 추론이 안 되므로 명시적으로 CAST
+    private static final String VALUES_ROW = "(CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), "
+        + "CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), CAST(? AS BOOLEAN))";
+
+    private static final String INSERT_ROW = "(?, 0, ?, ?, ?, ?, ?, ?, ?)";
+
+    abstract String insertIgnoreSql(int rows);
+
+    /**
+     * 시퀀스 값 n개를 한 번에 조회하는 구문 (파라미터: n)
+     */
+    abstract String sequenceValuesSql();
+
+    boolean supportsInsertIgnore() {
+        return true;
+    }
+
+    static BulkSqlDialect fromProductName(String databaseProductName) {
+        if (databaseProductName == null) {
+            return GENERIC;
+        }
+        String name = databaseProductName.toLowerCase();
+        if (name.contains("h2")) {
+            return H2;
+        }
+        if (name.contains("postgres")) {
+            return POSTGRESQL;
+        }
+        return GENERIC;
+    }
+
+    /**
+     * VALUES 행 순서대로 엔티티 필드를 바인딩합니다.
+     */
+    static void bindRows(PreparedStatement ps, List<BusinessEntity> rows) throws SQLException {
+        int index = 1;
+        for (BusinessEntity entity : rows) {
+            ps.setString(index++, entity.getMailOrderSalesNumber());
+            ps.setString(index++, entity.getCompanyName());
+            setNullableString(ps, index++, entity.getBusinessNumber());
+            setNullableString(ps, index++, entity.getCorporateRegistrationNumber());
+            setNullableString(ps, index++, entity.getAdministrativeCode());
+            ps.setBoolean(index++, entity.isOverseas());
+        }
+    }
+
+    /**
+     * 중복 검사 없이 ID를 지정해 여러 행을 저장하는 다중 행 INSERT 구문
+     */
+    static String insertSql(int rows) {
+        StringBuilder sb = new StringBuilder("INSERT INTO business_entity (" + TARGET_COLUMNS + ") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(INSERT_ROW);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * insertSql의 VALUES 행 순서대로 ID와 엔티티 필드를 바인딩합니다.
+     */
+    static void bindInsertRows(PreparedStatement ps, List<BusinessEntity> rows, long[] ids, int idOffset)
+            throws SQLException {
+        int index = 1;
+        for (int i = 0; i < rows.size(); i++) {
+            BusinessEntity entity = rows.get(i);
+            ps.setLong(index++, ids[idOffset + i]);
+            ps.setString(index++, entity.getMailOrderSalesNumber());
+            ps.setString(index++, entity.getCompanyName());
+            setNullableString(ps, index++, entity.getBusinessNumber());
+            setNullableString(ps, index++, entity.getCorporateRegistrationNumber());
+            setNullableString(ps, index++, entity.getAdministrativeCode());
+            ps.setBoolean(index++, entity.isOverseas());
+            setNullableString(ps, index++, BusinessEntity.regionCodeOf(entity.getAdministrativeCode()));
+        }
+    }
+
+    static void setNullableString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    private static String valuesClause(int rows) {
+        StringBuilder sb = new StringBuilder("VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(VALUES_ROW);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.antock.backend.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 벌크 쓰기 결과 (저장된 건수와 이미 존재하여 건너뛴 건수)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BulkWriteResult {
+    private final int inserted;
+    private final int skipped;
+
+    public static BulkWriteResult empty() {
+        return new BulkWriteResult(0, 0);
+    }
+
+    public BulkWriteResult plus(BulkWriteResult other) {
+        return new BulkWriteResult(inserted + other.inserted, skipped + other.skipped);
+    }
+
+    public int getRequested() {
+        return inserted + skipped;
+    }
+}
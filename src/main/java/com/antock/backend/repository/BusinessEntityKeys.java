@@ -0,0 +1,12 @@
+package com.antock.backend.repository;
+
+/**
+ * 키 컬럼만 읽는 프로젝션
+ */
+public interface BusinessEntityKeys {
+    Long getId();
+
+    String getBusinessNumber();
+
+    String getMailOrderSalesNumber();
+}
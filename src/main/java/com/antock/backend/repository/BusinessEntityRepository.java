@@ -1,9 +1,13 @@
 package com.antock.backend.repository;
 
 import com.antock.backend.domain.BusinessEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +20,18 @@ public interface BusinessEntityRepository extends JpaRepository<BusinessEntity,
     List<BusinessEntity> findByMailOrderSalesNumberIn(List<String> mailOrderSalesNumbers);
 
     Optional<BusinessEntity> findByBusinessNumber(String businessNumber);
+
+    Optional<BusinessEntity> findFirstByMailOrderSalesNumber(String mailOrderSalesNumber);
+
+    @Query("select b.businessNumber from BusinessEntity b where b.businessNumber in :businessNumbers")
+    List<String> findExistingBusinessNumbers(@Param("businessNumbers") Collection<String> businessNumbers);
+
+    @Query("select distinct b.mailOrderSalesNumber from BusinessEntity b "
+        + "where b.mailOrderSalesNumber in :mailOrderSalesNumbers")
+    List<String> findExistingMailOrderSalesNumbers(
+        @Param("mailOrderSalesNumbers") Collection<String> mailOrderSalesNumbers);
+
+    @Query("select b.id as id, b.businessNumber as businessNumber, b.mailOrderSalesNumber as mailOrderSalesNumber "
+        + "from BusinessEntity b where b.id > :lastId order by b.id")
+    List<BusinessEntityKeys> findKeysAfter(@Param("lastId") long lastId, Pageable pageable);
 }
\ No newline at end of file
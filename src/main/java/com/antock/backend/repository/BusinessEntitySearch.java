@@ -0,0 +1,52 @@
+package com.antock.backend.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사업자 목록 조회 조건 (null인 조건은 적용하지 않음)
+ */
+@Getter
+@Builder
+@ToString
+public class BusinessEntitySearch {
+    private final String administrativeCodePrefix; // 행정구역코드 앞자리 2~10자리 (예: 11 = 서울특별시)
+    private final Boolean overseas;                // 국외사업자 여부
+    private final String businessNumber;           // 사업자등록번호 (일치)
+    private final boolean includeDeleted;          // soft-delete된 행 포함 여부 (기본값: 제외)
+
+    /**
+     * 조회 전에 조건 형식을 확인합니다.
+     * 행정구역코드는 숫자 10자리이므로 LIKE 와일드카드가 섞이지 않도록 숫자만 허용합니다.
+     * 앞자리 조건은 시/도 코드(2자리) 인덱스로 찾으므로 2자리 이상이어야 합니다.
+     *
+     * @throws IllegalArgumentException 조건 형식이 올바르지 않은 경우
+     */
+    public void validate() {
+        if (administrativeCodePrefix != null && !administrativeCodePrefix.matches("\\d{2,10}")) {
+            throw new IllegalArgumentException("administrativeCode는 숫자 2~10자리여야 합니다: " + administrativeCodePrefix);
+        }
+    }
+
+    /**
+     * 행정구역코드 조건이 10자리 전체 코드인지 여부 (administrative_code 일치 조건으로 조회)
+     */
+    public boolean isExactAdministrativeCode() {
+        return administrativeCodePrefix != null && administrativeCodePrefix.length() == 10;
+    }
+
+    /**
+     * 행정구역코드 앞자리 조건의 시/도 코드 (조건이 없으면 null)
+     */
+    public String getAdministrativeRegionCode() {
+        return administrativeCodePrefix != null ? administrativeCodePrefix.substring(0, 2) : null;
+    }
+
+    /**
+     * 시/도 코드 일치 외에 LIKE로 더 걸러야 하는지 여부 (3~9자리 앞자리 조건)
+     */
+    public boolean needsAdministrativeCodePrefixFilter() {
+        return administrativeCodePrefix != null && administrativeCodePrefix.length() > 2 && !isExactAdministrativeCode();
+    }
+}
@@ -1,8 +1,11 @@
 package com.antock.backend.repository;
 
 import com.antock.backend.domain.BusinessEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BusinessEntityStorage {
     
@@ -13,8 +16,68 @@ public interface BusinessEntityStorage {
     List<BusinessEntity> findByMailOrderSalesNumberIn(List<String> mailOrderSalesNumbers);
 
     Optional<BusinessEntity> findByBusinessNumber(String businessNumber);
+
+    Optional<BusinessEntity> findByMailOrderSalesNumber(String mailOrderSalesNumber);
+
+    /**
+     * 주어진 사업자등록번호 중 이미 저장된 번호를 한 번에 조회합니다.
+     *
+     * @param businessNumbers 조회할 사업자등록번호 목록
+     * @return 이미 존재하는 사업자등록번호 집합
+     */
+    Set<String> findExistingBusinessNumbers(Collection<String> businessNumbers);
+
+    /**
+     * 주어진 통신판매번호 중 이미 저장된 번호를 한 번에 조회합니다.
+     *
+     * @param mailOrderSalesNumbers 조회할 통신판매번호 목록
+     * @return 이미 존재하는 통신판매번호 집합
+     */
+    Set<String> findExistingMailOrderSalesNumbers(Collection<String> mailOrderSalesNumbers);
+
+    /**
+     * id 기준 keyset 페이지를 조회합니다. afterId보다 큰 id를 오름차순으로 최대 limit건 반환합니다.
+     * OFFSET을 사용하지 않으므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     *
+     * @param search 조회 조건
+     * @param afterId 이전 페이지의 마지막 id (첫 페이지는 0)
+     * @param limit 최대 건수
+     * @return id 오름차순 엔티티 목록
+     */
+    List<BusinessEntity> findPage(BusinessEntitySearch search, long afterId, int limit);
+
+    /**
+     * 조건에 맞는 엔티티를 id 오름차순으로 한 건씩 전달합니다.
+     * 결과를 목록으로 모으지 않고 forward-only 커서로 fetchSize건씩 가져오므로 건수와 관계없이 메모리 사용량이 일정합니다.
+     * 커서는 이 메서드의 읽기 전용 트랜잭션 안에서만 열려 있으며, action은 전달받은 엔티티를 보관하지 않아야 합니다.
+     *
+     * @param search 조회 조건
+     * @param fetchSize 한 번에 가져올 행 수 (JDBC fetch size)
+     * @param action 엔티티마다 호출할 함수
+     * @return 전달한 건수
+     */
+    long scan(BusinessEntitySearch search, int fetchSize, Consumer<BusinessEntity> action);
     
     BusinessEntity save(BusinessEntity entity);
     
     List<BusinessEntity> saveAll(List<BusinessEntity> entities);
+
+    /**
+     * 대량 적재용 저장. saveAll과 달리 저장된 엔티티를 영속성 컨텍스트에 남기지 않으므로
+     * 건수가 많아도 메모리 사용량이 배치 크기 수준으로 유지됩니다.
+     * 호출한 트랜잭션의 영속성 컨텍스트는 비워지므로, 앞서 조회한 엔티티는 준영속 상태가 됩니다.
+     *
+     * @param entities 저장할 엔티티 목록
+     * @return 저장된 건수
+     */
+    int bulkSaveAll(List<BusinessEntity> entities);
+
+    /**
+     * 사업자등록번호 또는 통신판매번호가 이미 존재하는 행은 건너뛰고 나머지를 저장합니다.
+     * 배치를 조회 없이 단일 구문(H2: MERGE INTO, PostgreSQL: INSERT ... ON CONFLICT)으로 기록합니다.
+     *
+     * @param entities 저장할 엔티티 목록
+     * @return 저장된 건수와 건너뛴 건수
+     */
+    BulkWriteResult insertIgnoreAll(List<BusinessEntity> entities);
 }
\ No newline at end of file
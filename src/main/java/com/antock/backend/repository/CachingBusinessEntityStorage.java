@@ -0,0 +1,213 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.domain.BusinessNumber;
+import com.antock.backend.util.LongLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사업자등록번호, 통신판매번호 단건 조회에 read-through LRU 캐시를 두는 저장소 데코레이터
+ * 저장 메소드는 대상 저장소에 위임한 뒤 저장한 엔티티의 두 키를 캐시에서 제거하고,
+ * 트랜잭션 안에서 호출되었다면 트랜잭션이 끝난 뒤 한 번 더 제거하여 커밋 전에 다시 읽힌 이전 값이 남지 않도록 합니다.
+ * 사업자등록번호는 행의 자연 키이므로 저장 후 변경되지 않는다고 가정합니다.
+ * 통신판매번호는 문자열의 64비트 해시를 키로 쓰고, 캐시된 엔티티의 통신판매번호가 요청과 다르면 캐시를 쓰지 않습니다.
+ */
+public class CachingBusinessEntityStorage implements BusinessEntityStorage {
+
+    private final BusinessEntityStorage delegate;
+    private final LongLruCache<BusinessEntity> cache;
+    private final LongLruCache<BusinessEntity> mailOrderCache;
+
+    public CachingBusinessEntityStorage(BusinessEntityStorage delegate, MeterRegistry meterRegistry, int maxSize) {
+        this.delegate = delegate;
+        this.cache = new LongLruCache<>(maxSize);
+        this.mailOrderCache = new LongLruCache<>(maxSize);
+        registerMetrics(meterRegistry, cache, "business_number", "사업자등록번호");
+        registerMetrics(meterRegistry, mailOrderCache, "mail_order_sales_number", "통신판매번호");
+    }
+
+    @Override
+    public boolean existsByBusinessNumber(String businessNumber) {
+        return delegate.existsByBusinessNumber(businessNumber);
+    }
+
+    @Override
+    public boolean existsByMailOrderSalesNumber(String mailOrderSalesNumber) {
+        return delegate.existsByMailOrderSalesNumber(mailOrderSalesNumber);
+    }
+
+    @Override
+    public List<BusinessEntity> findByMailOrderSalesNumberIn(List<String> mailOrderSalesNumbers) {
+        return delegate.findByMailOrderSalesNumberIn(mailOrderSalesNumbers);
+    }
+
+    @Override
+    public Optional<BusinessEntity> findByBusinessNumber(String businessNumber) {
+        long key = cacheKey(businessNumber);
+        if (key == BusinessNumber.INVALID) {
+            return delegate.findByBusinessNumber(businessNumber);
+        }
+        return Optional.ofNullable(cache.get(key, k -> delegate.findByBusinessNumber(businessNumber).orElse(null)));
+    }
+
+    @Override
+    public Optional<BusinessEntity> findByMailOrderSalesNumber(String mailOrderSalesNumber) {
+        if (mailOrderSalesNumber == null) {
+            return delegate.findByMailOrderSalesNumber(null);
+        }
+        BusinessEntity entity = mailOrderCache.get(mailOrderCacheKey(mailOrderSalesNumber),
+            k -> delegate.findByMailOrderSalesNumber(mailOrderSalesNumber).orElse(null));
+        if (entity != null && !mailOrderSalesNumber.equals(entity.getMailOrderSalesNumber())) {
+            // 해시가 같은 다른 통신판매번호의 항목 - 캐시를 거치지 않고 조회
+            return delegate.findByMailOrderSalesNumber(mailOrderSalesNumber);
+        }
+        return Optional.ofNullable(entity);
+    }
+
+    @Override
+    public Set<String> findExistingBusinessNumbers(Collection<String> businessNumbers) {
+        return delegate.findExistingBusinessNumbers(businessNumbers);
+    }
+
+    @Override
+    public Set<String> findExistingMailOrderSalesNumbers(Collection<String> mailOrderSalesNumbers) {
+        return delegate.findExistingMailOrderSalesNumbers(mailOrderSalesNumbers);
+    }
+
+    @Override
+    public List<BusinessEntity> findPage(BusinessEntitySearch search, long afterId, int limit) {
+        return delegate.findPage(search, afterId, limit);
+    }
+
+    @Override
+    public long scan(BusinessEntitySearch search, int fetchSize, Consumer<BusinessEntity> action) {
+        return delegate.scan(search, fetchSize, action);
+    }
+
+    @Override
+    public BusinessEntity save(BusinessEntity entity) {
+        return invalidating(List.of(entity), () -> delegate.save(entity));
+    }
+
+    @Override
+    public List<BusinessEntity> saveAll(List<BusinessEntity> entities) {
+        return invalidating(entities, () -> delegate.saveAll(entities));
+    }
+
+    @Override
+    public int bulkSaveAll(List<BusinessEntity> entities) {
+        return invalidating(entities, () -> delegate.bulkSaveAll(entities));
+    }
+
+    @Override
+    public BulkWriteResult insertIgnoreAll(List<BusinessEntity> entities) {
+        return invalidating(entities, () -> delegate.insertIgnoreAll(entities));
+    }
+
+    public LongLruCache<BusinessEntity> getCache() {
+        return cache;
+    }
+
+    public LongLruCache<BusinessEntity> getMailOrderCache() {
+        return mailOrderCache;
+    }
+
+    private <T> T invalidating(List<BusinessEntity> entities, Supplier<T> write) {
+        long[] keys = new long[entities.size()];
+        long[] mailOrderKeys = new long[entities.size()];
+        int count = 0;
+        int mailOrderCount = 0;
+        for (BusinessEntity entity : entities) {
+            long key = cacheKey(entity.getBusinessNumber());
+            if (key != BusinessNumber.INVALID) {
+                keys[count++] = key;
+            }
+            if (entity.getMailOrderSalesNumber() != null) {
+                mailOrderKeys[mailOrderCount++] = mailOrderCacheKey(entity.getMailOrderSalesNumber());
+            }
+        }
+        if (count == 0 && mailOrderCount == 0) {
+            return write.get();
+        }
+
+        int keyCount = count;
+        int mailOrderKeyCount = mailOrderCount;
+        try {
+            return write.get();
+        } finally {
+            invalidateAll(keys, keyCount, mailOrderKeys, mailOrderKeyCount);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        invalidateAll(keys, keyCount, mailOrderKeys, mailOrderKeyCount);
+                    }
+                });
+            }
+        }
+    }
+
+    private void invalidateAll(long[] keys, int count, long[] mailOrderKeys, int mailOrderCount) {
+        for (int i = 0; i < count; i++) {
+            cache.invalidate(keys[i]);
+        }
+        for (int i = 0; i < mailOrderCount; i++) {
+            mailOrderCache.invalidate(mailOrderKeys[i]);
+        }
+    }
+
+    /**
+     * 하이픈 없는 10자리 사업자등록번호만 캐시합니다.
+     * 다른 표기("123-45-67890" 등)는 DB에서 다른 값이므로 같은 키로 묶지 않고 캐시를 거치지 않습니다.
+     */
+    private static long cacheKey(String businessNumber) {
+        if (businessNumber == null || businessNumber.length() != 10) {
+            return BusinessNumber.INVALID;
+        }
+        return BusinessNumber.parseDigits(businessNumber);
+    }
+
+    /**
+     * 통신판매번호 문자열의 64비트 FNV-1a 해시 (세그먼트와 슬롯 분산은 캐시가 다시 섞음)
+     */
+    private static long mailOrderCacheKey(String mailOrderSalesNumber) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < mailOrderSalesNumber.length(); i++) {
+            hash ^= mailOrderSalesNumber.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static void registerMetrics(MeterRegistry registry, LongLruCache<BusinessEntity> cache,
+            String cacheName, String keyName) {
+        FunctionCounter.builder("storage.cache.gets", cache, LongLruCache::hitCount)
+            .description(keyName + " 단건 조회 캐시 적중 수")
+            .tag("cache", cacheName)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("storage.cache.gets", cache, LongLruCache::missCount)
+            .description(keyName + " 단건 조회 캐시 미적중 수")
+            .tag("cache", cacheName)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("storage.cache.evictions", cache, LongLruCache::evictionCount)
+            .description("크기 제한으로 제거된 항목 수")
+            .tag("cache", cacheName)
+            .register(registry);
+        Gauge.builder("storage.cache.size", cache, LongLruCache::size)
+            .description("캐시된 항목 수")
+            .tag("cache", cacheName)
+            .register(registry);
+    }
+}
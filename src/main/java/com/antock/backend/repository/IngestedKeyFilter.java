@@ -0,0 +1,125 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 저장된 사업자등록번호/통신판매번호의 블룸 필터
+ * 시작 시 business_entity에서 적재되고, 저장소의 저장 메소드가 성공할 때마다 갱신됩니다.
+ * 필터가 "없음"이라고 답한 키는 DB 존재 조회를 생략할 수 있습니다.
+ * 적재가 끝나기 전에는 모든 키를 "있을 수 있음"으로 답합니다.
+ */
+@Slf4j
+@Component
+public class IngestedKeyFilter {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final BusinessEntityRepository repository;
+    private final BloomFilter businessNumbers;
+    private final BloomFilter mailOrderSalesNumbers;
+    private volatile boolean ready;
+
+    public IngestedKeyFilter(
+            BusinessEntityRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${ingestion.bloom-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${ingestion.bloom-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.repository = repository;
+        this.businessNumbers = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        this.mailOrderSalesNumbers = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        registerMetrics(meterRegistry, "business_number", businessNumbers);
+        registerMetrics(meterRegistry, "mail_order_sales_number", mailOrderSalesNumbers);
+    }
+
+    /**
+     * 애플리케이션 시작 후 저장된 키를 id 순서로 페이지 단위로 읽어 필터를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startTime = System.currentTimeMillis();
+        long lastId = 0;
+        long loaded = 0;
+        try {
+            List<BusinessEntityKeys> page;
+            do {
+                page = repository.findKeysAfter(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (BusinessEntityKeys keys : page) {
+                    put(keys.getBusinessNumber(), keys.getMailOrderSalesNumber());
+                    lastId = keys.getId();
+                }
+                loaded += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+
+            ready = true;
+            log.info("키 블룸 필터 적재 완료. 행 수: {}, 소요 시간: {}ms, 필터 크기: {} bits",
+                loaded, System.currentTimeMillis() - startTime, businessNumbers.bitSize());
+        } catch (Exception e) {
+            log.error("키 블룸 필터 적재 실패. DB 존재 조회로 대체합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean mightContainBusinessNumber(String businessNumber) {
+        return !ready || businessNumbers.mightContain(businessNumber);
+    }
+
+    public boolean mightContainMailOrderSalesNumber(String mailOrderSalesNumber) {
+        return !ready || mailOrderSalesNumbers.mightContain(mailOrderSalesNumber);
+    }
+
+    /**
+     * 저장에 성공한 엔티티의 키를 기록합니다.
+     * 롤백된 저장이 기록되어도 오탐이 하나 늘어날 뿐 정확성에는 영향이 없습니다.
+     */
+    public void record(BusinessEntity entity) {
+        if (entity != null) {
+            put(entity.getBusinessNumber(), entity.getMailOrderSalesNumber());
+        }
+    }
+
+    public void recordAll(Collection<BusinessEntity> entities) {
+        for (BusinessEntity entity : entities) {
+            record(entity);
+        }
+    }
+
+    private void put(String businessNumber, String mailOrderSalesNumber) {
+        if (businessNumber != null) {
+            businessNumbers.put(businessNumber);
+        }
+        if (mailOrderSalesNumber != null) {
+            mailOrderSalesNumbers.put(mailOrderSalesNumber);
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry, String key, BloomFilter filter) {
+        Gauge.builder("ingestion.bloom_filter.size", filter, BloomFilter::bitSize)
+            .description("블룸 필터 비트 수")
+            .baseUnit("bits")
+            .tag("key", key)
+            .register(registry);
+        Gauge.builder("ingestion.bloom_filter.insertions", filter, BloomFilter::insertions)
+            .description("블룸 필터에 기록된 키 수")
+            .tag("key", key)
+            .register(registry);
+        Gauge.builder("ingestion.bloom_filter.false_positive_probability", filter,
+                BloomFilter::expectedFalsePositiveProbability)
+            .description("현재 채워진 비트 비율 기준 오탐률 추정치")
+            .tag("key", key)
+            .register(registry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.IngestionEnrichedKey;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IngestionEnrichedKeyRepository extends JpaRepository<IngestionEnrichedKey, String> {
+
+    @Query("select k.businessNumber from IngestionEnrichedKey k where k.sourceKey = :sourceKey")
+    List<String> findBusinessNumbersBySourceKey(@Param("sourceKey") String sourceKey);
+
+    @Modifying
+    @Query("delete from IngestionEnrichedKey k where k.sourceKey = :sourceKey")
+    int deleteBySourceKey(@Param("sourceKey") String sourceKey);
+}
@@ -0,0 +1,436 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JdbcTemplate 기반 저장소 구현체
+ * 엔티티 상태 추적 없이 다중 행 INSERT를 JDBC 배치로 묶어 대량 저장에 사용합니다.
+ * ID는 Hibernate와 같은 pooled 방식으로 business_entity_seq에서 블록 단위로 할당하므로 JPA 구현체와 함께 사용해도 충돌하지 않습니다.
+ * (storage.type=jdbc 로 선택, 시퀀스 일괄 조회와 INSERT-IGNORE 구문을 지원하는 H2/PostgreSQL에서만 사용 가능)
+ */
+@Repository
+public class JdbcBusinessEntityStorage implements BusinessEntityStorage {
+
+    // 다중 행 INSERT 한 구문의 행 수 (행당 파라미터 8개)
+    private static final int ROWS_PER_INSERT = 100;
+
+    // 같은 다중 행 INSERT 구문을 한 번에 실행할 JDBC 배치 크기
+    private static final int INSERTS_PER_BATCH = 10;
+
+    private static final String SELECT_ENTITY = "SELECT id, version, mail_order_sales_number, company_name, "
+        + "business_number, corporate_registration_number, administrative_code, administrative_region_code, "
+        + "is_overseas, deleted_at FROM business_entity";
+
+    private static final String UPDATE_ENTITY = "UPDATE business_entity SET version = version + 1, "
+        + "mail_order_sales_number = ?, company_name = ?, business_number = ?, corporate_registration_number = ?, "
+        + "administrative_code = ?, administrative_region_code = ?, is_overseas = ?, deleted_at = ? "
+        + "WHERE id = ? AND version = ?";
+
+    private static final RowMapper<BusinessEntity> ROW_MAPPER = (rs, rowNum) -> BusinessEntity.builder()
+        .id(rs.getLong("id"))
+        .version(rs.getLong("version"))
+        .mailOrderSalesNumber(rs.getString("mail_order_sales_number"))
+        .companyName(rs.getString("company_name"))
+        .businessNumber(rs.getString("business_number"))
+        .corporateRegistrationNumber(rs.getString("corporate_registration_number"))
+        .administrativeCode(rs.getString("administrative_code"))
+        .administrativeRegionCode(rs.getString("administrative_region_code"))
+        .isOverseas(rs.getBoolean("is_overseas"))
+        .deletedAt(toLocalDateTime(rs.getTimestamp("deleted_at")))
+        .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IngestedKeyFilter ingestedKeyFilter;
+
+    private volatile BulkSqlDialect dialect;
+
+    public JdbcBusinessEntityStorage(JdbcTemplate jdbcTemplate, IngestedKeyFilter ingestedKeyFilter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ingestedKeyFilter = ingestedKeyFilter;
+    }
+
+    /**
+     * 연결된 데이터베이스에서 이 구현체를 사용할 수 있는지 확인합니다.
+     * 시퀀스 블록 할당과 INSERT-IGNORE를 네이티브 구문으로만 처리하므로, 지원하지 않는 데이터베이스면
+     * 수집 도중이 아니라 시작 시점에 실패하도록 StorageConfig에서 호출합니다.
+     *
+     * @throws IllegalStateException 지원하지 않는 데이터베이스인 경우
+     */
+    public void requireSupportedDatabase() {
+        if (dialect() == BulkSqlDialect.GENERIC) {
+            String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            throw new IllegalStateException("storage.type=jdbc는 H2, PostgreSQL에서만 사용할 수 있습니다: " + productName);
+        }
+    }
+
+    @Override
+    public boolean existsByBusinessNumber(String businessNumber) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM business_entity WHERE business_number = ?", Long.class, businessNumber);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public boolean existsByMailOrderSalesNumber(String mailOrderSalesNumber) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM business_entity WHERE mail_order_sales_number = ?", Long.class, mailOrderSalesNumber);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<BusinessEntity> findByMailOrderSalesNumberIn(List<String> mailOrderSalesNumbers) {
+        List<BusinessEntity> entities = new ArrayList<>();
+        for (List<String> chunk : StorageSupport.chunk(mailOrderSalesNumbers)) {
+            entities.addAll(jdbcTemplate.query(
+                SELECT_ENTITY + " WHERE mail_order_sales_number IN (" + placeholders(chunk.size()) + ")",
+                ROW_MAPPER, chunk.toArray()));
+        }
+        return entities;
+    }
+
+    @Override
+    public Optional<BusinessEntity> findByBusinessNumber(String businessNumber) {
+        List<BusinessEntity> entities = jdbcTemplate.query(
+            SELECT_ENTITY + " WHERE business_number = ?", ROW_MAPPER, businessNumber);
+        return entities.stream().findFirst();
+    }
+
+    @Override
+    public Optional<BusinessEntity> findByMailOrderSalesNumber(String mailOrderSalesNumber) {
+        List<BusinessEntity> entities = jdbcTemplate.query(
+            SELECT_ENTITY + " WHERE mail_order_sales_number = ?", ROW_MAPPER, mailOrderSalesNumber);
+        return entities.stream().findFirst();
+    }
+
+    @Override
+    public Set<String> findExistingBusinessNumbers(Collection<String> businessNumbers) {
+        List<String> candidates = businessNumbers.stream()
+            .filter(number -> number != null && ingestedKeyFilter.mightContainBusinessNumber(number))
+            .collect(Collectors.toList());
+        return findExistingKeys("business_number", candidates);
+    }
+
+    @Override
+    public Set<String> findExistingMailOrderSalesNumbers(Collection<String> mailOrderSalesNumbers) {
+        List<String> candidates = mailOrderSalesNumbers.stream()
+            .filter(number -> number != null && ingestedKeyFilter.mightContainMailOrderSalesNumber(number))
+            .collect(Collectors.toList());
+        return findExistingKeys("mail_order_sales_number", candidates);
+    }
+
+    @Override
+    public List<BusinessEntity> findPage(BusinessEntitySearch search, long afterId, int limit) {
+        List<Object> parameters = new ArrayList<>();
+        String sql = selectMatching(search, afterId, parameters) + " FETCH FIRST ? ROWS ONLY";
+        parameters.add(limit);
+        return jdbcTemplate.query(sql, ROW_MAPPER, parameters.toArray());
+    }
+
+    // PostgreSQL은 자동 커밋이 꺼져 있어야 fetch size 단위 커서로 읽음
+    @Override
+    @Transactional(readOnly = true)
+    public long scan(BusinessEntitySearch search, int fetchSize, Consumer<BusinessEntity> action) {
+        List<Object> parameters = new ArrayList<>();
+        String sql = selectMatching(search, 0L, parameters);
+        AtomicLong count = new AtomicLong();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                ps.setObject(i + 1, parameters.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(ROW_MAPPER.mapRow(rs, (int) count.getAndIncrement())));
+        return count.get();
+    }
+
+    private static String selectMatching(BusinessEntitySearch search, long afterId, List<Object> parameters) {
+        StringBuilder sql = new StringBuilder(SELECT_ENTITY).append(" WHERE id > ?");
+        parameters.add(afterId);
+        // 행정구역코드는 (조건 컬럼, id) 인덱스의 일치 조건으로만 찾아 id 순서 그대로 읽음 (깊은 페이지도 정렬 없음)
+        if (search.isExactAdministrativeCode()) {
+            sql.append(" AND administrative_code = ?");
+            parameters.add(search.getAdministrativeCodePrefix());
+        } else if (search.getAdministrativeCodePrefix() != null) {
+            sql.append(" AND administrative_region_code = ?");
+            parameters.add(search.getAdministrativeRegionCode());
+            if (search.needsAdministrativeCodePrefixFilter()) {
+                sql.append(" AND administrative_code LIKE ?");
+                parameters.add(search.getAdministrativeCodePrefix() + "%");
+            }
+        }
+        if (search.getOverseas() != null) {
+            sql.append(" AND is_overseas = ?");
+            parameters.add(search.getOverseas());
+        }
+        if (search.getBusinessNumber() != null) {
+            sql.append(" AND business_number = ?");
+            parameters.add(search.getBusinessNumber());
+        }
+        if (!search.isIncludeDeleted()) {
+            sql.append(" AND deleted_at IS NULL");
+        }
+        return sql.append(" ORDER BY id").toString();
+    }
+
+    @Override
+    @Transactional
+    public BusinessEntity save(BusinessEntity entity) {
+        BusinessEntity saved = entity.getId() == null
+            ? insertAll(List.of(entity)).get(0)
+            : updateAll(List.of(entity)).get(0);
+        ingestedKeyFilter.record(saved);
+        return saved;
+    }
+
+    /**
+     * ID가 없는 엔티티는 다중 행 INSERT로, ID가 있는 엔티티는 버전 조건 UPDATE 배치로 저장합니다.
+     * 엔티티는 불변이므로 ID와 버전이 채워진 새 인스턴스를 입력 순서대로 반환합니다.
+     */
+    @Override
+    @Transactional
+    public List<BusinessEntity> saveAll(List<BusinessEntity> entities) {
+        List<BusinessEntity> newEntities = new ArrayList<>();
+        List<BusinessEntity> existingEntities = new ArrayList<>();
+        for (BusinessEntity entity : entities) {
+            (entity.getId() == null ? newEntities : existingEntities).add(entity);
+        }
+
+        List<BusinessEntity> inserted = insertAll(newEntities);
+        List<BusinessEntity> updated = updateAll(existingEntities);
+
+        List<BusinessEntity> saved = new ArrayList<>(entities.size());
+        int insertedIndex = 0;
+        int updatedIndex = 0;
+        for (BusinessEntity entity : entities) {
+            saved.add(entity.getId() == null ? inserted.get(insertedIndex++) : updated.get(updatedIndex++));
+        }
+        ingestedKeyFilter.recordAll(saved);
+        return saved;
+    }
+
+    /**
+     * 영속성 컨텍스트가 없으므로 saveAll과 같은 방식으로 저장하되 결과 엔티티를 만들지 않습니다.
+     */
+    @Override
+    @Transactional
+    public int bulkSaveAll(List<BusinessEntity> entities) {
+        List<BusinessEntity> newEntities = new ArrayList<>();
+        List<BusinessEntity> existingEntities = new ArrayList<>();
+        for (BusinessEntity entity : entities) {
+            (entity.getId() == null ? newEntities : existingEntities).add(entity);
+        }
+        insertAll(newEntities);
+        updateAll(existingEntities);
+        ingestedKeyFilter.recordAll(entities);
+        return entities.size();
+    }
+
+    @Override
+    @Transactional
+    public BulkWriteResult insertIgnoreAll(List<BusinessEntity> entities) {
+        List<BusinessEntity> unique = new ArrayList<>(entities.size());
+        int duplicatesInBatch = StorageSupport.removeDuplicatesInBatch(entities, unique);
+        if (unique.isEmpty()) {
+            return new BulkWriteResult(0, duplicatesInBatch);
+        }
+
+        // 지원하지 않는 데이터베이스는 시작 시점에 거부됨 (requireSupportedDatabase)
+        BulkSqlDialect sqlDialect = dialect();
+        int inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            int count = 0;
+            for (int from = 0; from < unique.size(); from += BulkSqlDialect.MAX_ROWS_PER_STATEMENT) {
+                List<BusinessEntity> rows = unique.subList(
+                    from, Math.min(from + BulkSqlDialect.MAX_ROWS_PER_STATEMENT, unique.size()));
+                try (PreparedStatement ps = connection.prepareStatement(sqlDialect.insertIgnoreSql(rows.size()))) {
+                    BulkSqlDialect.bindRows(ps, rows);
+                    count += ps.executeUpdate();
+                }
+            }
+            return count;
+        });
+
+        ingestedKeyFilter.recordAll(unique);
+        return new BulkWriteResult(inserted, entities.size() - inserted);
+    }
+
+    /**
+     * ROWS_PER_INSERT 행짜리 INSERT 구문을 하나의 PreparedStatement로 준비해 JDBC 배치로 실행하고,
+     * 남은 행은 한 구문으로 저장합니다.
+     */
+    private List<BusinessEntity> insertAll(List<BusinessEntity> entities) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long[] ids = allocateIds(entities.size());
+        int fullRows = entities.size() - entities.size() % ROWS_PER_INSERT;
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (fullRows > 0) {
+                try (PreparedStatement ps = connection.prepareStatement(BulkSqlDialect.insertSql(ROWS_PER_INSERT))) {
+                    int batched = 0;
+                    for (int from = 0; from < fullRows; from += ROWS_PER_INSERT) {
+                        BulkSqlDialect.bindInsertRows(ps, entities.subList(from, from + ROWS_PER_INSERT), ids, from);
+                        ps.addBatch();
+                        if (++batched % INSERTS_PER_BATCH == 0) {
+                            ps.executeBatch();
+                        }
+                    }
+                    if (batched % INSERTS_PER_BATCH != 0) {
+                        ps.executeBatch();
+                    }
+                }
+            }
+            if (fullRows < entities.size()) {
+                List<BusinessEntity> rest = entities.subList(fullRows, entities.size());
+                try (PreparedStatement ps = connection.prepareStatement(BulkSqlDialect.insertSql(rest.size()))) {
+                    BulkSqlDialect.bindInsertRows(ps, rest, ids, fullRows);
+                    ps.executeUpdate();
+                }
+            }
+            return null;
+        });
+
+        List<BusinessEntity> saved = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            saved.add(copyOf(entities.get(i), ids[i], 0L));
+        }
+        return saved;
+    }
+
+    /**
+     * 버전이 일치하는 행만 갱신합니다. 한 건이라도 갱신되지 않으면 트랜잭션 전체가 롤백됩니다.
+     */
+    private List<BusinessEntity> updateAll(List<BusinessEntity> entities) {
+        if (entities.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_ENTITY, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BusinessEntity entity = entities.get(i);
+                ps.setString(1, entity.getMailOrderSalesNumber());
+                ps.setString(2, entity.getCompanyName());
+                BulkSqlDialect.setNullableString(ps, 3, entity.getBusinessNumber());
+                BulkSqlDialect.setNullableString(ps, 4, entity.getCorporateRegistrationNumber());
+                BulkSqlDialect.setNullableString(ps, 5, entity.getAdministrativeCode());
+                BulkSqlDialect.setNullableString(ps, 6, BusinessEntity.regionCodeOf(entity.getAdministrativeCode()));
+                ps.setBoolean(7, entity.isOverseas());
+                if (entity.getDeletedAt() != null) {
+                    ps.setTimestamp(8, Timestamp.valueOf(entity.getDeletedAt()));
+                } else {
+                    ps.setNull(8, Types.TIMESTAMP);
+                }
+                ps.setLong(9, entity.getId());
+                ps.setObject(10, entity.getVersion());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entities.size();
+            }
+        });
+
+        List<BusinessEntity> saved = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            BusinessEntity entity = entities.get(i);
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 성공으로 간주
+            if (counts[i] == 0) {
+                throw new OptimisticLockingFailureException(
+                    "다른 트랜잭션이 먼저 수정했거나 삭제된 엔티티입니다. id=" + entity.getId()
+                        + ", version=" + entity.getVersion());
+            }
+            saved.add(copyOf(entity, entity.getId(), entity.getVersion() + 1));
+        }
+        return saved;
+    }
+
+    /**
+     * 시퀀스 값 하나당 (v - ID_ALLOCATION_SIZE, v] 구간을 ID로 사용합니다.
+     * Hibernate pooled 옵티마이저와 같은 규칙이므로 JPA가 받은 블록과 겹치지 않습니다.
+     */
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            int blocks = (count - filled + BulkSqlDialect.ID_ALLOCATION_SIZE - 1) / BulkSqlDialect.ID_ALLOCATION_SIZE;
+            List<Long> values = jdbcTemplate.queryForList(dialect().sequenceValuesSql(), Long.class, blocks);
+            for (long hi : values) {
+                // 시퀀스 시작값(1)은 블록 하한을 1로 잘라 음수 ID를 만들지 않음
+                for (long id = Math.max(1, hi - BulkSqlDialect.ID_ALLOCATION_SIZE + 1); id <= hi && filled < count; id++) {
+                    ids[filled++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Set<String> findExistingKeys(String column, List<String> candidates) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : StorageSupport.chunk(candidates)) {
+            existing.addAll(jdbcTemplate.queryForList(
+                "SELECT " + column + " FROM business_entity WHERE " + column + " IN (" + placeholders(chunk.size()) + ")",
+                String.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    private BulkSqlDialect dialect() {
+        BulkSqlDialect current = dialect;
+        if (current == null) {
+            current = jdbcTemplate.execute((ConnectionCallback<BulkSqlDialect>) connection ->
+                BulkSqlDialect.fromProductName(connection.getMetaData().getDatabaseProductName()));
+            dialect = current;
+        }
+        return current;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static BusinessEntity copyOf(BusinessEntity entity, long id, long version) {
+        return BusinessEntity.builder()
+            .id(id)
+            .version(version)
+            .mailOrderSalesNumber(entity.getMailOrderSalesNumber())
+            .companyName(entity.getCompanyName())
+            .businessNumber(entity.getBusinessNumber())
+            .corporateRegistrationNumber(entity.getCorporateRegistrationNumber())
+            .administrativeCode(entity.getAdministrativeCode())
+            .administrativeRegionCode(BusinessEntity.regionCodeOf(entity.getAdministrativeCode()))
+            .isOverseas(entity.isOverseas())
+            .deletedAt(entity.getDeletedAt())
+            .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
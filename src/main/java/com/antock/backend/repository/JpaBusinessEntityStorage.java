@@ -1,46 +1,276 @@
 package com.antock.backend.repository;
 
 import com.antock.backend.domain.BusinessEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 public class JpaBusinessEntityStorage implements BusinessEntityStorage {
-    
+
     private final BusinessEntityRepository repository;
-    
-    public JpaBusinessEntityStorage(BusinessEntityRepository repository) {
+    private final IngestedKeyFilter ingestedKeyFilter;
+    // bulkSaveAll에서 flush/clear 하는 간격 (JDBC 배치 크기와 같게 유지)
+    private final int bulkFlushSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile BulkSqlDialect dialect;
+
+    public JpaBusinessEntityStorage(
+            BusinessEntityRepository repository,
+            IngestedKeyFilter ingestedKeyFilter,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int bulkFlushSize) {
         this.repository = repository;
+        this.ingestedKeyFilter = ingestedKeyFilter;
+        this.bulkFlushSize = bulkFlushSize;
     }
-    
+
     @Override
     public boolean existsByBusinessNumber(String businessNumber) {
         return repository.existsByBusinessNumber(businessNumber);
     }
-    
+
     @Override
     public boolean existsByMailOrderSalesNumber(String mailOrderSalesNumber) {
         return repository.existsByMailOrderSalesNumber(mailOrderSalesNumber);
     }
-    
+
     @Override
     public List<BusinessEntity> findByMailOrderSalesNumberIn(List<String> mailOrderSalesNumbers) {
         return repository.findByMailOrderSalesNumberIn(mailOrderSalesNumbers);
     }
-    
+
     @Override
     public Optional<BusinessEntity> findByBusinessNumber(String businessNumber) {
         return repository.findByBusinessNumber(businessNumber);
     }
-    
+
+    @Override
+    public Optional<BusinessEntity> findByMailOrderSalesNumber(String mailOrderSalesNumber) {
+        return repository.findFirstByMailOrderSalesNumber(mailOrderSalesNumber);
+    }
+
+    @Override
+    public Set<String> findExistingBusinessNumbers(Collection<String> businessNumbers) {
+        Set<String> existing = new HashSet<>();
+        // 블룸 필터가 "없음"이라고 답한 키는 DB 조회에서 제외
+        List<String> candidates = businessNumbers.stream()
+            .filter(number -> number != null && ingestedKeyFilter.mightContainBusinessNumber(number))
+            .collect(Collectors.toList());
+        for (List<String> chunk : StorageSupport.chunk(candidates)) {
+            existing.addAll(repository.findExistingBusinessNumbers(chunk));
+        }
+        return existing;
+    }
+
+    @Override
+    public Set<String> findExistingMailOrderSalesNumbers(Collection<String> mailOrderSalesNumbers) {
+        Set<String> existing = new HashSet<>();
+        List<String> candidates = mailOrderSalesNumbers.stream()
+            .filter(number -> number != null && ingestedKeyFilter.mightContainMailOrderSalesNumber(number))
+            .collect(Collectors.toList());
+        for (List<String> chunk : StorageSupport.chunk(candidates)) {
+            existing.addAll(repository.findExistingMailOrderSalesNumbers(chunk));
+        }
+        return existing;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BusinessEntity> findPage(BusinessEntitySearch search, long afterId, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        String jpql = selectMatching(search, afterId, parameters);
+
+        TypedQuery<BusinessEntity> query = entityManager.createQuery(jpql, BusinessEntity.class)
+            .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long scan(BusinessEntitySearch search, int fetchSize, Consumer<BusinessEntity> action) {
+        Map<String, Object> parameters = new HashMap<>();
+        String jpql = selectMatching(search, 0L, parameters);
+
+        Session session = entityManager.unwrap(Session.class);
+        Query<BusinessEntity> query = session.createQuery(jpql, BusinessEntity.class)
+            .setFetchSize(fetchSize)
+            .setReadOnly(true);
+        parameters.forEach(query::setParameter);
+
+        long count = 0;
+        try (ScrollableResults<BusinessEntity> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                BusinessEntity entity = results.get();
+                action.accept(entity);
+                // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 전달 후 바로 분리
+                session.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String selectMatching(BusinessEntitySearch search, long afterId, Map<String, Object> parameters) {
+        StringBuilder jpql = new StringBuilder("select b from BusinessEntity b where b.id > :afterId");
+        parameters.put("afterId", afterId);
+        // 행정구역코드는 (조건 컬럼, id) 인덱스의 일치 조건으로만 찾아 id 순서 그대로 읽음 (깊은 페이지도 정렬 없음)
+        if (search.isExactAdministrativeCode()) {
+            jpql.append(" and b.administrativeCode = :administrativeCode");
+            parameters.put("administrativeCode", search.getAdministrativeCodePrefix());
+        } else if (search.getAdministrativeCodePrefix() != null) {
+            jpql.append(" and b.administrativeRegionCode = :administrativeRegionCode");
+            parameters.put("administrativeRegionCode", search.getAdministrativeRegionCode());
+            if (search.needsAdministrativeCodePrefixFilter()) {
+                jpql.append(" and b.administrativeCode like :administrativeCodePrefix");
+                parameters.put("administrativeCodePrefix", search.getAdministrativeCodePrefix() + "%");
+            }
+        }
+        if (search.getOverseas() != null) {
+            jpql.append(" and b.isOverseas = :overseas");
+            parameters.put("overseas", search.getOverseas());
+        }
+        if (search.getBusinessNumber() != null) {
+            jpql.append(" and b.businessNumber = :businessNumber");
+            parameters.put("businessNumber", search.getBusinessNumber());
+        }
+        if (!search.isIncludeDeleted()) {
+            jpql.append(" and b.deletedAt is null");
+        }
+        return jpql.append(" order by b.id").toString();
+    }
+
     @Override
     public BusinessEntity save(BusinessEntity entity) {
-        return repository.save(entity);
+        BusinessEntity saved = repository.save(entity);
+        ingestedKeyFilter.record(saved);
+        return saved;
     }
-    
+
     @Override
     public List<BusinessEntity> saveAll(List<BusinessEntity> entities) {
-        return repository.saveAll(entities);
+        List<BusinessEntity> saved = repository.saveAll(entities);
+        ingestedKeyFilter.recordAll(saved);
+        return saved;
+    }
+
+    /**
+     * flushSize 건마다 flush 후 clear 하여 1차 캐시에 남는 엔티티를 배치 하나 분량으로 제한합니다.
+     * flush는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 실행됩니다.
+     * 새 행은 복사본을 persist하므로, 트랜잭션이 롤백되어도 전달받은 엔티티에 ID/버전이 남지 않아
+     * 같은 엔티티로 다시 호출하면(청크 실패 후 행 단위 재시도 등) 다시 INSERT됩니다.
+     */
+    @Override
+    @Transactional
+    public int bulkSaveAll(List<BusinessEntity> entities) {
+        // 호출 전에 쌓인 변경이 clear로 유실되지 않도록 먼저 반영
+        entityManager.flush();
+        int pending = 0;
+        for (BusinessEntity entity : entities) {
+            if (entity.getId() == null) {
+                entityManager.persist(newCopyOf(entity));
+            } else {
+                entityManager.merge(entity);
+            }
+            if (++pending == bulkFlushSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ingestedKeyFilter.recordAll(entities);
+        return entities.size();
+    }
+
+    @Override
+    @Transactional
+    public BulkWriteResult insertIgnoreAll(List<BusinessEntity> entities) {
+        List<BusinessEntity> unique = new ArrayList<>(entities.size());
+        int duplicatesInBatch = StorageSupport.removeDuplicatesInBatch(entities, unique);
+        if (unique.isEmpty()) {
+            return new BulkWriteResult(0, duplicatesInBatch);
+        }
+
+        // 네이티브 구문이 영속성 컨텍스트의 미반영 INSERT를 볼 수 있도록 먼저 flush
+        entityManager.flush();
+        Session session = entityManager.unwrap(Session.class);
+        int inserted = session.doReturningWork(connection -> {
+            if (dialect == null) {
+                dialect = BulkSqlDialect.fromProductName(connection.getMetaData().getDatabaseProductName());
+            }
+            if (!dialect.supportsInsertIgnore()) {
+                return -1;
+            }
+
+            int count = 0;
+            for (int from = 0; from < unique.size(); from += BulkSqlDialect.MAX_ROWS_PER_STATEMENT) {
+                List<BusinessEntity> rows = unique.subList(
+                    from, Math.min(from + BulkSqlDialect.MAX_ROWS_PER_STATEMENT, unique.size()));
+                try (PreparedStatement ps = connection.prepareStatement(dialect.insertIgnoreSql(rows.size()))) {
+                    BulkSqlDialect.bindRows(ps, rows);
+                    count += ps.executeUpdate();
+                }
+            }
+            return count;
+        });
+
+        if (inserted < 0) {
+            inserted = insertIgnoreRowByRow(unique);
+        }
+        // 저장되었거나 이미 존재하던 키 모두 DB에 있으므로 전부 기록
+        ingestedKeyFilter.recordAll(unique);
+        return new BulkWriteResult(inserted, entities.size() - inserted);
+    }
+
+    /**
+     * 단일 구문 INSERT-IGNORE를 지원하지 않는 데이터베이스용 행 단위 처리
+     */
+    private int insertIgnoreRowByRow(List<BusinessEntity> entities) {
+        int inserted = 0;
+        for (BusinessEntity entity : entities) {
+            boolean exists = (entity.getBusinessNumber() != null
+                    && repository.existsByBusinessNumber(entity.getBusinessNumber()))
+                || repository.existsByMailOrderSalesNumber(entity.getMailOrderSalesNumber());
+            if (!exists) {
+                entityManager.persist(newCopyOf(entity));
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    private static BusinessEntity newCopyOf(BusinessEntity entity) {
+        return BusinessEntity.builder()
+            .mailOrderSalesNumber(entity.getMailOrderSalesNumber())
+            .companyName(entity.getCompanyName())
+            .businessNumber(entity.getBusinessNumber())
+            .corporateRegistrationNumber(entity.getCorporateRegistrationNumber())
+            .administrativeCode(entity.getAdministrativeCode())
+            .isOverseas(entity.isOverseas())
+            .deletedAt(entity.getDeletedAt())
+            .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,9 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.RegionRefreshState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RegionRefreshStateRepository extends JpaRepository<RegionRefreshState, String> {
+}
@@ -0,0 +1,59 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * BusinessEntityStorage 구현체들이 공유하는 배치 처리 도우미
+ */
+final class StorageSupport {
+
+    // IN 절 하나에 담을 최대 키 수
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private StorageSupport() {
+    }
+
+    /**
+     * 같은 배치 안에서 키가 겹치는 행은 첫 번째만 남깁니다.
+     *
+     * @return 제거된 행 수
+     */
+    static int removeDuplicatesInBatch(List<BusinessEntity> entities, List<BusinessEntity> unique) {
+        Set<String> businessNumbers = new HashSet<>();
+        Set<String> mailOrderSalesNumbers = new HashSet<>();
+        for (BusinessEntity entity : entities) {
+            String businessNumber = entity.getBusinessNumber();
+            boolean duplicate = (businessNumber != null && businessNumbers.contains(businessNumber))
+                || mailOrderSalesNumbers.contains(entity.getMailOrderSalesNumber());
+            if (duplicate) {
+                continue;
+            }
+            if (businessNumber != null) {
+                businessNumbers.add(businessNumber);
+            }
+            mailOrderSalesNumbers.add(entity.getMailOrderSalesNumber());
+            unique.add(entity);
+        }
+        return entities.size() - unique.size();
+    }
+
+    /**
+     * 중복 없는 키를 IN 절 크기 단위로 나눕니다.
+     */
+    static List<List<String>> chunk(Collection<String> keys) {
+        List<String> distinct = keys.stream()
+            .distinct()
+            .collect(Collectors.toList());
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,20 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.ExportFormat;
+import com.antock.backend.repository.BusinessEntitySearch;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BusinessEntityExportService {
+    /**
+     * 조건에 맞는 사업자 정보를 id 순서로 출력 스트림에 씁니다.
+     * 행을 DB 커서에서 읽는 즉시 쓰므로 건수와 관계없이 메모리 사용량이 일정합니다.
+     * 출력 스트림은 flush만 하고 닫지 않습니다.
+     *
+     * @param search 조회 조건
+     * @param format 출력 형식
+     * @param out 출력 스트림
+     * @return 출력한 건수
+     */
+    long export(BusinessEntitySearch search, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,121 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.dto.BusinessEntityItem;
+import com.antock.backend.dto.ExportFormat;
+import com.antock.backend.repository.BusinessEntitySearch;
+import com.antock.backend.repository.BusinessEntityStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class BusinessEntityExportServiceImpl implements BusinessEntityExportService {
+
+    static final String CSV_HEADER = "id,mail_order_sales_number,company_name,business_number,"
+        + "corporate_registration_number,administrative_code,is_overseas";
+
+    private final BusinessEntityStorage businessEntityStorage;
+    private final ObjectWriter itemWriter;
+    private final int fetchSize;
+
+    public BusinessEntityExportServiceImpl(
+            BusinessEntityStorage businessEntityStorage,
+            ObjectMapper objectMapper,
+            @Value("${export.fetch-size:1000}") int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("export.fetch-size는 0보다 커야 합니다: " + fetchSize);
+        }
+        this.businessEntityStorage = businessEntityStorage;
+        this.itemWriter = objectMapper.writerFor(BusinessEntityItem.class);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long export(BusinessEntitySearch search, ExportFormat format, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count;
+        try {
+            count = businessEntityStorage.scan(search, fetchSize, entity -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, entity);
+                    } else {
+                        writer.write(itemWriter.writeValueAsString(BusinessEntityItem.from(entity)));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 (커서를 닫도록 예외로 스캔 중단)
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("사업자 정보 내보내기 완료 - 형식: {}, 조건: {}, {}건, {}ms",
+            format, search, count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, BusinessEntity entity) throws IOException {
+        writer.write(String.valueOf(entity.getId()));
+        writer.write(',');
+        writeCsvField(writer, entity.getMailOrderSalesNumber());
+        writer.write(',');
+        writeCsvField(writer, entity.getCompanyName());
+        writer.write(',');
+        writeCsvField(writer, entity.getBusinessNumber());
+        writer.write(',');
+        writeCsvField(writer, entity.getCorporateRegistrationNumber());
+        writer.write(',');
+        writeCsvField(writer, entity.getAdministrativeCode());
+        writer.write(',');
+        writer.write(entity.isOverseas() ? "true" : "false");
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180: 쉼표, 큰따옴표, 줄바꿈이 있는 값만 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씁니다.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,35 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.BusinessEntityItem;
+import com.antock.backend.dto.BusinessEntityPageResponse;
+import com.antock.backend.repository.BusinessEntitySearch;
+import java.util.Optional;
+
+public interface BusinessEntityQueryService {
+    /**
+     * 조건에 맞는 사업자 목록을 id 오름차순 keyset 페이지로 조회합니다.
+     *
+     * @param search 조회 조건
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (null이면 기본값)
+     * @return 사업자 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 조건이나 페이지 크기가 올바르지 않은 경우
+     */
+    BusinessEntityPageResponse findBusinessEntities(BusinessEntitySearch search, Long cursor, Integer size);
+
+    /**
+     * 사업자등록번호로 사업자 한 건을 조회합니다. (저장소의 단건 조회 캐시 사용)
+     *
+     * @param businessNumber 하이픈 없는 사업자등록번호
+     * @return 사업자 정보, 없으면 empty
+     */
+    Optional<BusinessEntityItem> findByBusinessNumber(String businessNumber);
+
+    /**
+     * 통신판매번호로 사업자 한 건을 조회합니다. (저장소의 단건 조회 캐시 사용)
+     *
+     * @param mailOrderSalesNumber 통신판매번호
+     * @return 사업자 정보, 없으면 empty
+     */
+    Optional<BusinessEntityItem> findByMailOrderSalesNumber(String mailOrderSalesNumber);
+}
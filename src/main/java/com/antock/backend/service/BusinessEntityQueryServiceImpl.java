@@ -0,0 +1,69 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.domain.BusinessNumber;
+import com.antock.backend.dto.BusinessEntityItem;
+import com.antock.backend.dto.BusinessEntityPageResponse;
+import com.antock.backend.repository.BusinessEntitySearch;
+import com.antock.backend.repository.BusinessEntityStorage;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BusinessEntityQueryServiceImpl implements BusinessEntityQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final BusinessEntityStorage businessEntityStorage;
+
+    @Override
+    public BusinessEntityPageResponse findBusinessEntities(BusinessEntitySearch search, Long cursor, Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + pageSize);
+        }
+        if (cursor != null && cursor < 0) {
+            throw new IllegalArgumentException("cursor는 0 이상이어야 합니다: " + cursor);
+        }
+        search.validate();
+
+        // 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        List<BusinessEntity> entities = businessEntityStorage.findPage(
+            search, cursor != null ? cursor : 0L, pageSize + 1);
+        boolean hasNext = entities.size() > pageSize;
+        List<BusinessEntity> page = hasNext ? entities.subList(0, pageSize) : entities;
+
+        return BusinessEntityPageResponse.builder()
+            .items(page.stream().map(BusinessEntityItem::from).collect(Collectors.toList()))
+            .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    @Override
+    public Optional<BusinessEntityItem> findByBusinessNumber(String businessNumber) {
+        // 국내 행은 하이픈 없는 10자리로 저장되므로 같은 표기로 조회 (캐시 키도 이 표기)
+        BusinessNumber number = BusinessNumber.parseOrNull(businessNumber);
+        Optional<BusinessEntity> found = businessEntityStorage.findByBusinessNumber(
+            number != null ? number.digits() : businessNumber);
+        if (found.isEmpty() && number != null) {
+            // 정규화 전에 원본 표기(000-00-00000)로 저장된 국내 행
+            found = businessEntityStorage.findByBusinessNumber(number.toString());
+        }
+        return found
+            .filter(entity -> !entity.isDeleted())
+            .map(BusinessEntityItem::from);
+    }
+
+    @Override
+    public Optional<BusinessEntityItem> findByMailOrderSalesNumber(String mailOrderSalesNumber) {
+        return businessEntityStorage.findByMailOrderSalesNumber(mailOrderSalesNumber)
+            .filter(entity -> !entity.isDeleted())
+            .map(BusinessEntityItem::from);
+    }
+}
@@ -11,13 +11,24 @@ public interface BusinessEntityService {
      * @return 처리된 법인 수
      */
     int processBusinessEntities(String city, String district);
+
+    /**
+     * 단계별 진행 상황을 기록하면서 처리합니다.
+     *
+     * @param city 시/도
+     * @param district 구/군
+     * @param progress 단계와 건수를 기록할 진행 상황
+     * @return 처리된 법인 수
+     */
+    int processBusinessEntities(String city, String district, IngestionProgress progress);
     
     /**
      * 비동기로 CSV 파일을 처리합니다. (멀티쓰레드 활용)
      * 
      * @param city 시/도
      * @param district 구/군
+     * @param progress 단계와 건수를 기록할 진행 상황
      * @return 처리된 법인 수를 포함한 CompletableFuture
      */
-    CompletableFuture<Integer> processBusinessEntitiesAsync(String city, String district);
+    CompletableFuture<Integer> processBusinessEntitiesAsync(String city, String district, IngestionProgress progress);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.antock.backend.service;
+
+import com.antock.backend.repository.BulkWriteResult;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 청크 단위 커밋 결과
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ChunkCommitResult {
+    // 커밋된 청크에서 저장/건너뜀 건수
+    private final BulkWriteResult written;
+    // 행 단위 재시도에서도 실패한 행 (통신판매번호 -> 실패 이유)
+    private final Map<String, String> failedRows;
+    // 커밋이 끝난 행 수 (입력 목록 기준)
+    private final long committedOffset;
+    // 청크 전체가 실패하여 남은 행을 처리하지 않고 중단했는지 여부
+    private final boolean aborted;
+}
@@ -18,8 +18,41 @@ public interface DomesticBusinessEntityService extends BusinessEntityService {
      * 
      * @param city 시/도
      * @param district 구/군
+     * @param progress 단계와 건수를 기록할 진행 상황
      * @return 처리된 엔티티 수를 포함하는 CompletableFuture
      */
     @Override
-    CompletableFuture<Integer> processBusinessEntitiesAsync(String city, String district);
+    CompletableFuture<Integer> processBusinessEntitiesAsync(String city, String district, IngestionProgress progress);
+
+    /**
+     * 보강 전 단계(CSV 다운로드, 법인 필터링, 사업자등록번호 검증)만 수행합니다. 외부 조회 API는 호출하지 않습니다.
+     * 일괄 수집에서 다음 지역의 준비를 현재 지역의 보강과 겹쳐 실행할 때 사용합니다.
+     *
+     * @param city 시/도
+     * @param district 구/군
+     * @param progress 단계를 기록할 진행 상황 (파싱 건수는 enrichAndSave에서 기록)
+     * @return 준비된 지역 (다운로드 실패나 대상 없음이면 보강 대상 수가 0)
+     */
+    PreparedRegion prepareRegion(String city, String district, IngestionProgress progress);
+
+    /**
+     * 준비된 지역의 대상을 외부 API로 보강하고 청크 단위로 저장합니다.
+     * 같은 지역의 수집이 이미 진행 중이면 새로 보강하지 않고 그 실행의 결과를 반환합니다.
+     *
+     * @param region prepareRegion이 반환한 지역
+     * @param progress 단계와 건수를 기록할 진행 상황
+     * @return 저장된 국내 사업자 수
+     */
+    int enrichAndSave(PreparedRegion region, IngestionProgress progress);
+
+    /**
+     * 다운로드와 검증까지 끝나 보강을 기다리는 지역
+     */
+    interface PreparedRegion {
+        String city();
+
+        String district();
+
+        int targetCount();
+    }
 }
\ No newline at end of file
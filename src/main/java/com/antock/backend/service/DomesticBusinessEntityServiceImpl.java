@@ -2,23 +2,25 @@ package com.antock.backend.service;
 
 import com.antock.backend.client.FtcCsvClient;
 import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.domain.BusinessNumber;
+import com.antock.backend.domain.IngestionCheckpoint;
 import com.antock.backend.dto.BusinessEntityDto;
-import com.antock.backend.repository.BusinessEntityRepository;
+import com.antock.backend.repository.BulkWriteResult;
+import com.antock.backend.repository.BusinessEntityStorage;
+import com.antock.backend.util.LongHashSet;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -30,6 +32,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -38,167 +42,198 @@ import java.util.stream.Collectors;
 // Update the class declaration to implement DomesticBusinessEntityService
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntityService {
-    private final BusinessEntityRepository businessEntityRepository;
+    private final BusinessEntityStorage businessEntityStorage;
     private final FtcCsvClient ftcCsvClient;
+    private final IngestionChunkCommitter chunkCommitter;
+    private final WriteBehindBufferFactory writeBehindBufferFactory;
+    private final Executor lookupExecutor;
+    private final LookupQuota lookupQuota;
+    private final IngestionSourceStore sourceStore;
+    private final InFlightRegionRuns inFlightRuns = new InFlightRegionRuns();
 
-    private RestTemplate restTemplate = new RestTemplate();
+    // 모든 조회가 RestTemplateConfig의 공용 인스턴스(연결 설정)를 사용
+    private final RestTemplate restTemplate;
 
-    public void setRestTemplate(RestTemplate restTemplate) {
+    public DomesticBusinessEntityServiceImpl(
+            BusinessEntityStorage businessEntityStorage,
+            FtcCsvClient ftcCsvClient,
+            IngestionChunkCommitter chunkCommitter,
+            WriteBehindBufferFactory writeBehindBufferFactory,
+            @Qualifier("lookupExecutor") Executor lookupExecutor,
+            LookupQuota lookupQuota,
+            IngestionSourceStore sourceStore,
+            RestTemplate restTemplate) {
+        this.businessEntityStorage = businessEntityStorage;
+        this.ftcCsvClient = ftcCsvClient;
+        this.chunkCommitter = chunkCommitter;
+        this.writeBehindBufferFactory = writeBehindBufferFactory;
+        this.lookupExecutor = lookupExecutor;
+        this.lookupQuota = lookupQuota;
+        this.sourceStore = sourceStore;
         this.restTemplate = restTemplate;
     }
     
+    /**
+     * 다운로드와 API 호출 동안에는 트랜잭션을 열지 않고, 저장 단계에서만 청크 단위로 커밋합니다.
+     */
     @Override
-    @Transactional
     public int processBusinessEntities(String city, String district) {
+        return processBusinessEntities(city, district, new IngestionProgress());
+    }
 
-        try {
-            // 1. CSV 파일 다운로드
+    /**
+     * 같은 지역의 수집이 이미 진행 중이면 새로 시작하지 않고 그 결과를 공유합니다.
+     */
+    @Override
+    public int processBusinessEntities(String city, String district, IngestionProgress progress) {
+        return inFlightRuns.run(city, district, progress, () -> {
+            try {
+                return enrichAndSave((Prepared) prepareRegion(city, district, progress), progress);
+            } catch (Exception e) {
+                log.error("비즈니스 엔티티 처리 중 오류 발생", e);
+                return 0;
+            }
+        });
+    }
+
+    /**
+     * 같은 지역의 끝나지 않은 실행이 남아 있고 그 원본 파일이 보관되어 있으면 다시 내려받지 않고 이어서 진행합니다.
+     */
+    @Override
+    public PreparedRegion prepareRegion(String city, String district, IngestionProgress progress) {
+        // 진행 중인 실행을 합치는 지역 키와 같은 정규화 키로 체크포인트를 구분
+        String sourceKey = "domestic:" + InFlightRegionRuns.regionKey(city, district);
+        Optional<IngestionCheckpoint> resumable = chunkCommitter.findResumable(sourceKey);
+        
+        // 1. CSV 파일 다운로드 (이어서 진행할 원본 파일이 있으면 생략)
+        progress.enter(IngestionProgress.Stage.DOWNLOADING);
+        byte[] csvBytes = resumable
+            .flatMap(checkpoint -> sourceStore.load(checkpoint.getSourceHash()))
+            .orElse(null);
+        if (csvBytes != null) {
+            log.info("보관된 원본 파일로 이어서 진행합니다 [{}]: 커밋된 오프셋 {}",
+                sourceKey, resumable.get().getCommittedOffset());
+        } else {
             InputStream csvStream = ftcCsvClient.downloadCsvFile(city, district);
             if (csvStream == null) {
                 log.error("CSV 파일 다운로드 실패");
-                return 0;
+                return Prepared.empty(city, district);
             }
             
             // 파일 다운로드 성공 로그
             log.info("CSV 파일 다운로드 성공. 다음 프로세스를 진행합니다...");
             
             // 파일 내용 확인 및 HTML 오류 페이지 검사
-            byte[] csvBytes = readAllBytes(csvStream);
+            csvBytes = readAllBytes(csvStream);
             if (csvBytes == null || isHtmlContent(new String(csvBytes, StandardCharsets.UTF_8))) {
                 log.error("서버에서 HTML 오류 페이지를 반환했습니다. 파일명이 올바른지 확인하세요.");
-                return 0;
-            }
-            
-            // 2. CSV 파일에서 법인만 필터링
-            List<BusinessEntityDto> corporateEntities = parseCsvAndFilterCorporates(new ByteArrayInputStream(csvBytes));
-            if (corporateEntities.isEmpty()) {
-                log.info("법인 데이터가 없습니다.");
-                return 0;
+                return Prepared.empty(city, district);
             }
-            
-            log.info("법인 필터링 완료. 총 {}개의 법인이 발견되었습니다.", corporateEntities.size());
-            
-            // 3. API를 통해 데이터 보강 및 엔티티 준비
-            List<BusinessEntity> enrichedEntities = enrichAndPrepareEntities(corporateEntities);
-            if (enrichedEntities.isEmpty()) {
-                log.info("보강된 엔티티가 없습니다.");
-                return 0;
+        }
+        
+        // 2. CSV 파일에서 법인만 필터링
+        progress.enter(IngestionProgress.Stage.PARSING);
+        List<BusinessEntityDto> corporateEntities = parseCsvAndFilterCorporates(new ByteArrayInputStream(csvBytes));
+        if (corporateEntities.isEmpty()) {
+            log.info("법인 데이터가 없습니다.");
+            return Prepared.empty(city, district);
+        }
+        
+        log.info("법인 필터링 완료. 총 {}개의 법인이 발견되었습니다.", corporateEntities.size());
+        
+        // 2-1. 사업자등록번호 검증 (형식/검증번호 오류 행은 API를 호출하지 않음)
+        List<EnrichmentTarget> validTargets = validateBusinessNumbers(corporateEntities);
+        if (validTargets.isEmpty()) {
+            log.info("유효한 사업자등록번호가 없습니다.");
+            return new Prepared(city, district, corporateEntities.size(), validTargets, sourceKey, null,
+                new LongHashSet(0));
+        }
+        
+        // 2-2. 보강할 대상이 있으면 원본을 보관 (같은 원본의 끝나지 않은 실행이면 조회가 끝난 키는 다시 조회하지 않음)
+        String sourceHash = sourceStore.save(csvBytes);
+        LongHashSet enrichedKeys = new LongHashSet(0);
+        if (resumable.isPresent()) {
+            String previousHash = resumable.get().getSourceHash();
+            if (previousHash.equals(sourceHash)) {
+                enrichedKeys = toBusinessNumberSet(chunkCommitter.findEnrichedKeys(sourceKey));
+                log.info("이전 실행에서 조회가 끝난 키 {}개는 다시 조회하지 않습니다 [{}]", enrichedKeys.size(), sourceKey);
+            } else {
+                // 원본이 바뀌었으므로 처음부터 다시 수집 (이전 원본은 더 쓰지 않음)
+                log.info("원본 파일이 바뀌어 처음부터 다시 수집합니다 [{}]", sourceKey);
+                sourceStore.delete(previousHash);
             }
-            
-            log.info("데이터 보강 완료. 총 {}개의 엔티티가 준비되었습니다.", enrichedEntities.size());
-            
-            // 4. 데이터베이스에 저장 (개별 저장으로 변경)
-            int savedCount = 0;
-            List<String> failedToSaveBusinessNumbers = new ArrayList<>();
-            Map<String, String> failureReasons = new HashMap<>();
-            
-            for (BusinessEntity entity : enrichedEntities) {
-                try {
-                    // 중복 체크 한번 더 수행
-                    if (businessEntityRepository.existsByBusinessNumber(entity.getBusinessNumber())) {
-                        log.debug("저장 직전 중복 체크: 이미 존재하는 사업자등록번호 {}, 건너뜁니다.", entity.getBusinessNumber());
-                        failedToSaveBusinessNumbers.add(entity.getBusinessNumber());
-                        failureReasons.put(entity.getBusinessNumber(), "DB에 이미 존재");
-                        continue;
-                    }
-                    
-                    BusinessEntity savedEntity = businessEntityRepository.save(entity);
-                    if (savedEntity != null && savedEntity.getId() != null) {
-                        savedCount++;
-                        if (savedCount % 50 == 0 || savedCount == 1) {
-                            log.info("현재까지 {}개 엔티티 저장 완료", savedCount);
-                        }
-                    } else {
-                        failedToSaveBusinessNumbers.add(entity.getBusinessNumber());
-                        failureReasons.put(entity.getBusinessNumber(), "저장 실패 (null 반환)");
-                        log.error("엔티티 저장 실패: {}", entity.getBusinessNumber());
-                    }
-                } catch (OptimisticLockingFailureException ole) {
-                    // 낙관적 락 충돌 발생 시 재시도 로직
-                    int maxRetries = 3;
-                    int retryCount = 0;
-                    boolean saved = false;
-
-                    while (retryCount < maxRetries && !saved) {
-                        try {
-                            log.warn("낙관적 락 충돌 발생: businessNumber={}, 재시도 {}/{}",
-                                entity.getBusinessNumber(), retryCount + 1, maxRetries);
+        }
+        return new Prepared(city, district, corporateEntities.size(), validTargets, sourceKey, sourceHash, enrichedKeys);
+    }
 
-                            // 최신 엔티티 조회 (있는 경우)
-                            Optional<BusinessEntity> refreshedEntity = businessEntityRepository
-                                .findByBusinessNumber(entity.getBusinessNumber());
+    /**
+     * 같은 지역의 수집이 이미 진행 중이면 준비한 대상으로 다시 보강하지 않고 그 실행의 결과를 공유합니다.
+     * (같은 체크포인트로 두 실행이 동시에 시작하여 조회 완료 키를 지우는 것을 막음)
+     */
+    @Override
+    public int enrichAndSave(PreparedRegion region, IngestionProgress progress) {
+        if (!(region instanceof Prepared prepared)) {
+            throw new IllegalArgumentException("prepareRegion으로 준비한 지역이 아닙니다: " + region);
+        }
+        return inFlightRuns.run(prepared.city(), prepared.district(), progress,
+            () -> enrichAndSave(prepared, progress));
+    }
 
-                            if (refreshedEntity.isPresent()) {
-                                // 이미 존재하는 경우 - 중복으로 간주하고 넘어감
-                                log.info("재시도 중 이미 저장된 엔티티 발견: businessNumber={}",
-                                    entity.getBusinessNumber());
-                                saved = true;
-                            } else {
-                                // 다시 저장 시도
-                                businessEntityRepository.save(entity);
-                                log.info("재시도 성공: businessNumber={}", entity.getBusinessNumber());
-                                saved = true;
-                            }
-                        } catch (OptimisticLockingFailureException retryEx) {
-                            retryCount++;
-                            if (retryCount >= maxRetries) {
-                                failedToSaveBusinessNumbers.add(entity.getBusinessNumber());
-                                failureReasons.put(entity.getBusinessNumber(), "낙관적 락 충돌 최대 재시도 횟수 초과");
-                                log.error("낙관적 락 충돌 최대 재시도 횟수 초과: businessNumber={}",
-                                    entity.getBusinessNumber());
-                            }
-                            // 재시도 전 짧은 대기 시간 추가
-                            try {
-                                Thread.sleep(100 * retryCount); // 점진적으로 대기 시간 증가
-                            } catch (InterruptedException ie) {
-                                Thread.currentThread().interrupt();
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    failedToSaveBusinessNumbers.add(entity.getBusinessNumber());
-                    failureReasons.put(entity.getBusinessNumber(), "예외 발생: " + e.getMessage());
-                    log.error("엔티티 저장 중 오류 발생: businessNumber={}, error={}",
-                        entity.getBusinessNumber(), e.getMessage());
-                    // 개별 저장이므로 하나의 실패가 전체 트랜잭션을 롤백하지 않음
-                }
-            }
-            
-            // 저장에 실패한 사업자등록번호 로깅
-            if (!failedToSaveBusinessNumbers.isEmpty()) {
-                log.warn("=== DB 저장 실패 목록 ===");
-                log.warn("총 {}개 사업자등록번호 DB 저장 실패", failedToSaveBusinessNumbers.size());
-                
-                // 최대 20개까지만 상세 정보 표시
-                int displayCount = Math.min(failedToSaveBusinessNumbers.size(), 20);
-                for (int i = 0; i < displayCount; i++) {
-                    String businessNumber = failedToSaveBusinessNumbers.get(i);
-                    String reason = failureReasons.getOrDefault(businessNumber, "알 수 없는 이유");
-                    log.warn("  - 사업자등록번호: {}, 실패 이유: {}", businessNumber, reason);
-                }
-                
-                if (failedToSaveBusinessNumbers.size() > 20) {
-                    log.warn("  - 그 외 {}개 생략", failedToSaveBusinessNumbers.size() - 20);
-                }
-                log.warn("=======================");
-            }
-            
-            // 최종 결과 요약
-            log.info("=== 처리 결과 요약 ===");
-            log.info("CSV 파일 내 법인 수: {}", corporateEntities.size());
-            log.info("API 호출 성공 수: {}", enrichedEntities.size());
-            log.info("API 호출 실패 수: {}", corporateEntities.size() - enrichedEntities.size());
-            log.info("DB 저장 성공 수: {}", savedCount);
-            log.info("DB 저장 실패 수: {}", failedToSaveBusinessNumbers.size());
-            log.info("=====================");
-            
-            return savedCount;
-        } catch (Exception e) {
-            log.error("비즈니스 엔티티 처리 중 오류 발생", e);
+    private int enrichAndSave(Prepared prepared, IngestionProgress progress) {
+        // 파싱 건수는 실제로 이 지역을 처리하는 실행에만 기록 (진행 중인 실행에 합류하면 그 실행의 건수를 받음)
+        progress.addRowsParsed(prepared.corporateCount());
+        List<EnrichmentTarget> validTargets = prepared.targets();
+        if (validTargets.isEmpty()) {
+            return 0;
+        }
+        String city = prepared.city();
+        String district = prepared.district();
+        
+        // 3. API를 통해 데이터를 보강하면서 write-behind 버퍼를 통해 청크 단위로 저장
+        //    (이미 존재하는 사업자등록번호는 단일 구문 안에서 건너뜀)
+        progress.enter(IngestionProgress.Stage.ENRICHING);
+        IngestionChunkCommitter.CommitSession commitSession = chunkCommitter.begin(
+            prepared.sourceKey(), prepared.sourceHash(), validTargets.size(), businessEntityStorage::insertIgnoreAll,
+            progress);
+        int enrichedCount;
+        try (WriteBehindBuffer writeBuffer = writeBehindBufferFactory.open(
+                "domestic-writer-" + district, commitSession::write)) {
+            enrichedCount = enrichAndPrepareEntities(validTargets, prepared.enrichedKeys(), writeBuffer,
+                commitSession, progress);
+            // 보강이 끝나면 버퍼에 남은 엔티티 저장만 남음
+            progress.enter(IngestionProgress.Stage.SAVING);
+        }
+        ChunkCommitResult commitResult = commitSession.finish();
+        if (commitResult.isAborted()) {
+            log.error("저장 중단. 커밋된 행: {}/{}", commitResult.getCommittedOffset(), enrichedCount);
+        } else if (prepared.sourceHash() != null) {
+            // 완료된 실행의 원본은 더 이어서 진행할 일이 없음
+            sourceStore.delete(prepared.sourceHash());
+        }
+        if (enrichedCount == 0) {
+            log.info("보강된 엔티티가 없습니다.");
             return 0;
         }
+        
+        log.info("데이터 보강 및 저장 완료. 총 {}개의 엔티티가 준비되었습니다.", enrichedCount);
+        
+        BulkWriteResult writeResult = commitResult.getWritten();
+        int failedRowCount = commitResult.getFailedRows().size();
+        int savedCount = writeResult.getInserted();
+        
+        // 최종 결과 요약
+        log.info("=== 처리 결과 요약 ({} {}) ===", city, district);
+        log.info("CSV 파일 내 법인 수: {}", prepared.corporateCount());
+        log.info("사업자등록번호 검증 실패 수: {}", prepared.corporateCount() - validTargets.size());
+        log.info("API 호출 성공 수: {}", enrichedCount);
+        log.info("API 호출 실패 수: {}", validTargets.size() - enrichedCount);
+        log.info("DB 저장 성공 수: {}", savedCount);
+        log.info("DB 저장 건너뜀 수 (이미 존재): {}", writeResult.getSkipped());
+        log.info("DB 저장 실패 수: {}", failedRowCount);
+        log.info("=====================");
+        
+        return savedCount;
     }
     
     /**
@@ -215,7 +250,7 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
                 .map(dto -> CompletableFuture.runAsync(() -> {
                     try {
                         // API를 통해 사업자등록번호로 통신판매번호와 법인등록번호 조회
-                        Map<String, String> businessInfo = getBusinessInfoByBusinessNumber(dto.getBusinessNumber());
+                        Map<String, String> businessInfo = getBusinessInfoByBusinessNumber(BusinessNumber.parse(dto.getBusinessNumber()));
                         String corporateRegistrationNumber = businessInfo.getOrDefault("corporateRegistrationNumber", "조회 실패");
                         String mailOrderSalesNumber = businessInfo.getOrDefault("mailOrderSalesNumber", "조회 실패");
                         String companyName = businessInfo.getOrDefault("companyName", "조회 실패");
@@ -244,6 +279,21 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
         }
     }
     
+    /**
+     * 저장된 사업자등록번호 문자열(하이픈 유무와 관계없이)을 파싱된 값의 집합으로 바꿉니다.
+     * 형식이 맞지 않는 값은 보강 대상과 일치할 수 없으므로 제외합니다.
+     */
+    private static LongHashSet toBusinessNumberSet(Collection<String> businessNumbers) {
+        LongHashSet set = new LongHashSet(businessNumbers.size());
+        for (String businessNumber : businessNumbers) {
+            long digits = BusinessNumber.parseDigits(businessNumber);
+            if (digits != BusinessNumber.INVALID) {
+                set.add(digits);
+            }
+        }
+        return set;
+    }
+
     /**
      * 스트림에서 모든 바이트를 읽어옵니다.
      */
@@ -331,70 +381,143 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
         return corporateEntities;
     }
     
+    /**
+     * 파싱 직후 사업자등록번호의 형식과 검증번호를 확인합니다.
+     * 검증에 실패한 행은 원인별로 집계하고 제외하여 공공데이터포털 API 호출 한도를 낭비하지 않습니다.
+     */
+    private List<EnrichmentTarget> validateBusinessNumbers(List<BusinessEntityDto> dtos) {
+        List<EnrichmentTarget> targets = new ArrayList<>(dtos.size());
+        Map<String, List<String>> rejected = new HashMap<>();
+        
+        for (BusinessEntityDto dto : dtos) {
+            String rawBusinessNumber = dto.getBusinessNumber();
+            long digits = BusinessNumber.parseDigits(rawBusinessNumber);
+            if (digits == BusinessNumber.INVALID) {
+                rejected.computeIfAbsent("형식 오류", k -> new ArrayList<>()).add(rawBusinessNumber);
+            } else if (!BusinessNumber.isChecksumValid(digits)) {
+                rejected.computeIfAbsent("검증번호 불일치", k -> new ArrayList<>()).add(rawBusinessNumber);
+            } else {
+                targets.add(new EnrichmentTarget(rawBusinessNumber, BusinessNumber.of(digits)));
+            }
+        }
+        
+        if (!rejected.isEmpty()) {
+            rejected.forEach((reason, numbers) -> {
+                int displayCount = Math.min(numbers.size(), 20);
+                log.warn("사업자등록번호 {}: {}개 (API 호출 제외) - {}{}", reason, numbers.size(),
+                    String.join(", ", numbers.subList(0, displayCount)),
+                    numbers.size() > 20 ? String.format(" 외 %d개", numbers.size() - 20) : "");
+            });
+        }
+        log.info("사업자등록번호 검증 완료. 유효: {}개, 제외: {}개", targets.size(), dtos.size() - targets.size());
+        
+        return targets;
+    }
+    
     /**
      * 필터링된 법인 정보를 외부 API를 통해 보강하고 저장할 엔티티로 변환합니다.
      * 사업자등록번호로 API를 호출하여 통신판매번호, 상호명, 법인등록번호, 행정구역코드를 조회합니다.
+     * 보강된 엔티티는 바로 write-behind 버퍼로 넘겨 API 호출과 DB 저장이 겹쳐 진행되도록 합니다.
+     *
+     * @return 보강되어 버퍼로 넘긴 엔티티 수
      */
-    private List<BusinessEntity> enrichAndPrepareEntities(List<BusinessEntityDto> dtos) {
-        List<BusinessEntity> result = new ArrayList<>();
-        
-        // 중복 사업자등록번호 체크를 위한 Set
-        Set<String> processedBusinessNumbers = new HashSet<>();
+    private int enrichAndPrepareEntities(List<EnrichmentTarget> validTargets, LongHashSet enrichedKeys,
+            WriteBehindBuffer writeBuffer, IngestionChunkCommitter.CommitSession commitSession,
+            IngestionProgress progress) {
+        int enrichedCount = 0;
         
-        // 실패 원인 추적을 위한 카운터 및 실패한 사업자등록번호 목록
-        Map<String, Integer> failureReasons = new HashMap<>();
-        Map<String, List<String>> failedBusinessNumbers = new HashMap<>();
+        // 실패 원인 추적을 위한 카운터 및 실패한 사업자등록번호 목록 (보강 작업 스레드에서 동시에 갱신)
+        Map<String, Integer> failureReasons = new ConcurrentHashMap<>();
+        Map<String, List<String>> failedBusinessNumbers = new ConcurrentHashMap<>();
         
         failureReasons.put("이미 처리됨", 0);
         failureReasons.put("DB에 이미 존재", 0);
+        failureReasons.put("이전 실행에서 조회됨", 0);
         failureReasons.put("API 결과 없음", 0);
         failureReasons.put("필수 정보 누락", 0);
         failureReasons.put("API 호출 오류", 0);
+        failureReasons.put("호출 한도 초과", 0);
         
-        failedBusinessNumbers.put("이미 처리됨", new ArrayList<>());
-        failedBusinessNumbers.put("DB에 이미 존재", new ArrayList<>());
-        failedBusinessNumbers.put("API 결과 없음", new ArrayList<>());
-        failedBusinessNumbers.put("필수 정보 누락", new ArrayList<>());
-        failedBusinessNumbers.put("API 호출 오류", new ArrayList<>());
+        failedBusinessNumbers.put("이미 처리됨", Collections.synchronizedList(new ArrayList<>()));
+        failedBusinessNumbers.put("DB에 이미 존재", Collections.synchronizedList(new ArrayList<>()));
+        failedBusinessNumbers.put("이전 실행에서 조회됨", Collections.synchronizedList(new ArrayList<>()));
+        failedBusinessNumbers.put("API 결과 없음", Collections.synchronizedList(new ArrayList<>()));
+        failedBusinessNumbers.put("필수 정보 누락", Collections.synchronizedList(new ArrayList<>()));
+        failedBusinessNumbers.put("API 호출 오류", Collections.synchronizedList(new ArrayList<>()));
+        failedBusinessNumbers.put("호출 한도 초과", Collections.synchronizedList(new ArrayList<>()));
         
-        // 병렬 처리를 위한 ExecutorService 생성
-        ExecutorService executor = Executors.newFixedThreadPool(10);
+        // 검증 단계에서 파싱된 long 값으로 실행 내 중복 제거
+        LongHashSet processedBusinessNumbers = new LongHashSet(validTargets.size());
+        List<EnrichmentTarget> targets = new ArrayList<>(validTargets.size());
+        for (EnrichmentTarget target : validTargets) {
+            if (!processedBusinessNumbers.add(target.businessNumber().longValue())) {
+                log.debug("이미 처리된 사업자등록번호: {}, 건너뜁니다.", target.rawBusinessNumber());
+                failureReasons.merge("이미 처리됨", 1, Integer::sum);
+                failedBusinessNumbers.get("이미 처리됨").add(target.rawBusinessNumber());
+                continue;
+            }
+            targets.add(target);
+        }
         
+        // 이미 저장된 사업자등록번호를 행 단위가 아닌 IN 조회로 한 번에 확인
+        // (하이픈 없는 10자리로 저장하기 전에 원본 표기로 저장된 행도 함께 확인하고, 파싱된 값으로 비교)
+        List<String> storedForms = new ArrayList<>(targets.size() * 2);
+        for (EnrichmentTarget target : targets) {
+            storedForms.add(target.businessNumber().digits());
+            if (!target.rawBusinessNumber().equals(target.businessNumber().digits())) {
+                storedForms.add(target.rawBusinessNumber());
+            }
+        }
+        LongHashSet existingBusinessNumbers = toBusinessNumberSet(
+            businessEntityStorage.findExistingBusinessNumbers(storedForms));
+        
+        // 조회는 공용 lookupExecutor에서 실행 (동시에 보강 중인 모든 지역이 같은 동시 호출 수를 나눠 씀)
         try {
-            // 각 DTO를 비동기적으로 처리
-            List<CompletableFuture<BusinessEntity>> futures = dtos.stream()
-                .map(dto -> CompletableFuture.supplyAsync(() -> {
+            // 각 대상을 비동기적으로 처리
+            List<CompletableFuture<Boolean>> futures = targets.stream()
+                .map(target -> CompletableFuture.supplyAsync(() -> {
+                    String businessNumber = target.rawBusinessNumber();
                     try {
-                        String businessNumber = dto.getBusinessNumber();
-                        
-                        // 이미 처리한 사업자등록번호인지 확인 (메모리 내 중복 체크)
-                        if (processedBusinessNumbers.contains(businessNumber)) {
-                            log.debug("이미 처리된 사업자등록번호: {}, 건너뜁니다.", businessNumber);
-                            failureReasons.put("이미 처리됨", failureReasons.get("이미 처리됨") + 1);
-                            failedBusinessNumbers.get("이미 처리됨").add(businessNumber);
-                            return null;
-                        }
-                        
                         // 데이터베이스에 이미 존재하는지 확인
-                        if (businessEntityRepository.existsByBusinessNumber(businessNumber)) {
+                        if (existingBusinessNumbers.contains(target.businessNumber().longValue())) {
+                            progress.lookupCached();
                             log.debug("데이터베이스에 이미 존재하는 사업자등록번호: {}, 건너뜁니다.", businessNumber);
-                            processedBusinessNumbers.add(businessNumber); // 메모리에도 추가
-                            failureReasons.put("DB에 이미 존재", failureReasons.get("DB에 이미 존재") + 1);
+                            failureReasons.merge("DB에 이미 존재", 1, Integer::sum);
                             failedBusinessNumbers.get("DB에 이미 존재").add(businessNumber);
-                            return null;
+                            return false;
+                        }
+                        
+                        // 끊긴 이전 실행에서 조회했지만 저장할 행이 없었던 키
+                        if (enrichedKeys.contains(target.businessNumber().longValue())) {
+                            progress.lookupCached();
+                            failureReasons.merge("이전 실행에서 조회됨", 1, Integer::sum);
+                            failedBusinessNumbers.get("이전 실행에서 조회됨").add(businessNumber);
+                            return false;
+                        }
+                        
+                        // 오늘 호출 한도를 다 썼으면 네트워크를 타지 않고 건너뜀
+                        if (!lookupQuota.tryAcquire()) {
+                            progress.lookupDenied();
+                            failureReasons.merge("호출 한도 초과", 1, Integer::sum);
+                            failedBusinessNumbers.get("호출 한도 초과").add(businessNumber);
+                            return false;
                         }
                         
                         // API를 통해 사업자등록번호로 통신판매번호와 법인등록번호 조회
-                        Map<String, String> apiResult = getBusinessInfoByBusinessNumber(businessNumber);
+                        Map<String, String> apiResult = getBusinessInfoByBusinessNumber(target.businessNumber());
                         
-                        // API 결과가 없는 경우 건너뜀
-                        if (apiResult == null || apiResult.isEmpty()) {
+                        // 정상 응답이지만 결과가 없는 경우 건너뜀 (조회 오류는 예외로 아래에서 처리)
+                        if (apiResult.isEmpty()) {
+                            progress.lookupCompleted();
                             log.warn("API 결과 없음: businessNumber={}", businessNumber);
-                            failureReasons.put("API 결과 없음", failureReasons.get("API 결과 없음") + 1);
+                            failureReasons.merge("API 결과 없음", 1, Integer::sum);
                             failedBusinessNumbers.get("API 결과 없음").add(businessNumber);
-                            return null;
+                            commitSession.recordEnriched(target.businessNumber().digits());
+                            return false;
                         }
                         
+                        progress.lookupCompleted();
+                        
                         // 필수 데이터 추출
                         String mailOrderSalesNumber = apiResult.get("mailOrderSalesNumber");
                         String companyName = apiResult.get("companyName");
@@ -406,9 +529,10 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
                             corporateRegistrationNumber == null || corporateRegistrationNumber.isEmpty()) {
                             log.warn("필수 정보 누락: businessNumber={}, mailOrderSalesNumber={}, companyName={}, corporateRegistrationNumber={}", 
                                     businessNumber, mailOrderSalesNumber, companyName, corporateRegistrationNumber);
-                            failureReasons.put("필수 정보 누락", failureReasons.get("필수 정보 누락") + 1);
+                            failureReasons.merge("필수 정보 누락", 1, Integer::sum);
                             failedBusinessNumbers.get("필수 정보 누락").add(businessNumber);
-                            return null;
+                            commitSession.recordEnriched(target.businessNumber().digits());
+                            return false;
                         }
                         
                         // 행정구역코드 가져오기 (API에서 조회한 값 사용)
@@ -419,35 +543,40 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
                             log.warn("행정구역코드 조회 실패, null 값을 사용합니다: businessNumber={}", businessNumber);
                         }
                         
-                        // 처리된 사업자등록번호 목록에 추가
-                        processedBusinessNumbers.add(businessNumber);
-                        
-                        // BusinessEntity 객체 생성
+                        // BusinessEntity 객체 생성 (사업자등록번호는 단건 조회와 캐시 키에 맞춰 하이픈 없는 10자리로 저장)
                         BusinessEntity entity = BusinessEntity.builder()
                             .mailOrderSalesNumber(mailOrderSalesNumber)
                             .companyName(companyName)
-                            .businessNumber(businessNumber)
+                            .businessNumber(target.businessNumber().digits())
                             .corporateRegistrationNumber(corporateRegistrationNumber)
                             .administrativeCode(administrativeDistrictCode)
                             .build();
                         
-                        return entity;
+                        // 버퍼가 가득 차 있으면 쓰기 스레드가 따라잡을 때까지 대기
+                        writeBuffer.put(entity);
+                        return true;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.error("엔티티 저장 대기 중 인터럽트: businessNumber={}", businessNumber);
+                        failureReasons.merge("API 호출 오류", 1, Integer::sum);
+                        failedBusinessNumbers.get("API 호출 오류").add(businessNumber);
+                        return false;
                     } catch (Exception e) {
+                        progress.lookupFailed();
                         log.error("엔티티 보강 중 오류 발생: businessNumber={}, error={}", 
-                                dto.getBusinessNumber(), e.getMessage());
-                        failureReasons.put("API 호출 오류", failureReasons.get("API 호출 오류") + 1);
-                        failedBusinessNumbers.get("API 호출 오류").add(dto.getBusinessNumber());
-                        return null;
+                                businessNumber, e.getMessage());
+                        failureReasons.merge("API 호출 오류", 1, Integer::sum);
+                        failedBusinessNumbers.get("API 호출 오류").add(businessNumber);
+                        return false;
                     }
-                }, executor))
+                }, lookupExecutor))
                 .collect(Collectors.toList());
             
             // 모든 Future가 완료될 때까지 대기
-            for (CompletableFuture<BusinessEntity> future : futures) {
+            for (CompletableFuture<Boolean> future : futures) {
                 try {
-                    BusinessEntity entity = future.get(30, TimeUnit.SECONDS);
-                    if (entity != null) {
-                        result.add(entity);
+                    if (Boolean.TRUE.equals(future.get(30, TimeUnit.SECONDS))) {
+                        enrichedCount++;
                     }
                 } catch (Exception e) {
                     log.error("Future 처리 중 오류 발생: {}", e.getMessage());
@@ -480,27 +609,31 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
             log.info("===============================");
             
             // 성공 로그는 간결하게
-            log.info("총 {}개의 엔티티 보강 완료", result.size());
-        } finally {
-            executor.shutdown();
+            log.info("총 {}개의 엔티티 보강 완료", enrichedCount);
+        } catch (RuntimeException e) {
+            log.error("엔티티 보강 작업 등록 중 오류 발생: {}", e.getMessage());
         }
         
-        return result;
+        return enrichedCount;
     }
     
     /**
      * 사업자등록번호로 API를 호출하여 통신판매번호와 법인등록번호를 조회합니다.
      * 공공데이터포털 API를 호출합니다.
+     *
+     * <p>조회 결과가 정상적으로 "없음"이면 빈 Map을 반환하고,
+     * 통신·HTTP·파싱 오류나 호출 한도 응답이면 {@link LookupFailedException}을 던집니다.
+     * 호출한 쪽은 빈 결과만 "조회 완료"로 기록하고, 예외는 재시도 대상으로 남겨야 합니다.
      */
-    private Map<String, String> getBusinessInfoByBusinessNumber(String businessRegistrationNumber) {
+    private Map<String, String> getBusinessInfoByBusinessNumber(BusinessNumber businessRegistrationNumber) {
         try {
             String apiUrlBase = "https://apis.data.go.kr/1130000/MllBsDtl_2Service/getMllBsInfoDetail_2";
             
             // 이미 인코딩된 서비스 키를 직접 사용
             String encodedServiceKey = "9t5rygA6W%2FqYpdFMUj%2BiLHgDyHYdx5hacXZA01L9BF%2BJkUfYzw%2B14ujB%2BVCyoh3ZGnR8OG2zI40YG%2Bp9kRZ4aA%3D%3D";
             
-            // 사업자등록번호에서 하이픈(-) 제거 및 공백 제거
-            String formattedBusinessNumber = businessRegistrationNumber.replaceAll("-", "").trim();
+            // 파싱 단계에서 정규화된 10자리 사업자등록번호 사용
+            String formattedBusinessNumber = businessRegistrationNumber.digits();
             
             // URL 문자열 생성 - 이미 인코딩된 서비스 키 사용
             String urlString = apiUrlBase + 
@@ -514,133 +647,139 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
             URI uri = new URI(urlString);
             
             // API 호출 - URI 객체 사용
-            RestTemplate restTemplate = new RestTemplate();
             ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
             
-            Map<String, String> result = new HashMap<>();
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                log.error("API 호출 실패: {}", response.getStatusCode());
+                throw new LookupFailedException("API 호출 실패: " + response.getStatusCode());
+            }
             
-            if (response.getStatusCode().is2xxSuccessful()) {
-                String responseBody = response.getBody();
+            String responseBody = response.getBody();
+            
+            // 응답이 HTML인지 확인 (에러 페이지일 수 있음)
+            if (responseBody != null && (responseBody.trim().startsWith("<") || responseBody.contains("<!DOCTYPE html>"))) {
+                log.error("API가 HTML 응답을 반환했습니다. 응답: {}", responseBody.substring(0, Math.min(responseBody.length(), 200)));
+                throw new LookupFailedException("API가 HTML 응답을 반환했습니다.");
+            }
+            
+            JsonNode rootNode;
+            try {
+                // JSON 응답 파싱
+                rootNode = new ObjectMapper().readTree(responseBody);
+            } catch (Exception e) {
+                log.error("JSON 파싱 오류: {}", e.getMessage());
+                log.debug("응답 내용: {}", responseBody);
                 
-                // 응답이 HTML인지 확인 (에러 페이지일 수 있음)
-                if (responseBody != null && (responseBody.trim().startsWith("<") || responseBody.contains("<!DOCTYPE html>"))) {
-                    log.error("API가 HTML 응답을 반환했습니다. 응답: {}", responseBody.substring(0, Math.min(responseBody.length(), 200)));
-                    return result; // 빈 결과 반환
+                if (isQuotaExceededMessage(responseBody)) {
+                    lookupQuota.markExhausted();
+                    log.error("=================================================================");
+                    log.error("API 호출 제한(10,000회)에 도달했습니다. 내일 다시 시도해주세요.");
+                    log.error("응답 내용에 호출 제한 관련 메시지가 포함되어 있습니다.");
+                    log.error("=================================================================");
                 }
+                throw new LookupFailedException("JSON 파싱 오류: " + e.getMessage());
+            }
+            if (rootNode == null) {
+                throw new LookupFailedException("API 응답 본문이 비어 있습니다.");
+            }
+            
+            // 응답 코드 확인
+            JsonNode headerNode = rootNode.path("response").path("header");
+            String resultCode = headerNode.path("resultCode").asText();
+            
+            // 응답 구조 확인 - 일부 API는 response 없이 바로 resultCode를 반환
+            if (resultCode.isEmpty() && rootNode.has("resultCode")) {
+                resultCode = rootNode.path("resultCode").asText();
+            }
+            
+            if (!"00".equals(resultCode) && !"NORMAL SERVICE".equals(rootNode.path("resultMsg").asText())) {
+                String resultMsg = headerNode.path("resultMsg").asText();
+                log.error("API 오류 응답: {} - {}", resultCode, resultMsg);
                 
-                try {
-                    // JSON 응답 파싱
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    JsonNode rootNode = objectMapper.readTree(responseBody);
-                    
-                    // 응답 코드 확인
-                    JsonNode headerNode = rootNode.path("response").path("header");
-                    String resultCode = headerNode.path("resultCode").asText();
-                    
-                    // 응답 구조 확인 - 일부 API는 response 없이 바로 resultCode를 반환
-                    if (resultCode.isEmpty() && rootNode.has("resultCode")) {
-                        resultCode = rootNode.path("resultCode").asText();
+                // API 호출 제한 관련 메시지 확인
+                if (isQuotaExceededMessage(resultMsg)) {
+                    lookupQuota.markExhausted();
+                    log.error("=================================================================");
+                    log.error("API 호출 제한(10,000회)에 도달했습니다. 내일 다시 시도해주세요.");
+                    log.error("오류 메시지: {}", resultMsg);
+                    log.error("=================================================================");
+                }
+                throw new LookupFailedException("API 오류 응답: " + resultCode + " - " + resultMsg);
+            }
+            
+            Map<String, String> result = new HashMap<>();
+            
+            // 성공 응답인 경우 필요한 정보 추출
+            JsonNode itemsNode = rootNode.has("items") ? rootNode.path("items") : 
+                                 rootNode.has("response") ? rootNode.path("response").path("body").path("items") : null;
+            
+            JsonNode itemNode = null;
+            if (itemsNode != null) {
+                if (itemsNode.isArray() && itemsNode.size() > 0) {
+                    itemNode = itemsNode.get(0);
+                } else {
+                    itemNode = itemsNode.path("item");
+                }
+            }
+            
+            if (itemNode != null && !itemNode.isMissingNode()) {
+                // 통신판매번호(prmmiMnno) 추출
+                String mailOrderSalesNumber = itemNode.path("prmmiMnno").asText();
+                if (mailOrderSalesNumber != null && !mailOrderSalesNumber.isEmpty() && !"null".equals(mailOrderSalesNumber)) {
+                    result.put("mailOrderSalesNumber", mailOrderSalesNumber);
+                }
+                
+                // 상호명(bzmnNm) 추출 - 기존의 bsshNm 대신 bzmnNm 사용
+                String companyName = itemNode.path("bzmnNm").asText();
+                if (companyName != null && !companyName.isEmpty() && !"null".equals(companyName)) {
+                    result.put("companyName", companyName);
+                } else {
+                    // 대체 필드로 bsshNm 시도
+                    companyName = itemNode.path("bsshNm").asText();
+                    if (companyName != null && !companyName.isEmpty() && !"null".equals(companyName)) {
+                        result.put("companyName", companyName);
                     }
+                }
+                
+                // 법인등록번호(crno) 추출
+                String corporateRegistrationNumber = itemNode.path("crno").asText();
+                if (corporateRegistrationNumber != null && !corporateRegistrationNumber.isEmpty() && !"null".equals(corporateRegistrationNumber)) {
+                    result.put("corporateRegistrationNumber", corporateRegistrationNumber);
+                }
+                
+                // 도로명주소(rnAddr) 추출 - 행정구역코드 조회에 사용
+                String roadAddress = itemNode.path("rnAddr").asText();
+                if (roadAddress != null && !roadAddress.isEmpty() && !"null".equals(roadAddress) && !"N/A".equals(roadAddress)) {
+                    result.put("roadAddress", roadAddress);
 
-                    if ("00".equals(resultCode) || "NORMAL SERVICE".equals(rootNode.path("resultMsg").asText())) {
-                        // 성공 응답인 경우 필요한 정보 추출
-                        JsonNode itemsNode = rootNode.has("items") ? rootNode.path("items") : 
-                                             rootNode.has("response") ? rootNode.path("response").path("body").path("items") : null;
-                        
-                        JsonNode itemNode = null;
-                        if (itemsNode != null) {
-                            if (itemsNode.isArray() && itemsNode.size() > 0) {
-                                itemNode = itemsNode.get(0);
-                            } else {
-                                itemNode = itemsNode.path("item");
-                            }
-                        }
-                        
-                        if (itemNode != null && !itemNode.isMissingNode()) {
-                            // 통신판매번호(prmmiMnno) 추출
-                            String mailOrderSalesNumber = itemNode.path("prmmiMnno").asText();
-                            if (mailOrderSalesNumber != null && !mailOrderSalesNumber.isEmpty() && !"null".equals(mailOrderSalesNumber)) {
-                                result.put("mailOrderSalesNumber", mailOrderSalesNumber);
-                            }
-                            
-                            // 상호명(bzmnNm) 추출 - 기존의 bsshNm 대신 bzmnNm 사용
-                            String companyName = itemNode.path("bzmnNm").asText();
-                            if (companyName != null && !companyName.isEmpty() && !"null".equals(companyName)) {
-                                result.put("companyName", companyName);
-                            } else {
-                                // 대체 필드로 bsshNm 시도
-                                companyName = itemNode.path("bsshNm").asText();
-                                if (companyName != null && !companyName.isEmpty() && !"null".equals(companyName)) {
-                                    result.put("companyName", companyName);
-                                }
-                            }
-                            
-                            // 법인등록번호(crno) 추출
-                            String corporateRegistrationNumber = itemNode.path("crno").asText();
-                            if (corporateRegistrationNumber != null && !corporateRegistrationNumber.isEmpty() && !"null".equals(corporateRegistrationNumber)) {
-                                result.put("corporateRegistrationNumber", corporateRegistrationNumber);
-                            }
-                            
-                            // 도로명주소(rnAddr) 추출 - 행정구역코드 조회에 사용
-                            String roadAddress = itemNode.path("rnAddr").asText();
-                            if (roadAddress != null && !roadAddress.isEmpty() && !"null".equals(roadAddress) && !"N/A".equals(roadAddress)) {
-                                result.put("roadAddress", roadAddress);
-
-                                // 도로명주소로 행정구역코드 조회
-                                String admCode = getAdministrativeDistrictCode(roadAddress);
-                                if (admCode != null && !admCode.isEmpty()) {
-                                    result.put("administrativeCode", admCode);
-                                }
-                            } else if ("N/A".equals(roadAddress)) {
-                                log.warn("도로명주소가 'N/A'로 조회되어 행정구역코드를 조회하지 않습니다: businessNumber={}", businessRegistrationNumber);
-                            }
-                            
-                            if (!result.isEmpty()) {
-                                // 상세 성공 로그 제거
-                                return result;
-                            }
-                        }
-                    } else {
-                        String resultMsg = headerNode.path("resultMsg").asText();
-                        log.error("API 오류 응답: {} - {}", resultCode, resultMsg);
-                        
-                        // API 호출 제한 관련 메시지 확인
-                        if (resultMsg.contains("LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR") || 
-                            resultMsg.contains("일일 제한 횟수") || 
-                            resultMsg.contains("호출 제한") || 
-                            resultMsg.contains("10,000")) {
-                            log.error("=================================================================");
-                            log.error("API 호출 제한(10,000회)에 도달했습니다. 내일 다시 시도해주세요.");
-                            log.error("오류 메시지: {}", resultMsg);
-                            log.error("=================================================================");
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("JSON 파싱 오류: {}", e.getMessage());
-                    log.debug("응답 내용: {}", responseBody);
-                    
-                    if (responseBody != null && 
-                        (responseBody.contains("LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR") || 
-                         responseBody.contains("일일 제한 횟수") || 
-                         responseBody.contains("호출 제한") || 
-                         responseBody.contains("10,000"))) {
-                        log.error("=================================================================");
-                        log.error("API 호출 제한(10,000회)에 도달했습니다. 내일 다시 시도해주세요.");
-                        log.error("응답 내용에 호출 제한 관련 메시지가 포함되어 있습니다.");
-                        log.error("=================================================================");
+                    // 도로명주소로 행정구역코드 조회
+                    String admCode = getAdministrativeDistrictCode(roadAddress);
+                    if (admCode != null && !admCode.isEmpty()) {
+                        result.put("administrativeCode", admCode);
                     }
+                } else if ("N/A".equals(roadAddress)) {
+                    log.warn("도로명주소가 'N/A'로 조회되어 행정구역코드를 조회하지 않습니다: businessNumber={}", businessRegistrationNumber);
                 }
-            } else {
-                log.error("API 호출 실패: {}", response.getStatusCode());
             }
             
-            return result; // 빈 결과 반환
+            // 정상 응답이지만 항목이 없으면 빈 결과 반환
+            return result;
+        } catch (LookupFailedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("사업자등록번호로 정보 조회 중 오류 발생: {}, 오류: {}", businessRegistrationNumber, e.getMessage());
-            return new HashMap<>(); // 빈 결과 반환
+            throw new LookupFailedException("사업자등록번호로 정보 조회 중 오류 발생: " + e.getMessage(), e);
         }
     }
     
+    private static boolean isQuotaExceededMessage(String message) {
+        return message != null &&
+            (message.contains("LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR") || 
+             message.contains("일일 제한 횟수") || 
+             message.contains("호출 제한") || 
+             message.contains("10,000"));
+    }
+    
     /**
      * 주소로 행정구역코드를 조회합니다.
      * 공공주소 API를 호출합니다.
@@ -668,7 +807,6 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
             URI uri = builder.build().encode().toUri();
 
             // API 호출
-            RestTemplate restTemplate = new RestTemplate();
             ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
             
             if (response.getStatusCode().is2xxSuccessful()) {
@@ -801,9 +939,10 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
      */
     @Override
     @Async("taskExecutor")
-    public CompletableFuture<Integer> processBusinessEntitiesAsync(String city, String district) {
+    public CompletableFuture<Integer> processBusinessEntitiesAsync(String city, String district,
+            IngestionProgress progress) {
         try {
-            int result = processBusinessEntities(city, district);
+            int result = processBusinessEntities(city, district, progress);
             return CompletableFuture.completedFuture(result);
         } catch (Exception e) {
             log.error("비동기 처리 중 오류 발생: {}", e.getMessage(), e);
@@ -812,4 +951,43 @@ public class DomesticBusinessEntityServiceImpl implements DomesticBusinessEntity
             return future;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 사업자 정보 조회가 통신·HTTP·파싱 오류나 호출 한도 응답으로 실패했음을 나타냅니다.
+     * "결과 없음"과 달리 다음 실행에서 다시 조회해야 합니다.
+     */
+    private static class LookupFailedException extends RuntimeException {
+        LookupFailedException(String message) {
+            super(message);
+        }
+
+        LookupFailedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * 보강 대상 (원본 사업자등록번호 문자열과 파싱된 값)
+     */
+    private record EnrichmentTarget(String rawBusinessNumber, BusinessNumber businessNumber) {
+    }
+
+    /**
+     * 다운로드와 검증까지 끝나 보강을 기다리는 지역
+     *
+     * @param sourceHash 보관된 원본 파일 해시 (보강할 대상이 없으면 null)
+     * @param enrichedKeys 이어서 진행하는 경우 이전 실행에서 조회가 끝난 키
+     */
+    private record Prepared(String city, String district, int corporateCount, List<EnrichmentTarget> targets,
+            String sourceKey, String sourceHash, LongHashSet enrichedKeys) implements PreparedRegion {
+
+        static Prepared empty(String city, String district) {
+            return new Prepared(city, district, 0, List.of(), null, null, new LongHashSet(0));
+        }
+
+        @Override
+        public int targetCount() {
+            return targets.size();
+        }
+    }
+}
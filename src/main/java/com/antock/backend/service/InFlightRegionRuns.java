@@ -0,0 +1,74 @@
+package com.antock.backend.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 지역에 대해 진행 중인 수집 실행을 하나로 합칩니다.
+ * 같은 정규화 지역 키로 실행 중인 수집이 있으면 새로 시작하지 않고, 그 실행이 끝날 때까지 기다려 결과를 공유합니다.
+ * 기다린 쪽의 진행 상황에는 실행한 쪽의 건수를 더합니다.
+ * (같은 지역을 두 번 다운로드, 보강하고 저장 단계에서 낙관적 락으로 경합하는 것을 막음)
+ */
+@Slf4j
+public class InFlightRegionRuns {
+
+    private final ConcurrentHashMap<String, Run> runs = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 지역의 실행이 진행 중이면 그 결과를, 아니면 task를 실행한 결과를 반환합니다.
+     */
+    public int run(String city, String district, IntSupplier task) {
+        return run(city, district, new IngestionProgress(), task);
+    }
+
+    /**
+     * 같은 지역의 실행이 진행 중이면 그 결과를, 아니면 task를 실행한 결과를 반환합니다.
+     *
+     * @param progress task가 건수를 기록하는 진행 상황 (진행 중인 실행에 합류하면 그 실행이 끝난 뒤 그 건수를 더함)
+     */
+    public int run(String city, String district, IngestionProgress progress, IntSupplier task) {
+        String key = regionKey(city, district);
+        Run own = new Run(new CompletableFuture<>(), progress);
+        Run running = runs.putIfAbsent(key, own);
+        if (running != null) {
+            log.info("같은 지역의 수집이 이미 진행 중입니다. 결과를 기다려 공유합니다: {}", key);
+            try {
+                return running.result().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            } finally {
+                if (running.progress() != progress) {
+                    progress.addAll(running.progress());
+                }
+            }
+        }
+        try {
+            int result = task.getAsInt();
+            own.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            runs.remove(key, own);
+        }
+    }
+
+    /**
+     * 정규화한 지역 키 (앞뒤 공백 제거, 구/군이 없거나 "전체"면 시/도 전체, 국외사업자는 구/군 무시)
+     */
+    public static String regionKey(String city, String district) {
+        String normalizedCity = city == null ? "" : city.trim();
+        String normalizedDistrict = district == null ? "" : district.trim();
+        if ("전체".equals(normalizedDistrict) || "국외사업자".equals(normalizedCity)) {
+            normalizedDistrict = "";
+        }
+        return normalizedCity + ":" + normalizedDistrict;
+    }
+
+    private record Run(CompletableFuture<Integer> result, IngestionProgress progress) {
+    }
+}
@@ -0,0 +1,321 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.domain.IngestionCheckpoint;
+import com.antock.backend.domain.IngestionEnrichedKey;
+import com.antock.backend.repository.BulkWriteResult;
+import com.antock.backend.repository.IngestionCheckpointRepository;
+import com.antock.backend.repository.IngestionEnrichedKeyRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장 대상을 설정된 크기의 청크로 나누어 청크마다 별도 트랜잭션으로 커밋합니다.
+ * 다운로드나 API 호출 동안에는 트랜잭션(DB 커넥션)을 잡지 않도록, 서비스는 저장 단계에서만 이 클래스를 사용합니다.
+ * 청크의 커밋 오프셋은 같은 트랜잭션 안에서 IngestionCheckpoint에 기록됩니다.
+ * 원본 파일 해시와 함께 시작한 세션은 재시작 후 같은 원본으로 다시 시작하면 커밋된 오프셋부터 이어서 기록하며,
+ * 저장할 행 없이 조회가 끝난 키를 기록해 두어 이어서 진행할 때 다시 조회하지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class IngestionChunkCommitter {
+
+    private final TransactionTemplate transactionTemplate;
+    private final IngestionCheckpointRepository checkpointRepository;
+    private final IngestionEnrichedKeyRepository enrichedKeyRepository;
+    private final int chunkSize;
+
+    public IngestionChunkCommitter(
+            PlatformTransactionManager transactionManager,
+            IngestionCheckpointRepository checkpointRepository,
+            IngestionEnrichedKeyRepository enrichedKeyRepository,
+            @Value("${ingestion.commit-chunk-size:500}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("ingestion.commit-chunk-size는 0보다 커야 합니다: " + chunkSize);
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointRepository = checkpointRepository;
+        this.enrichedKeyRepository = enrichedKeyRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 한 청크를 저장하는 함수 (트랜잭션 안에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ChunkWriter {
+        BulkWriteResult write(List<BusinessEntity> chunk);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 저장 대상 전체가 준비된 경우 한 번에 청크 단위로 저장합니다.
+     *
+     * @param sourceKey 체크포인트 키 (수집 단위)
+     * @param entities 저장할 엔티티 목록
+     * @param writer 청크 저장 함수
+     * @return 커밋 결과
+     */
+    public ChunkCommitResult commit(String sourceKey, List<BusinessEntity> entities, ChunkWriter writer) {
+        return commit(sourceKey, entities, writer, new IngestionProgress());
+    }
+
+    /**
+     * @param progress 커밋된 청크의 저장/건너뜀/실패 건수를 반영할 진행 상황
+     */
+    public ChunkCommitResult commit(String sourceKey, List<BusinessEntity> entities, ChunkWriter writer,
+            IngestionProgress progress) {
+        CommitSession session = begin(sourceKey, entities.size(), writer, progress);
+        session.write(entities);
+        return session.finish();
+    }
+
+    /**
+     * 저장 대상이 나누어 도착하는 경우(write-behind 등) 오프셋을 이어서 기록하는 세션을 시작합니다.
+     *
+     * @param sourceKey 체크포인트 키 (수집 단위)
+     * @param expectedRows 예상 행 수 (체크포인트 기록용)
+     * @param writer 청크 저장 함수
+     */
+    public CommitSession begin(String sourceKey, long expectedRows, ChunkWriter writer) {
+        return begin(sourceKey, expectedRows, writer, new IngestionProgress());
+    }
+
+    /**
+     * @param progress 커밋된 청크의 저장/건너뜀/실패 건수를 반영할 진행 상황
+     */
+    public CommitSession begin(String sourceKey, long expectedRows, ChunkWriter writer, IngestionProgress progress) {
+        return begin(sourceKey, null, expectedRows, writer, progress);
+    }
+
+    /**
+     * 같은 원본 파일로 끝나지 않은 실행이 있으면 그 체크포인트를 이어서 기록하고,
+     * 없으면 새로 시작하면서 이전 실행이 남긴 조회 완료 키를 지웁니다.
+     *
+     * @param sourceHash 원본 파일 해시 (null이면 이어서 진행할 수 없는 실행)
+     */
+    public CommitSession begin(String sourceKey, String sourceHash, long expectedRows, ChunkWriter writer,
+            IngestionProgress progress) {
+        Optional<IngestionCheckpoint> resumable = sourceHash == null ? Optional.empty()
+            : findResumable(sourceKey).filter(checkpoint -> sourceHash.equals(checkpoint.getSourceHash()));
+        IngestionCheckpoint checkpoint;
+        if (resumable.isPresent()) {
+            checkpoint = resumable.get();
+            checkpoint.resume(expectedRows);
+            saveCheckpoint(checkpoint);
+            log.info("체크포인트에서 이어서 진행 [{}]: 커밋된 오프셋 {}", sourceKey, checkpoint.getCommittedOffset());
+        } else {
+            checkpoint = IngestionCheckpoint.start(sourceKey, expectedRows, sourceHash);
+            transactionTemplate.executeWithoutResult(status -> {
+                enrichedKeyRepository.deleteBySourceKey(sourceKey);
+                checkpointRepository.save(checkpoint);
+            });
+        }
+        return new CommitSession(checkpoint, writer, progress);
+    }
+
+    /**
+     * 원본 파일 해시가 기록된 끝나지 않은 체크포인트를 찾습니다.
+     */
+    public Optional<IngestionCheckpoint> findResumable(String sourceKey) {
+        return checkpointRepository.findById(sourceKey).filter(IngestionCheckpoint::isResumable);
+    }
+
+    /**
+     * 끝나지 않은 실행에서 저장할 행 없이 조회가 끝난 키 (사업자등록번호)
+     */
+    public Set<String> findEnrichedKeys(String sourceKey) {
+        return new HashSet<>(enrichedKeyRepository.findBusinessNumbersBySourceKey(sourceKey));
+    }
+
+    /**
+     * 한 수집 실행의 커밋 세션
+     * write/finish는 한 스레드에서만 호출하고, recordEnriched는 보강 작업 스레드에서 동시에 호출할 수 있습니다.
+     */
+    public class CommitSession {
+
+        private final IngestionCheckpoint checkpoint;
+        private final ChunkWriter writer;
+        private final IngestionProgress progress;
+        private final Map<String, String> failedRows = new LinkedHashMap<>();
+        private final Queue<String> pendingEnrichedKeys = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingEnrichedCount = new AtomicInteger();
+        private BulkWriteResult written = BulkWriteResult.empty();
+        private long offset;
+        private boolean aborted;
+
+        private CommitSession(IngestionCheckpoint checkpoint, ChunkWriter writer, IngestionProgress progress) {
+            this.checkpoint = checkpoint;
+            this.writer = writer;
+            this.progress = progress;
+            this.offset = checkpoint.getCommittedOffset();
+        }
+
+        /**
+         * 저장할 행 없이 조회가 끝난 키를 기록합니다.
+         * 청크가 커밋될 때마다 별도 트랜잭션으로 기록하며, 그 전에 청크 크기만큼 쌓이면 바로 기록합니다.
+         * (키 기록이 실패해도 청크 커밋에는 영향을 주지 않음)
+         */
+        public void recordEnriched(String businessNumber) {
+            if (checkpoint.getSourceHash() == null) {
+                return;
+            }
+            pendingEnrichedKeys.add(businessNumber);
+            if (pendingEnrichedCount.incrementAndGet() >= chunkSize) {
+                flushEnrichedKeysQuietly();
+            }
+        }
+
+        /**
+         * 청크 단위로 저장합니다.
+         * 청크 커밋이 실패하면 해당 청크만 롤백하고 행 단위로 다시 시도하며,
+         * 청크의 모든 행이 실패하면 (DB 장애 등) 중단하고 이후 호출은 저장하지 않습니다.
+         */
+        public void write(List<BusinessEntity> entities) {
+            String sourceKey = checkpoint.getSourceKey();
+            for (int from = 0; from < entities.size() && !aborted; from += chunkSize) {
+                List<BusinessEntity> chunk = entities.subList(from, Math.min(from + chunkSize, entities.size()));
+                long start = offset;
+                long end = offset + chunk.size();
+                try {
+                    BulkWriteResult result = transactionTemplate.execute(status -> {
+                        BulkWriteResult chunkResult = writer.write(chunk);
+                        checkpoint.markCommitted(end);
+                        checkpointRepository.save(checkpoint);
+                        return chunkResult;
+                    });
+                    written = written.plus(result);
+                    progress.addCommitted(result.getInserted(), result.getSkipped(), 0);
+                    offset = end;
+                    flushEnrichedKeysQuietly();
+                    log.info("청크 커밋 완료 [{}]: {}/{} (현재/전체)", sourceKey, end, checkpoint.getTotalRows());
+                } catch (Exception e) {
+                    checkpoint.markCommitted(start);
+                    log.warn("청크 커밋 실패 [{}] {}~{}. 행 단위로 재시도합니다: {}", sourceKey, start, end, e.getMessage());
+
+                    BulkWriteResult rowResult = writeRowByRow(chunk);
+                    written = written.plus(rowResult);
+                    progress.addCommitted(rowResult.getInserted(), rowResult.getSkipped(),
+                        chunk.size() - rowResult.getRequested());
+                    if (rowResult.getRequested() == 0) {
+                        aborted = true;
+                        checkpoint.fail();
+                        saveCheckpointQuietly(checkpoint);
+                        log.error("청크의 모든 행 저장 실패 [{}]. 커밋된 오프셋 {}에서 중단합니다.", sourceKey, start);
+                        return;
+                    }
+                    offset = end;
+                    checkpoint.markCommitted(end);
+                    saveCheckpointQuietly(checkpoint);
+                }
+            }
+        }
+
+        public boolean isAborted() {
+            return aborted;
+        }
+
+        /**
+         * 세션을 끝내고 결과를 반환합니다.
+         * 중단되지 않았다면 체크포인트를 완료로 기록하고 더 필요 없는 조회 완료 키를 지우며,
+         * 중단되었다면 이어서 진행할 수 있도록 남은 조회 완료 키를 기록합니다.
+         */
+        public ChunkCommitResult finish() {
+            if (!aborted) {
+                checkpoint.complete();
+                pendingEnrichedKeys.clear();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (checkpoint.getSourceHash() != null) {
+                            enrichedKeyRepository.deleteBySourceKey(checkpoint.getSourceKey());
+                        }
+                        checkpointRepository.save(checkpoint);
+                    });
+                } catch (Exception e) {
+                    log.warn("체크포인트 기록 실패 [{}]: {}", checkpoint.getSourceKey(), e.getMessage());
+                }
+            } else {
+                flushEnrichedKeysQuietly();
+            }
+            return new ChunkCommitResult(written, failedRows, offset, aborted);
+        }
+
+        private synchronized List<String> drainEnrichedKeys() {
+            List<String> keys = new ArrayList<>();
+            String key;
+            while ((key = pendingEnrichedKeys.poll()) != null) {
+                keys.add(key);
+            }
+            pendingEnrichedCount.addAndGet(-keys.size());
+            return keys;
+        }
+
+        private void saveEnrichedKeys(List<String> keys) {
+            if (keys.isEmpty()) {
+                return;
+            }
+            String sourceKey = checkpoint.getSourceKey();
+            enrichedKeyRepository.saveAll(keys.stream()
+                .map(businessNumber -> IngestionEnrichedKey.of(sourceKey, businessNumber))
+                .toList());
+        }
+
+        /**
+         * 조회 완료 키 기록이 실패해도 수집은 계속합니다 (이어서 진행할 때 해당 키를 다시 조회할 뿐).
+         */
+        private void flushEnrichedKeysQuietly() {
+            List<String> keys = drainEnrichedKeys();
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveEnrichedKeys(keys));
+            } catch (Exception e) {
+                log.warn("조회 완료 키 기록 실패 [{}]: {}개, 이유: {}",
+                    checkpoint.getSourceKey(), keys.size(), e.getMessage());
+            }
+        }
+
+        private BulkWriteResult writeRowByRow(List<BusinessEntity> chunk) {
+            BulkWriteResult rowsWritten = BulkWriteResult.empty();
+            for (BusinessEntity entity : chunk) {
+                try {
+                    rowsWritten = rowsWritten.plus(transactionTemplate.execute(status -> writer.write(List.of(entity))));
+                } catch (Exception e) {
+                    failedRows.put(entity.getMailOrderSalesNumber(),
+                        e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+                    log.warn("개별 저장 실패: {}, 이유: {}", entity.getMailOrderSalesNumber(), e.getMessage());
+                }
+            }
+            return rowsWritten;
+        }
+    }
+
+    private void saveCheckpoint(IngestionCheckpoint checkpoint) {
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.save(checkpoint));
+    }
+
+    /**
+     * 체크포인트 기록 실패가 이미 커밋된 데이터 처리 결과를 바꾸지 않도록 로그만 남깁니다.
+     */
+    private void saveCheckpointQuietly(IngestionCheckpoint checkpoint) {
+        try {
+            saveCheckpoint(checkpoint);
+        } catch (Exception e) {
+            log.warn("체크포인트 기록 실패 [{}]: {}", checkpoint.getSourceKey(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.antock.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기로 실행하는 수집 작업 한 건
+ * 진행 상황은 실행 스레드가 갱신하고, 상태 조회 요청은 락 없이 현재 값을 읽습니다.
+ */
+public class IngestionJob {
+
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private final String id;
+    private final String city;
+    private final String district;
+    private final int regionCount;
+    private final AtomicInteger regionsCompleted = new AtomicInteger();
+    private final AtomicInteger regionsFailed = new AtomicInteger();
+    private final IngestionProgress progress = new IngestionProgress();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile State terminalState;
+    private volatile Integer processedCount;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    public IngestionJob(String id, String city, String district) {
+        this(id, city, district, 1);
+    }
+
+    /**
+     * 여러 지역을 한 작업으로 수집하는 일괄 작업 (city, district는 null)
+     */
+    public IngestionJob(String id, int regionCount) {
+        this(id, null, null, regionCount);
+    }
+
+    private IngestionJob(String id, String city, String district, int regionCount) {
+        this.id = id;
+        this.city = city;
+        this.district = district;
+        this.regionCount = regionCount;
+    }
+
+    /**
+     * 일괄 작업에서 지역 하나가 끝났음을 기록합니다.
+     */
+    void regionFinished(boolean failed) {
+        regionsCompleted.incrementAndGet();
+        if (failed) {
+            regionsFailed.incrementAndGet();
+        }
+    }
+
+    /**
+     * 작업이 성공적으로 끝났음을 기록합니다.
+     */
+    void succeed(int processedCount) {
+        this.processedCount = processedCount;
+        complete(State.SUCCEEDED);
+    }
+
+    /**
+     * 작업이 실패했음을 기록합니다.
+     */
+    void fail(Throwable cause) {
+        this.error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        complete(State.FAILED);
+    }
+
+    private void complete(State state) {
+        // 단건 작업은 작업 종료가 곧 지역 하나의 종료
+        if (city != null && regionsCompleted.get() == 0) {
+            regionFinished(state == State.FAILED);
+        }
+        progress.finish();
+        finishedAt = LocalDateTime.now();
+        terminalState = state;
+    }
+
+    /**
+     * 끝난 작업이면 결과 상태, 실행 스레드가 첫 단계에 들어가기 전이면 QUEUED, 그 외에는 RUNNING
+     */
+    public State getState() {
+        State state = terminalState;
+        if (state != null) {
+            return state;
+        }
+        return progress.getStage() == IngestionProgress.Stage.QUEUED ? State.QUEUED : State.RUNNING;
+    }
+
+    public boolean isFinished() {
+        return terminalState != null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    public int getRegionsCompleted() {
+        return regionsCompleted.get();
+    }
+
+    public int getRegionsFailed() {
+        return regionsFailed.get();
+    }
+
+    public IngestionProgress getProgress() {
+        return progress;
+    }
+
+    public Integer getProcessedCount() {
+        return processedCount;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.antock.backend.service;
+
+import java.util.Optional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface IngestionJobEventService {
+    /**
+     * 작업 진행 상황을 일정 주기로 보내는 SSE 스트림을 엽니다.
+     * 작업이 실행 중이면 "progress" 이벤트를, 끝나면 최종 값으로 "finished" 이벤트를 한 번 보내고 스트림을 닫습니다.
+     *
+     * @param jobId 작업 id
+     * @return SSE 스트림, 작업이 없으면 empty
+     */
+    Optional<SseEmitter> subscribe(String jobId);
+}
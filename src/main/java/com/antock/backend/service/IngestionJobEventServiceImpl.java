@@ -0,0 +1,81 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.IngestionJobResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 수집 작업 진행 이벤트(SSE) 전송
+ * 이벤트 내용은 파이프라인이 이미 갱신하는 IngestionProgress의 LongAdder를 전송 주기마다 읽어서 만들므로,
+ * 구독자가 있어도 보강, 저장 스레드에는 추가 작업이 없습니다.
+ */
+@Slf4j
+@Service
+public class IngestionJobEventServiceImpl implements IngestionJobEventService {
+
+    private final IngestionJobService ingestionJobService;
+    private final TaskScheduler progressEventScheduler;
+    private final Duration interval;
+    private final long timeoutMillis;
+
+    public IngestionJobEventServiceImpl(
+            IngestionJobService ingestionJobService,
+            @Qualifier("progressEventScheduler") TaskScheduler progressEventScheduler,
+            @Value("${ingestion.jobs.events.interval-ms:1000}") long intervalMillis,
+            @Value("${ingestion.jobs.events.timeout-minutes:60}") long timeoutMinutes) {
+        this.ingestionJobService = ingestionJobService;
+        this.progressEventScheduler = progressEventScheduler;
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+    }
+
+    @Override
+    public Optional<SseEmitter> subscribe(String jobId) {
+        return ingestionJobService.find(jobId).map(this::stream);
+    }
+
+    private SseEmitter stream(IngestionJob job) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AtomicReference<ScheduledFuture<?>> tick = new AtomicReference<>();
+        Runnable stop = () -> {
+            ScheduledFuture<?> future = tick.get();
+            if (future != null) {
+                future.cancel(false);
+            }
+        };
+        emitter.onCompletion(stop);
+        emitter.onTimeout(stop);
+        emitter.onError(error -> stop.run());
+
+        tick.set(progressEventScheduler.scheduleAtFixedRate(() -> push(job, emitter, stop), interval));
+        return emitter;
+    }
+
+    private void push(IngestionJob job, SseEmitter emitter, Runnable stop) {
+        // 종료 여부를 먼저 읽어야 마지막 이벤트에 최종 건수가 담김
+        boolean finished = job.isFinished();
+        try {
+            emitter.send(SseEmitter.event()
+                .name(finished ? "finished" : "progress")
+                .data(IngestionJobResponse.from(job)));
+            if (finished) {
+                stop.run();
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊겼거나 이미 닫힌 스트림
+            log.debug("진행 이벤트 전송 중단 - jobId: {}, error: {}", job.getId(), e.getMessage());
+            stop.run();
+        }
+    }
+}
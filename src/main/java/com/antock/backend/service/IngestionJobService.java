@@ -0,0 +1,37 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.BusinessEntityRequest;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestionJobService {
+    /**
+     * 수집 작업을 비동기 실행 풀에 등록하고 바로 반환합니다.
+     * 국외사업자 요청은 국외사업자 서비스로, 그 외에는 국내 사업자 서비스로 라우팅합니다.
+     * 같은 지역(앞뒤 공백, "전체" 구/군을 정규화한 키)의 작업이 실행 중이면 새로 시작하지 않고 그 작업을 반환합니다.
+     *
+     * @param city 시/도 (국외사업자인 경우 "국외사업자")
+     * @param district 구/군
+     * @return 등록된 작업, 또는 이미 실행 중인 같은 지역의 작업
+     * @throws org.springframework.core.task.TaskRejectedException 실행 풀과 대기열이 가득 찬 경우
+     */
+    IngestionJob submit(String city, String district);
+
+    /**
+     * 여러 지역을 한 작업으로 등록합니다. 지역은 순서대로 보강하고, 다음 지역의 다운로드와 파싱은 미리 진행합니다.
+     *
+     * @param regions 수집할 지역 (비어 있으면 모든 국내 시/도 전체)
+     * @return 등록된 작업 (일괄 작업에는 같은 지역 작업 합치기를 적용하지 않음)
+     * @throws IllegalArgumentException 시/도가 없는 지역이 있는 경우
+     * @throws org.springframework.core.task.TaskRejectedException 실행 풀과 대기열이 가득 찬 경우
+     */
+    IngestionJob submitBatch(List<BusinessEntityRequest> regions);
+
+    /**
+     * 작업 id로 작업을 조회합니다. 끝난 뒤 보관 시간이 지난 작업은 조회되지 않습니다.
+     *
+     * @param jobId 작업 id
+     * @return 작업, 없으면 empty
+     */
+    Optional<IngestionJob> find(String jobId);
+}
@@ -0,0 +1,131 @@
+package com.antock.backend.service;
+
+import com.antock.backend.client.FtcCsvClient;
+import com.antock.backend.dto.BusinessEntityRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class IngestionJobServiceImpl implements IngestionJobService {
+
+    private final DomesticBusinessEntityService domesticBusinessEntityService;
+    private final OverseasBusinessEntityService overseasBusinessEntityService;
+    private final RegionBatchIngestor regionBatchIngestor;
+    private final FtcCsvClient ftcCsvClient;
+    private final Executor taskExecutor;
+    private final long retentionMinutes;
+
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+    // 정규화 지역 키 -> 실행 중인 단건 작업 (같은 지역 요청은 새 작업 대신 이 작업에 연결)
+    private final Map<String, IngestionJob> runningByRegion = new ConcurrentHashMap<>();
+
+    public IngestionJobServiceImpl(
+            DomesticBusinessEntityService domesticBusinessEntityService,
+            OverseasBusinessEntityService overseasBusinessEntityService,
+            RegionBatchIngestor regionBatchIngestor,
+            FtcCsvClient ftcCsvClient,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            @Value("${ingestion.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.domesticBusinessEntityService = domesticBusinessEntityService;
+        this.overseasBusinessEntityService = overseasBusinessEntityService;
+        this.regionBatchIngestor = regionBatchIngestor;
+        this.ftcCsvClient = ftcCsvClient;
+        this.taskExecutor = taskExecutor;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    @Override
+    public IngestionJob submit(String city, String district) {
+        evictExpired();
+
+        String regionKey = InFlightRegionRuns.regionKey(city, district);
+        IngestionJob created = new IngestionJob(UUID.randomUUID().toString(), city, district);
+        IngestionJob job = runningByRegion.compute(regionKey,
+            (key, running) -> running != null && !running.isFinished() ? running : created);
+        if (job != created) {
+            log.info("같은 지역의 작업이 이미 실행 중 - 기존 작업에 연결합니다. jobId: {}, region: {}", job.getId(), regionKey);
+            return job;
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            BusinessEntityService service = "국외사업자".equals(city)
+                ? overseasBusinessEntityService
+                : domesticBusinessEntityService;
+            CompletableFuture<Integer> future = service.processBusinessEntitiesAsync(city, district, job.getProgress());
+            track(job, future);
+            future.whenComplete((processedCount, error) -> runningByRegion.remove(regionKey, job));
+        } catch (RuntimeException e) {
+            // 실행 풀이 가득 차 등록이 거절되면 작업을 남기지 않음
+            jobs.remove(job.getId());
+            runningByRegion.remove(regionKey, job);
+            throw e;
+        }
+        log.info("수집 작업 등록 - jobId: {}, city: {}, district: {}", job.getId(), city, district);
+        return job;
+    }
+
+    @Override
+    public IngestionJob submitBatch(List<BusinessEntityRequest> regions) {
+        List<BusinessEntityRequest> targets = regions == null || regions.isEmpty()
+            ? ftcCsvClient.getDomesticCities().stream().map(city -> new BusinessEntityRequest(city, "")).toList()
+            : List.copyOf(regions);
+        for (BusinessEntityRequest region : targets) {
+            if (region == null || region.getCity() == null || region.getCity().isBlank()) {
+                throw new IllegalArgumentException("시/도가 없는 지역이 포함되어 있습니다.");
+            }
+        }
+        evictExpired();
+
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), targets.size());
+        jobs.put(job.getId(), job);
+        try {
+            track(job, CompletableFuture.supplyAsync(() -> regionBatchIngestor.ingest(targets, job), taskExecutor));
+        } catch (RuntimeException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        log.info("일괄 수집 작업 등록 - jobId: {}, 지역 수: {}", job.getId(), targets.size());
+        return job;
+    }
+
+    @Override
+    public Optional<IngestionJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void track(IngestionJob job, CompletableFuture<Integer> future) {
+        future.whenComplete((processedCount, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                job.fail(cause);
+                log.warn("수집 작업 실패 - jobId: {}, error: {}", job.getId(), cause.getMessage());
+            } else {
+                job.succeed(processedCount);
+                log.info("수집 작업 완료 - jobId: {}, 처리 건수: {}, 소요 시간: {}ms",
+                    job.getId(), processedCount, job.getProgress().getElapsedMillis());
+            }
+        });
+    }
+
+    /**
+     * 끝난 뒤 보관 시간이 지난 작업을 제거합니다. (작업 등록 시마다 수행)
+     */
+    private void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
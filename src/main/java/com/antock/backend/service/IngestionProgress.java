@@ -0,0 +1,205 @@
+package com.antock.backend.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 수집 실행의 단계별 진행 상황
+ * 파이프라인의 여러 스레드(보강 작업, write-behind 쓰기 스레드)가 동시에 갱신하므로 LongAdder로 집계하며,
+ * 조회하는 쪽은 락 없이 현재 값을 읽습니다.
+ * 일괄 작업은 지역마다 {@link #child()}를 만들어 지역별 건수를 따로 두면서 작업 전체 건수에도 함께 더합니다.
+ */
+public class IngestionProgress {
+
+    public enum Stage {
+        QUEUED, DOWNLOADING, PARSING, ENRICHING, SAVING, FINISHED
+    }
+
+    private final LongAdder rowsParsed = new LongAdder();
+    private final LongAdder lookupsCompleted = new LongAdder();
+    private final LongAdder lookupsFailed = new LongAdder();
+    private final LongAdder lookupsCached = new LongAdder();
+    private final LongAdder lookupsDenied = new LongAdder();
+    private final LongAdder rowsSaved = new LongAdder();
+    private final LongAdder rowsSkipped = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+
+    private volatile Stage stage = Stage.QUEUED;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    // 건수를 함께 더할 상위 진행 상황 (일괄 작업 전체), 없으면 null
+    private final IngestionProgress parent;
+
+    public IngestionProgress() {
+        this(null);
+    }
+
+    private IngestionProgress(IngestionProgress parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 건수는 이 진행 상황에도 함께 더하고 단계와 경과 시간은 따로 기록하는 하위 진행 상황을 만듭니다.
+     */
+    public IngestionProgress child() {
+        return new IngestionProgress(this);
+    }
+
+    /**
+     * 다른 실행의 건수를 더합니다 (진행 중인 같은 지역의 수집에 합류한 경우 그 실행의 결과를 반영).
+     */
+    public void addAll(IngestionProgress other) {
+        addRowsParsed(other.getRowsParsed());
+        addLookups(other.getLookupsCompleted(), other.getLookupsFailed(), other.getLookupsCached(),
+            other.getLookupsDenied());
+        addCommitted(other.getRowsSaved(), other.getRowsSkipped(), other.getRowsFailed());
+    }
+
+    /**
+     * 다음 단계로 넘어갑니다. 첫 단계에 들어갈 때 경과 시간 측정을 시작합니다.
+     */
+    public void enter(Stage next) {
+        if (startedNanos == 0) {
+            startedNanos = System.nanoTime();
+        }
+        stage = next;
+    }
+
+    /**
+     * 실행이 끝났음을 기록합니다. 이후 경과 시간과 처리율은 종료 시점 기준으로 고정됩니다.
+     */
+    public void finish() {
+        if (startedNanos == 0) {
+            startedNanos = System.nanoTime();
+        }
+        finishedNanos = System.nanoTime();
+        stage = Stage.FINISHED;
+    }
+
+    public void addRowsParsed(long count) {
+        rowsParsed.add(count);
+        if (parent != null) {
+            parent.addRowsParsed(count);
+        }
+    }
+
+    public void lookupCompleted() {
+        addLookups(1, 0, 0, 0);
+    }
+
+    public void lookupFailed() {
+        addLookups(0, 1, 0, 0);
+    }
+
+    /**
+     * 이미 저장된 키라서 외부 API를 호출하지 않고 건너뛴 조회
+     */
+    public void lookupCached() {
+        addLookups(0, 0, 1, 0);
+    }
+
+    /**
+     * 오늘 호출 한도를 다 써서 외부 API를 호출하지 않고 건너뛴 조회
+     */
+    public void lookupDenied() {
+        addLookups(0, 0, 0, 1);
+    }
+
+    private void addLookups(long completed, long failed, long cached, long denied) {
+        lookupsCompleted.add(completed);
+        lookupsFailed.add(failed);
+        lookupsCached.add(cached);
+        lookupsDenied.add(denied);
+        if (parent != null) {
+            parent.addLookups(completed, failed, cached, denied);
+        }
+    }
+
+    /**
+     * 커밋된 청크 결과를 반영합니다.
+     */
+    public void addCommitted(long saved, long skipped, long failed) {
+        rowsSaved.add(saved);
+        rowsSkipped.add(skipped);
+        rowsFailed.add(failed);
+        if (parent != null) {
+            parent.addCommitted(saved, skipped, failed);
+        }
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.sum();
+    }
+
+    public long getLookupsCompleted() {
+        return lookupsCompleted.sum();
+    }
+
+    public long getLookupsFailed() {
+        return lookupsFailed.sum();
+    }
+
+    public long getLookupsCached() {
+        return lookupsCached.sum();
+    }
+
+    public long getLookupsDenied() {
+        return lookupsDenied.sum();
+    }
+
+    /**
+     * 전체 조회 대상 중 외부 API 호출 없이 처리한 비율 (0.0 ~ 1.0), 조회가 없으면 0
+     */
+    public double getLookupCacheHitRate() {
+        long cached = lookupsCached.sum();
+        long total = cached + lookupsCompleted.sum() + lookupsFailed.sum();
+        return total > 0 ? (double) cached / total : 0.0;
+    }
+
+    public long getRowsSaved() {
+        return rowsSaved.sum();
+    }
+
+    public long getRowsSkipped() {
+        return rowsSkipped.sum();
+    }
+
+    public long getRowsFailed() {
+        return rowsFailed.sum();
+    }
+
+    /**
+     * 첫 단계 시작부터 현재(끝났으면 종료 시점)까지의 경과 시간, 시작 전이면 0
+     */
+    public long getElapsedMillis() {
+        long started = startedNanos;
+        if (started == 0) {
+            return 0;
+        }
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        return (end - started) / 1_000_000;
+    }
+
+    /**
+     * 초당 저장 처리 행 수 (저장, 건너뜀, 실패 모두 포함)
+     */
+    public double getRowsPerSecond() {
+        return perSecond(rowsSaved.sum() + rowsSkipped.sum() + rowsFailed.sum());
+    }
+
+    /**
+     * 초당 외부 API 조회 수 (성공, 실패 모두 포함)
+     */
+    public double getLookupsPerSecond() {
+        return perSecond(lookupsCompleted.sum() + lookupsFailed.sum());
+    }
+
+    private double perSecond(long count) {
+        long elapsedMillis = getElapsedMillis();
+        return elapsedMillis > 0 ? count * 1000.0 / elapsedMillis : 0.0;
+    }
+}
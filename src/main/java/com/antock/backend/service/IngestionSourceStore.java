@@ -0,0 +1,106 @@
+package com.antock.backend.service;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 중인 원본 파일을 내용 해시(SHA-256) 이름으로 보관합니다.
+ * 실행이 중간에 끊기면 재시작 후 같은 원본을 다시 내려받지 않고 이 파일로 이어서 진행하며,
+ * 실행이 완료되면 파일을 삭제합니다.
+ */
+@Slf4j
+@Component
+public class IngestionSourceStore {
+
+    private static final String SUFFIX = ".csv";
+
+    private final Path sourceDir;
+
+    public IngestionSourceStore(
+            @Value("${ingestion.checkpoint.source-dir:./data/sources}") String sourceDir) {
+        this.sourceDir = Paths.get(sourceDir);
+    }
+
+    /**
+     * 원본 내용을 보관하고 해시를 반환합니다.
+     * 보관에 실패해도 해시는 반환합니다 (재시작 후 같은 원본을 다시 내려받으면 해시로 이어서 진행할 수 있음).
+     */
+    public String save(byte[] content) {
+        String hash = hash(content);
+        Path file = sourceDir.resolve(hash + SUFFIX);
+        try {
+            Files.createDirectories(sourceDir);
+            if (Files.exists(file)) {
+                return hash;
+            }
+            // 쓰다가 끊긴 파일이 해시 이름으로 남지 않도록 임시 파일에 쓴 뒤 이동
+            Path temp = Files.createTempFile(sourceDir, hash, ".tmp");
+            try {
+                Files.write(temp, content);
+                moveAtomically(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("원본 파일 보관 실패: {}, 이유: {}", file, e.getMessage());
+        }
+        return hash;
+    }
+
+    /**
+     * 보관된 원본을 읽습니다. 파일이 없거나 내용이 해시와 다르면 비어 있는 값을 반환합니다.
+     */
+    public Optional<byte[]> load(String hash) {
+        Path file = sourceDir.resolve(hash + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] content = Files.readAllBytes(file);
+            if (!hash.equals(hash(content))) {
+                log.warn("보관된 원본 파일의 해시가 다릅니다. 사용하지 않습니다: {}", file);
+                return Optional.empty();
+            }
+            return Optional.of(content);
+        } catch (IOException e) {
+            log.warn("보관된 원본 파일 읽기 실패: {}, 이유: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void delete(String hash) {
+        Path file = sourceDir.resolve(hash + SUFFIX);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("보관된 원본 파일 삭제 실패: {}, 이유: {}", file, e.getMessage());
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.antock.backend.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공공데이터포털 통신판매사업자 조회 API의 일일 호출 한도
+ * 모든 수집 실행(단건, 일괄)이 같은 한도를 나눠 쓰며, 날짜가 바뀌면(한국 시간 기준) 다시 채워집니다.
+ * API가 한도 초과를 응답하면 남은 호출을 바로 소진 처리해 나머지 조회가 네트워크를 타지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class LookupQuota {
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final int dailyLimit;
+    private final AtomicInteger used = new AtomicInteger();
+    private volatile LocalDate day;
+
+    public LookupQuota(@Value("${ingestion.lookup.daily-quota:10000}") int dailyLimit) {
+        this.dailyLimit = dailyLimit;
+        this.day = today();
+    }
+
+    /**
+     * 호출 한 건을 예약합니다.
+     *
+     * @return 한도 안이면 true, 오늘 한도를 다 썼으면 false
+     */
+    public boolean tryAcquire() {
+        rollOver();
+        while (true) {
+            int current = used.get();
+            if (current >= dailyLimit) {
+                return false;
+            }
+            if (used.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * API가 한도 초과를 응답한 경우 오늘 남은 호출을 모두 소진 처리합니다.
+     */
+    public void markExhausted() {
+        rollOver();
+        if (used.getAndSet(dailyLimit) < dailyLimit) {
+            log.warn("API 호출 한도 초과 응답 - 오늘 남은 조회를 모두 건너뜁니다.");
+        }
+    }
+
+    /**
+     * 오늘 남은 호출 수
+     */
+    public int remaining() {
+        rollOver();
+        return Math.max(0, dailyLimit - used.get());
+    }
+
+    /**
+     * 하루 호출 한도
+     */
+    public int getDailyLimit() {
+        return dailyLimit;
+    }
+
+    private void rollOver() {
+        LocalDate today = today();
+        if (!today.equals(day)) {
+            synchronized (this) {
+                if (!today.equals(day)) {
+                    used.set(0);
+                    day = today;
+                }
+            }
+        }
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(QUOTA_ZONE);
+    }
+}
@@ -0,0 +1,25 @@
+package com.antock.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 지역의 예약 갱신 (ingestion.refresh.enabled=true일 때만 등록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ingestion.refresh.enabled", havingValue = "true")
+public class NightlyRefreshScheduler {
+
+    private final RegionRefreshService regionRefreshService;
+
+    @Scheduled(cron = "${ingestion.refresh.cron:0 0 2 * * *}", zone = "${ingestion.refresh.zone:Asia/Seoul}")
+    public void refresh() {
+        log.info("예약 갱신 실행");
+        regionRefreshService.refreshAll();
+    }
+}
@@ -18,7 +18,8 @@ public interface OverseasBusinessEntityService extends BusinessEntityService {
      * 
      * @param country 국가 코드 (예: "국외사업자")
      * @param additionalInfo 추가 정보 (예: "전체")
+     * @param progress 단계와 건수를 기록할 진행 상황
      * @return 처리된 엔티티 수를 포함하는 CompletableFuture
      */
-    CompletableFuture<Integer> processBusinessEntitiesAsync(String country, String additionalInfo);
+    CompletableFuture<Integer> processBusinessEntitiesAsync(String country, String additionalInfo, IngestionProgress progress);
 }
\ No newline at end of file
@@ -3,83 +3,144 @@ package com.antock.backend.service;
 import com.antock.backend.client.ApiClient;
 import com.antock.backend.domain.BusinessEntity;
 import com.antock.backend.dto.BusinessEntityDto;
+import com.antock.backend.repository.BulkWriteResult;
+import com.antock.backend.repository.BusinessEntitySearch;
 import com.antock.backend.repository.BusinessEntityStorage;
+import java.time.LocalDateTime;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntityService {
+    // 저장된 국외사업자를 비교용으로 읽을 때의 fetch size
+    private static final int STORED_SCAN_FETCH_SIZE = 1000;
+
+    /**
+     * 저장 방식
+     * insert-only: 새 통신판매번호만 추가 (이미 있는 행은 건너뜀)
+     * delta: 저장된 행과 비교해 추가, 변경, soft-delete를 모두 반영
+     */
+    public enum WriteMode {
+        INSERT_ONLY, DELTA
+    }
+
     private final BusinessEntityStorage businessEntityStorage;
-    private final RestTemplate restTemplate;
+    private final OverseasXlsDownloader overseasXlsDownloader;
+    private final IngestionChunkCommitter chunkCommitter;
+    private final OverseasXlsParser overseasXlsParser;
+    private final WriteMode writeMode;
+    private final double maxDeleteRatio;
+    private final InFlightRegionRuns inFlightRuns = new InFlightRegionRuns();
 
-    public OverseasBusinessEntityServiceImpl(BusinessEntityStorage businessEntityStorage, RestTemplate restTemplate) {
+    public OverseasBusinessEntityServiceImpl(BusinessEntityStorage businessEntityStorage,
+            OverseasXlsDownloader overseasXlsDownloader, IngestionChunkCommitter chunkCommitter,
+            OverseasXlsParser overseasXlsParser,
+            @Value("${ingestion.overseas.write-mode:delta}") String writeMode,
+            @Value("${ingestion.overseas.delta.max-delete-ratio:0.2}") double maxDeleteRatio) {
         this.businessEntityStorage = businessEntityStorage;
-        this.restTemplate = restTemplate;
+        this.overseasXlsDownloader = overseasXlsDownloader;
+        this.chunkCommitter = chunkCommitter;
+        this.overseasXlsParser = overseasXlsParser;
+        this.writeMode = WriteMode.valueOf(writeMode.replace('-', '_').toUpperCase(Locale.ROOT));
+        this.maxDeleteRatio = maxDeleteRatio;
     }
 
+    /**
+     * 다운로드와 파싱 동안에는 트랜잭션을 열지 않고, 저장 단계에서만 청크 단위로 커밋합니다.
+     */
     @Override
-    @Transactional
     public int processBusinessEntities(String country, String additionalInfo) {
+        return processBusinessEntities(country, additionalInfo, new IngestionProgress());
+    }
+
+    /**
+     * 이미 진행 중인 국외사업자 수집이 있으면 새로 시작하지 않고 그 결과를 공유합니다.
+     */
+    @Override
+    public int processBusinessEntities(String country, String additionalInfo, IngestionProgress progress) {
         // 국외사업자 요청 확인
         if (!"국외사업자".equals(country)) {
             log.error("지원되지 않는 국가 코드: {}", country);
             return 0;
         }
+        return inFlightRuns.run(country, additionalInfo, progress, () -> ingest(progress));
+    }
 
+    private int ingest(IngestionProgress progress) {
         log.info("국외사업자 데이터 처리 시작");
         
         try {
-            // 국외사업자 XLS 파일 다운로드
-            String overseasUrl = "https://www.ftc.go.kr/www/downloadBizOutnatn.do?key=255";
-            InputStream xlsStream = downloadOverseasXlsFile(overseasUrl);
+            // 국외사업자 XLS 파일 다운로드 (임시 파일, 마지막 수집 파일 기준 조건부 요청)
+            progress.enter(IngestionProgress.Stage.DOWNLOADING);
+            OverseasXlsDownloader.Download download = overseasXlsDownloader.acquire();
             
-            if (xlsStream == null) {
+            if (download == null) {
                 log.error("국외사업자 XLS 파일 다운로드 실패");
                 return 0;
             }
             
+            if (download.isUnchanged()) {
+                log.info("국외사업자 데이터 처리 결과: unchanged (마지막 수집 이후 변경 없음). 파싱과 저장을 건너뜁니다.");
+                return 0;
+            }
+            
             log.info("국외사업자 XLS 파일 다운로드 성공. 다음 프로세스를 진행합니다...");
             
-            // XLS 파일 파싱하여 국외사업자 정보 추출
-            List<BusinessEntityDto> overseasEntities = parseOverseasXls(xlsStream);
+            // XLS 파일 파싱하여 국외사업자 정보 추출 (실패하면 다음 실행을 위해 파일 보관)
+            progress.enter(IngestionProgress.Stage.PARSING);
+            List<BusinessEntityDto> overseasEntities;
+            try {
+                overseasEntities = overseasXlsParser.parse(download.getFile());
+            } catch (Exception e) {
+                log.error("국외사업자 XLS 파일 파싱 중 오류 발생: {}", e.getMessage(), e);
+                overseasXlsDownloader.retain(download);
+                return 0;
+            }
+            overseasXlsDownloader.release(download);
+            progress.addRowsParsed(overseasEntities.size());
             
             if (overseasEntities.isEmpty()) {
                 log.info("국외사업자 데이터가 없습니다.");
+                overseasXlsDownloader.markIngested(download);
                 return 0;
             }
             
             log.info("국외사업자 파싱 완료. 총 {}개의 국외사업자가 발견되었습니다.", overseasEntities.size());
             
+            if (writeMode == WriteMode.DELTA) {
+                DeltaResult deltaResult = syncDelta(overseasEntities, progress);
+                // 삭제를 막은 경우에도 기록하지 않아 다음 실행이 같은 파일의 삭제 대상을 다시 확인하도록 함
+                if (!deltaResult.commit().isAborted() && !deltaResult.deletesBlocked()) {
+                    overseasXlsDownloader.markIngested(download);
+                }
+                return deltaResult.commit().getWritten().getInserted();
+            }
+            
             // 국외사업자 엔티티 준비
             List<BusinessEntity> enrichedEntities = prepareOverseasEntities(overseasEntities);
             
             if (enrichedEntities.isEmpty()) {
                 log.info("준비된 국외사업자 엔티티가 없습니다.");
+                overseasXlsDownloader.markIngested(download);
                 return 0;
             }
             
             log.info("국외사업자 데이터 준비 완료. 총 {}개의 엔티티가 준비되었습니다.", enrichedEntities.size());
             
-            // 데이터베이스에 저장
-            int savedCount = saveEntitiesToDatabase(enrichedEntities);
+            // 데이터베이스에 저장 (중단 없이 끝난 경우에만 다음 실행이 같은 파일을 건너뛰도록 기록)
+            ChunkCommitResult commitResult = saveEntitiesToDatabase(enrichedEntities, progress);
+            if (!commitResult.isAborted()) {
+                overseasXlsDownloader.markIngested(download);
+            }
             
-            return savedCount;
+            return commitResult.getWritten().getInserted();
             
         } catch (Exception e) {
             log.error("국외사업자 엔티티 처리 중 오류 발생", e);
@@ -88,220 +149,71 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
     }
     
     /**
-     * 국외사업자 CSV 파일 다운로드
+     * 저장된 국외사업자(soft-delete된 행 포함)와 비교해 바뀐 행만 청크 단위로 반영합니다.
+     * 추가, 갱신, soft-delete 모두 bulkSaveAll의 배치 INSERT/버전 조건 UPDATE로 저장합니다.
+     * 저장된 행은 통신판매번호별 요약(id, version, 삭제 여부, 필드 해시)만 메모리에 둡니다.
+     *
+     * @return 커밋 결과 (저장 건수는 추가, 갱신, 삭제 건수의 합)와 삭제 비율 상한으로 삭제를 막았는지 여부
      */
-    private InputStream downloadOverseasXlsFile(String url) {
-        try {
-            log.info("국외사업자 XLS 파일 다운로드 시작: {}", url);
+    private DeltaResult syncDelta(List<BusinessEntityDto> dtos, IngestionProgress progress) {
+        List<BusinessEntityDto> validDtos = dtos.stream()
+            .filter(dto -> dto.getMailOrderSalesNumber() != null && !dto.getMailOrderSalesNumber().isEmpty()
+                && dto.getCompanyName() != null && !dto.getCompanyName().isEmpty())
+            .collect(Collectors.toList());
 
-            // 필요한 헤더 추가
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) "
-                + "AppleWebKit/537.36 (KHTML, like Gecko) "
-                + "Chrome/90.0.4430.212 Safari/537.36");
+        Map<String, OverseasDeltaPlan.StoredRow> stored = new HashMap<>();
+        businessEntityStorage.scan(
+            BusinessEntitySearch.builder().overseas(true).includeDeleted(true).build(),
+            STORED_SCAN_FETCH_SIZE,
+            entity -> stored.put(entity.getMailOrderSalesNumber(), OverseasDeltaPlan.StoredRow.of(entity)));
 
-            String cookieValue = "SDSITE=z9hzmq1guy3B; JSESSIONID=\tp5DDclHYI3LHyep9GlzYyBZ5eX41OErmDRWxynYZ.KFTCEX11;";
-            cookieValue = cookieValue.replaceAll("[\\t\\n\\r]+", "").trim();
-            headers.set("Cookie", cookieValue);
-            headers.set("Referer", "https://www.ftc.go.kr/");
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-// GET 요청 실행 (exchange 사용)
-            ResponseEntity<byte[]> response = restTemplate.exchange(
-                "https://www.ftc.go.kr/www/downloadBizOutnatn.do?key=255",
-                HttpMethod.GET,
-                entity,
-                byte[].class
-            );
+        OverseasDeltaPlan plan = OverseasDeltaPlan.of(validDtos, stored);
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                log.info("국외사업자 XLS 파일 다운로드 성공. 파일 크기: {} bytes", response.getBody().length);
-                return new ByteArrayInputStream(response.getBody());
-            } else {
-                log.error("국외사업자 XLS 파일 다운로드 실패. 상태 코드: {}", response.getStatusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            log.error("국외사업자 XLS 파일 다운로드 중 오류 발생: {}", e.getMessage(), e);
-            return null;
-        }
-    }
+        // 국내사업자가 이미 사용 중인 통신판매번호는 추가하지 않음
+        Set<String> taken = businessEntityStorage.findExistingMailOrderSalesNumbers(
+            plan.getInserts().stream().map(BusinessEntity::getMailOrderSalesNumber).collect(Collectors.toList()));
+        List<BusinessEntity> inserts = plan.getInserts().stream()
+            .filter(entity -> !taken.contains(entity.getMailOrderSalesNumber()))
+            .collect(Collectors.toList());
 
-    private List<BusinessEntityDto> parseOverseasXls(InputStream excelStream) {
-        // 동시성 문제를 방지하기 위해 ConcurrentHashMap 사용
-        List<BusinessEntityDto> overseasEntities = Collections.synchronizedList(new ArrayList<>());
-    
-        try {
-            // POI 라이브러리를 사용하여 엑셀 파일 파싱
-            org.apache.poi.ss.usermodel.Workbook workbook = org.apache.poi.ss.usermodel.WorkbookFactory.create(excelStream);
-            org.apache.poi.ss.usermodel.Sheet sheet = workbook.getSheetAt(0); // 첫 번째 시트 사용
-    
-            // 헤더 행 읽기 (첫 번째 행)
-            org.apache.poi.ss.usermodel.Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                log.error("XLS 파일에 헤더 행이 없습니다.");
-                return overseasEntities;
-            }
-    
-            // 헤더 필드 매핑
-            Map<String, Integer> fieldIndexMap = new HashMap<>();
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                org.apache.poi.ss.usermodel.Cell cell = headerRow.getCell(i);
-                if (cell != null) {
-                    String headerName = cell.getStringCellValue().trim();
-                    fieldIndexMap.put(headerName, i);
-                }
-            }
-    
-            // 필수 필드 인덱스 확인
-            Integer managementNoIndex = fieldIndexMap.getOrDefault("관리번호", -1);
-            Integer companyNameIndex = fieldIndexMap.getOrDefault("법인명(상호)", -1);
-            Integer businessNumberIndex = fieldIndexMap.getOrDefault("사업자번호", -1);
-            Integer corporationIndex = fieldIndexMap.getOrDefault("법인여부", -1);
-            Integer statusIndex = fieldIndexMap.getOrDefault("운영상태", -1);
-    
-            // 필수 필드가 없는 경우 처리
-            if (managementNoIndex == -1 || companyNameIndex == -1 || corporationIndex == -1 || statusIndex == -1) {
-                log.error("필수 필드가 파일에 없습니다. 관리번호: {}, 법인명: {}, 법인여부: {}, 운영상태: {}",
-                    managementNoIndex, companyNameIndex, corporationIndex, statusIndex);
-                return overseasEntities;
+        // 파일이 잘못 내려받아진 경우 대량 삭제를 막기 위해 삭제 비율 상한 적용
+        Set<String> deleteKeys = plan.getDeleteKeys();
+        long liveRows = stored.values().stream().filter(row -> !row.deleted()).count();
+        boolean deletesBlocked = !deleteKeys.isEmpty() && deleteKeys.size() > liveRows * maxDeleteRatio;
+        List<BusinessEntity> deletes = List.of();
+        if (deletesBlocked) {
+            log.warn("국외사업자 삭제 대상 {}건이 저장된 {}건의 {}% 를 넘어 이번 실행에서는 삭제하지 않습니다. "
+                    + "다음 실행에서 같은 파일을 다시 비교합니다.",
+                deleteKeys.size(), liveRows, Math.round(maxDeleteRatio * 100));
+        } else if (!deleteKeys.isEmpty()) {
+            // 삭제 대상 행만 다시 읽어 soft-delete 엔티티를 만듦
+            List<BusinessEntity> currentRows = new ArrayList<>(deleteKeys.size());
+            List<String> keys = new ArrayList<>(deleteKeys);
+            for (int from = 0; from < keys.size(); from += STORED_SCAN_FETCH_SIZE) {
+                currentRows.addAll(businessEntityStorage.findByMailOrderSalesNumberIn(
+                    keys.subList(from, Math.min(from + STORED_SCAN_FETCH_SIZE, keys.size()))));
             }
-    
-            // 병렬 처리를 위한 설정
-            int totalRows = sheet.getLastRowNum();
-            int availableProcessors = Runtime.getRuntime().availableProcessors();
-            int batchSize = Math.max(100, totalRows / (availableProcessors * 2)); // 적절한 배치 크기 계산
-            
-            // 원자적 카운터 사용
-            java.util.concurrent.atomic.AtomicInteger errorRows = new java.util.concurrent.atomic.AtomicInteger(0);
-            java.util.concurrent.atomic.AtomicInteger filteredOut = new java.util.concurrent.atomic.AtomicInteger(0);
-            java.util.concurrent.atomic.AtomicInteger processedRows = new java.util.concurrent.atomic.AtomicInteger(0);
-            
-            log.info("병렬 처리 시작: 총 행 수={}, 프로세서 수={}, 배치 크기={}", totalRows, availableProcessors, batchSize);
-            
-            // 병렬 스트림을 사용하여 데이터 처리
-            List<CompletableFuture<Void>> futures = new ArrayList<>();
-            
-            for (int startRow = 1; startRow <= totalRows; startRow += batchSize) {
-                final int start = startRow;
-                final int end = Math.min(startRow + batchSize - 1, totalRows);
-                
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    for (int rowIndex = start; rowIndex <= end; rowIndex++) {
-                        org.apache.poi.ss.usermodel.Row row = sheet.getRow(rowIndex);
-                        if (row == null) continue;
-                        
-                        processedRows.incrementAndGet();
-                        try {
-                            // 법인여부 확인 (Y인 경우만 처리)
-                            String isCorporation = getCellValueAsString(row.getCell(corporationIndex));
-                            if (!"Y".equals(isCorporation)) {
-                                filteredOut.incrementAndGet();
-                                continue;
-                            }
-    
-                            // 운영상태 확인 (01인 경우만 처리)
-                            String operationStatus = getCellValueAsString(row.getCell(statusIndex));
-                            if (!"01".equals(operationStatus)) {
-                                filteredOut.incrementAndGet();
-                                continue;
-                            }
-    
-                            // 필수 필드 값 추출
-                            String managementNo = getCellValueAsString(row.getCell(managementNoIndex));
-                            String companyName = getCellValueAsString(row.getCell(companyNameIndex));
-    
-                            // 필수 정보 확인
-                            if (managementNo.isEmpty() || companyName.isEmpty()) {
-                                log.warn("필수 정보 누락 (행 {}): 관리번호={}, 법인명={}",
-                                    rowIndex, managementNo, companyName);
-                                errorRows.incrementAndGet();
-                                continue;
-                            }
-    
-                            // 국외사업자 DTO 생성
-                            BusinessEntityDto dto = new BusinessEntityDto();
-                            dto.setMailOrderSalesNumber(managementNo);  // 관리번호
-                            dto.setCompanyName(companyName);          // 법인명(상호)
-    
-                            // 사업자번호 (있는 경우)
-                            if (businessNumberIndex != -1) {
-                                String businessNumber = getCellValueAsString(row.getCell(businessNumberIndex));
-                                if (!businessNumber.isEmpty()) {
-                                    dto.setBusinessNumber(businessNumber);
-                                }
-                            }
-    
-                            // 동기화된 리스트에 추가
-                            overseasEntities.add(dto);
-                        } catch (Exception e) {
-                            log.warn("행 파싱 중 오류 발생 (행 {}): 오류: {}", rowIndex, e.getMessage());
-                            errorRows.incrementAndGet();
-                        }
-                    }
-                });
-                
-                futures.add(future);
-            }
-            
-            // 모든 비동기 작업이 완료될 때까지 대기
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
-    
-            log.info("국외사업자 XLS 파일 파싱 완료. 총 행 수: {}, 오류 행 수: {}, 필터링된 행 수: {}, 추출된 국외사업자 수: {}",
-                processedRows.get(), errorRows.get(), filteredOut.get(), overseasEntities.size());
-    
-            workbook.close();
-    
-        } catch (Exception e) {
-            log.error("국외사업자 XLS 파일 파싱 중 오류 발생: {}", e.getMessage(), e);
+            deletes = plan.softDeletes(currentRows, LocalDateTime.now());
         }
-    
-        return overseasEntities;
-    }
 
-    /**
-     * 셀 값을 문자열로 안전하게 추출
-     */
-    private String getCellValueAsString(org.apache.poi.ss.usermodel.Cell cell) {
-        if (cell == null) {
-            return "";
-        }
+        log.info("국외사업자 delta 비교 완료. 추가: {}건, 갱신: {}건, 삭제: {}건, 변경 없음: {}건, 다른 사업자와 중복: {}건",
+            inserts.size(), plan.getUpdates().size(), deletes.size(), plan.getUnchanged(), taken.size());
 
-        try {
-            switch (cell.getCellType()) {
-                case STRING:
-                    return cell.getStringCellValue().trim();
-                case NUMERIC:
-                    if (org.apache.poi.ss.usermodel.DateUtil.isCellDateFormatted(cell)) {
-                        return cell.getDateCellValue().toString();
-                    } else {
-                        // 숫자를 문자열로 변환 (소수점 제거)
-                        double numValue = cell.getNumericCellValue();
-                        if (numValue == Math.floor(numValue)) {
-                            return String.format("%.0f", numValue);
-                        } else {
-                            return String.valueOf(numValue);
-                        }
-                    }
-                case BOOLEAN:
-                    return String.valueOf(cell.getBooleanCellValue());
-                case FORMULA:
-                    try {
-                        return cell.getStringCellValue();
-                    } catch (Exception e) {
-                        try {
-                            return String.valueOf(cell.getNumericCellValue());
-                        } catch (Exception ex) {
-                            return "";
-                        }
-                    }
-                default:
-                    return "";
-            }
-        } catch (Exception e) {
-            log.warn("셀 값 추출 중 오류: {}", e.getMessage());
-            return "";
+        List<BusinessEntity> changes = new ArrayList<>(inserts.size() + plan.getUpdates().size() + deletes.size());
+        changes.addAll(inserts);
+        changes.addAll(plan.getUpdates());
+        changes.addAll(deletes);
+        progress.enter(IngestionProgress.Stage.SAVING);
+        ChunkCommitResult commitResult = chunkCommitter.commit("overseas", changes,
+            chunk -> new BulkWriteResult(businessEntityStorage.bulkSaveAll(chunk), 0), progress);
+        if (commitResult.isAborted()) {
+            log.error("저장 중단. 커밋된 행: {}/{}", commitResult.getCommittedOffset(), changes.size());
         }
+        logSaveResults(commitResult.getWritten().getInserted(), commitResult.getFailedRows().size(),
+            changes, commitResult.getFailedRows());
+        return new DeltaResult(commitResult, deletesBlocked);
     }
+
     /**
      * 국외사업자 엔티티 준비
      */
@@ -318,6 +230,13 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
         failedEntities.put("DB에 이미 존재", new ArrayList<>());
         failedEntities.put("필수 정보 누락", new ArrayList<>());
         
+        // 이미 저장된 통신판매번호를 행 단위가 아닌 IN 조회로 한 번에 확인
+        Set<String> existingMailOrderSalesNumbers = businessEntityStorage.findExistingMailOrderSalesNumbers(
+            dtos.stream()
+                .map(BusinessEntityDto::getMailOrderSalesNumber)
+                .filter(number -> number != null && !number.isEmpty())
+                .collect(Collectors.toList()));
+        
         for (BusinessEntityDto dto : dtos) {
             try {
                 String mailOrderSalesNumber = dto.getMailOrderSalesNumber();
@@ -335,7 +254,7 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
                 }
                 
                 // 데이터베이스에 이미 존재하는지 확인 (통신판매번호 기준)
-                if (businessEntityStorage.existsByMailOrderSalesNumber(mailOrderSalesNumber)) {
+                if (existingMailOrderSalesNumbers.contains(mailOrderSalesNumber)) {
                     log.debug("데이터베이스에 이미 존재하는 통신판매번호: {}, 건너뜁니다.", mailOrderSalesNumber);
                     failureReasons.put("DB에 이미 존재", failureReasons.get("DB에 이미 존재") + 1);
                     failedEntities.get("DB에 이미 존재").add(mailOrderSalesNumber);
@@ -379,17 +298,11 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
     /**
      * 엔티티를 데이터베이스에 벌크 저장
      */
-    private int saveEntitiesToDatabase(List<BusinessEntity> entities) {
+    private ChunkCommitResult saveEntitiesToDatabase(List<BusinessEntity> entities, IngestionProgress progress) {
         int successCount = 0;
         int failCount = 0;
         Map<String, String> failureReasons = new ConcurrentHashMap<>();
         
-        // 벌크 저장을 위한 배치 크기 설정
-        final int BATCH_SIZE = 100;
-        
-        // 중복 체크를 위한 Set (이미 존재하는 통신판매번호)
-        Set<String> existingMailOrderSalesNumbers = Collections.synchronizedSet(new HashSet<>());
-        
         // 모든 통신판매번호 추출
         List<String> allMailOrderSalesNumbers = entities.stream()
             .map(BusinessEntity::getMailOrderSalesNumber)
@@ -397,18 +310,11 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
         
         log.info("총 {}개 엔티티에 대한 중복 체크 시작", allMailOrderSalesNumbers.size());
         
-        // 배치로 나누어 중복 체크 (데이터베이스 부하 감소)
-        for (int i = 0; i < allMailOrderSalesNumbers.size(); i += BATCH_SIZE) {
-            List<String> batch = allMailOrderSalesNumbers.subList(
-                i, Math.min(i + BATCH_SIZE, allMailOrderSalesNumbers.size()));
-            
-            // 이미 존재하는 통신판매번호 조회 - BusinessEntityRepository 대신 BusinessEntityStorage 사용
-            List<BusinessEntity> existingEntities = businessEntityStorage.findByMailOrderSalesNumberIn(batch);
-            
-            for (BusinessEntity entity : existingEntities) {
-                existingMailOrderSalesNumbers.add(entity.getMailOrderSalesNumber());
-                failureReasons.put(entity.getMailOrderSalesNumber(), "DB에 이미 존재");
-            }
+        // 이미 존재하는 통신판매번호 조회 (저장소에서 IN 절 단위로 나누어 조회)
+        Set<String> existingMailOrderSalesNumbers =
+            businessEntityStorage.findExistingMailOrderSalesNumbers(allMailOrderSalesNumbers);
+        for (String mailOrderSalesNumber : existingMailOrderSalesNumbers) {
+            failureReasons.put(mailOrderSalesNumber, "DB에 이미 존재");
         }
         
         log.info("중복 체크 완료. 이미 존재하는 통신판매번호: {}개", existingMailOrderSalesNumbers.size());
@@ -420,32 +326,16 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
         
         log.info("저장할 엔티티: {}개", entitiesToSave.size());
         
-        // 배치 단위로 저장
-        for (int i = 0; i < entitiesToSave.size(); i += BATCH_SIZE) {
-            List<BusinessEntity> batch = entitiesToSave.subList(
-                i, Math.min(i + BATCH_SIZE, entitiesToSave.size()));
-            
-            try {
-                // 벌크 저장 (saveAll 메소드 사용) - BusinessEntityRepository 대신 BusinessEntityStorage 사용
-                List<BusinessEntity> savedEntities = businessEntityStorage.saveAll(batch);
-                successCount += savedEntities.size();
-                
-                log.info("배치 저장 완료: {}/{} (현재/전체)", i + batch.size(), entitiesToSave.size());
-            } catch (Exception e) {
-                log.error("배치 저장 중 오류 발생: {}", e.getMessage(), e);
-                
-                // 개별 저장 시도 (롤백 방지)
-                for (BusinessEntity entity : batch) {
-                    try {
-                        businessEntityStorage.save(entity);
-                        successCount++;
-                    } catch (Exception ex) {
-                        failCount++;
-                        failureReasons.put(entity.getMailOrderSalesNumber(), ex.getMessage());
-                        log.warn("개별 저장 실패: {}, 이유: {}", entity.getMailOrderSalesNumber(), ex.getMessage());
-                    }
-                }
-            }
+        // 청크 단위로 커밋 (실패한 청크는 커밋 도우미가 행 단위로 재시도)
+        // 대량 적재 모드로 저장하여 저장된 엔티티가 영속성 컨텍스트에 쌓이지 않도록 함
+        progress.enter(IngestionProgress.Stage.SAVING);
+        ChunkCommitResult commitResult = chunkCommitter.commit("overseas", entitiesToSave,
+            chunk -> new BulkWriteResult(businessEntityStorage.bulkSaveAll(chunk), 0), progress);
+        successCount += commitResult.getWritten().getInserted();
+        failCount += commitResult.getFailedRows().size();
+        failureReasons.putAll(commitResult.getFailedRows());
+        if (commitResult.isAborted()) {
+            log.error("저장 중단. 커밋된 행: {}/{}", commitResult.getCommittedOffset(), entitiesToSave.size());
         }
         
         // 이미 존재하는 항목 처리
@@ -454,7 +344,7 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
         // 저장 결과 로깅
         logSaveResults(successCount, failCount, entities, failureReasons);
         
-        return successCount;
+        return commitResult;
     }
     
     /**
@@ -494,9 +384,10 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
 
     @Override
     @Async("taskExecutor")
-    public CompletableFuture<Integer> processBusinessEntitiesAsync(String country, String additionalInfo) {
+    public CompletableFuture<Integer> processBusinessEntitiesAsync(String country, String additionalInfo,
+            IngestionProgress progress) {
         try {
-            int result = processBusinessEntities(country, additionalInfo);
+            int result = processBusinessEntities(country, additionalInfo, progress);
             return CompletableFuture.completedFuture(result);
         } catch (Exception e) {
             log.error("비동기 처리 중 오류 발생: {}", e.getMessage(), e);
@@ -505,4 +396,12 @@ public class OverseasBusinessEntityServiceImpl implements OverseasBusinessEntity
             return future;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * delta 반영 결과
+     *
+     * @param deletesBlocked 삭제 비율 상한을 넘어 이번 실행에서 삭제하지 않았는지 여부
+     */
+    private record DeltaResult(ChunkCommitResult commit, boolean deletesBlocked) {
+    }
+}
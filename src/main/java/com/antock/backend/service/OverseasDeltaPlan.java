@@ -0,0 +1,174 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.dto.BusinessEntityDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파싱된 국외사업자 목록과 저장된 국외사업자를 통신판매번호 기준으로 비교한 변경 계획
+ * 저장된 행은 전체 엔티티 대신 {@link StoredRow}(id, version, 삭제 여부, 비교 필드 해시)만 들고 비교하며,
+ * 비교 대상 필드(상호, 사업자등록번호)의 해시가 다른 행만 갱신 대상으로 만듭니다.
+ * 원본에서 사라진 행(운영상태가 01이 아니게 된 행 포함)은 soft-delete하고, 다시 나타나면 복구합니다.
+ * soft-delete할 행은 키만 남겨 두었다가 {@link #softDeletes}로 해당 행만 다시 읽어 만듭니다.
+ * 갱신과 삭제 대상은 스캔한 id와 version을 그대로 가지므로 그 사이 다른 실행이 바꾼 행은 낙관적 락으로 걸러집니다.
+ */
+final class OverseasDeltaPlan {
+
+    private final List<BusinessEntity> inserts;
+    private final List<BusinessEntity> updates;
+    private final Map<String, StoredRow> deletes;
+    private final int unchanged;
+
+    private OverseasDeltaPlan(List<BusinessEntity> inserts, List<BusinessEntity> updates,
+            Map<String, StoredRow> deletes, int unchanged) {
+        this.inserts = inserts;
+        this.updates = updates;
+        this.deletes = deletes;
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * 비교에 필요한 저장된 행의 요약 (스캔 중 엔티티를 들고 있지 않기 위함)
+     */
+    record StoredRow(Long id, Long version, boolean deleted, long fieldsHash) {
+
+        static StoredRow of(BusinessEntity entity) {
+            return new StoredRow(entity.getId(), entity.getVersion(), entity.isDeleted(),
+                fieldsHash(entity.getCompanyName(), entity.getBusinessNumber()));
+        }
+    }
+
+    /**
+     * @param parsed 파싱된 국외사업자 (필수 정보가 있는 행만)
+     * @param stored 통신판매번호 -> 저장된 국외사업자 요약 (soft-delete된 행 포함)
+     */
+    static OverseasDeltaPlan of(List<BusinessEntityDto> parsed, Map<String, StoredRow> stored) {
+        List<BusinessEntity> inserts = new ArrayList<>();
+        List<BusinessEntity> updates = new ArrayList<>();
+        int unchanged = 0;
+        Set<String> seen = new HashSet<>(parsed.size() * 2);
+
+        for (BusinessEntityDto dto : parsed) {
+            String mailOrderSalesNumber = dto.getMailOrderSalesNumber();
+            // 같은 파일 안에서 통신판매번호가 중복되면 첫 번째 행만 사용
+            if (!seen.add(mailOrderSalesNumber)) {
+                continue;
+            }
+            String businessNumber = emptyToNull(dto.getBusinessNumber());
+            StoredRow current = stored.get(mailOrderSalesNumber);
+            if (current == null) {
+                inserts.add(BusinessEntity.builder()
+                    .mailOrderSalesNumber(mailOrderSalesNumber)
+                    .companyName(dto.getCompanyName())
+                    .businessNumber(businessNumber)
+                    .isOverseas(true)  // 국외사업자는 법인등록번호, 행정구역코드 없음
+                    .build());
+            } else if (current.deleted() || current.fieldsHash() != fieldsHash(dto.getCompanyName(), businessNumber)) {
+                // 국외사업자 행은 법인등록번호, 행정구역코드가 없으므로 파싱된 값과 스캔한 id/version으로 만듦
+                updates.add(BusinessEntity.builder()
+                    .id(current.id())
+                    .version(current.version())
+                    .mailOrderSalesNumber(mailOrderSalesNumber)
+                    .companyName(dto.getCompanyName())
+                    .businessNumber(businessNumber)
+                    .isOverseas(true)
+                    .build());
+            } else {
+                unchanged++;
+            }
+        }
+
+        Map<String, StoredRow> deletes = new HashMap<>();
+        stored.forEach((mailOrderSalesNumber, current) -> {
+            if (!current.deleted() && !seen.contains(mailOrderSalesNumber)) {
+                deletes.put(mailOrderSalesNumber, current);
+            }
+        });
+        return new OverseasDeltaPlan(inserts, updates, deletes, unchanged);
+    }
+
+    List<BusinessEntity> getInserts() {
+        return Collections.unmodifiableList(inserts);
+    }
+
+    List<BusinessEntity> getUpdates() {
+        return Collections.unmodifiableList(updates);
+    }
+
+    /**
+     * soft-delete할 행의 통신판매번호
+     */
+    Set<String> getDeleteKeys() {
+        return Collections.unmodifiableSet(deletes.keySet());
+    }
+
+    /**
+     * 다시 읽은 삭제 대상 행으로 soft-delete할 엔티티를 만듭니다.
+     * 스캔 이후 다른 실행이 바꾼 행(id/version이 다르거나 이미 삭제된 행)은 제외합니다.
+     *
+     * @param currentRows getDeleteKeys로 다시 읽은 행
+     * @param now soft-delete 시각
+     */
+    List<BusinessEntity> softDeletes(List<BusinessEntity> currentRows, LocalDateTime now) {
+        List<BusinessEntity> softDeletes = new ArrayList<>();
+        for (BusinessEntity current : currentRows) {
+            StoredRow scanned = deletes.get(current.getMailOrderSalesNumber());
+            if (scanned == null || current.isDeleted() || !current.getId().equals(scanned.id())
+                    || !current.getVersion().equals(scanned.version())) {
+                continue;
+            }
+            softDeletes.add(copyOf(current, now));
+        }
+        return softDeletes;
+    }
+
+    int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * 비교 대상 필드(상호, 사업자등록번호)의 64비트 FNV-1a 해시
+     * 필드 경계와 null을 구분하도록 각 필드 뒤에 서로 다른 구분 값을 넣습니다.
+     */
+    static long fieldsHash(String companyName, String businessNumber) {
+        long hash = 0xCBF29CE484222325L;
+        hash = hashField(hash, companyName);
+        hash = hashField(hash, emptyToNull(businessNumber));
+        return hash;
+    }
+
+    private static long hashField(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xFFFF) * 0x100000001B3L;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return (hash ^ 0xFFFE) * 0x100000001B3L;
+    }
+
+    private static BusinessEntity copyOf(BusinessEntity current, LocalDateTime deletedAt) {
+        return BusinessEntity.builder()
+            .id(current.getId())
+            .version(current.getVersion())
+            .mailOrderSalesNumber(current.getMailOrderSalesNumber())
+            .companyName(current.getCompanyName())
+            .businessNumber(current.getBusinessNumber())
+            .corporateRegistrationNumber(current.getCorporateRegistrationNumber())
+            .administrativeCode(current.getAdministrativeCode())
+            .isOverseas(current.isOverseas())
+            .deletedAt(deletedAt)
+            .build();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
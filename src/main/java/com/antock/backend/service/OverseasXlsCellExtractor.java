@@ -0,0 +1,66 @@
+package com.antock.backend.service;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+/**
+ * 워크북 모드에서 열마다 한 번 정한 방식으로 셀 값을 문자열로 읽습니다.
+ * 날짜 서식 여부는 첫 데이터 행의 셀로 열마다 한 번만 판단하므로 셀마다 DateUtil을 호출하지 않습니다.
+ * 정수 숫자는 String.format 대신 Long.toString으로 변환하고, 수식 셀은 예외 대신 캐시된 결과 타입으로 읽습니다.
+ */
+public final class OverseasXlsCellExtractor {
+
+    /**
+     * 일반 열 (숫자는 소수점 없는 정수 또는 Double.toString 형식)
+     */
+    public static final OverseasXlsCellExtractor TEXT = new OverseasXlsCellExtractor(false);
+
+    /**
+     * 첫 데이터 행이 날짜 서식인 열 (숫자는 Date.toString 형식)
+     */
+    public static final OverseasXlsCellExtractor DATE = new OverseasXlsCellExtractor(true);
+
+    private final boolean dateColumn;
+
+    private OverseasXlsCellExtractor(boolean dateColumn) {
+        this.dateColumn = dateColumn;
+    }
+
+    /**
+     * 첫 데이터 행의 셀로 열의 추출 방식을 정합니다.
+     *
+     * @param sample 첫 데이터 행의 셀 (없으면 null)
+     */
+    public static OverseasXlsCellExtractor forColumn(Cell sample) {
+        if (sample != null && sample.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(sample)) {
+            return DATE;
+        }
+        return TEXT;
+    }
+
+    /**
+     * @return 셀 값 (빈 셀, 오류 셀은 빈 문자열)
+     */
+    public String extract(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+        CellType type = cell.getCellType();
+        if (type == CellType.FORMULA) {
+            type = cell.getCachedFormulaResultType();
+        }
+        switch (type) {
+            case STRING:
+                return cell.getStringCellValue().trim();
+            case NUMERIC:
+                return dateColumn
+                    ? cell.getDateCellValue().toString()
+                    : OverseasXlsStreamingReader.numericText(cell.getNumericCellValue());
+            case BOOLEAN:
+                return cell.getBooleanCellValue() ? "true" : "false";
+            default:
+                return "";
+        }
+    }
+}
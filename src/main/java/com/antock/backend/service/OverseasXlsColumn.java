@@ -0,0 +1,46 @@
+package com.antock.backend.service;
+
+/**
+ * 국외사업자 XLS 파일에서 읽는 열 (헤더 이름으로 위치를 찾음)
+ */
+public enum OverseasXlsColumn {
+    MANAGEMENT_NO("관리번호", true),
+    COMPANY_NAME("법인명(상호)", true),
+    BUSINESS_NUMBER("사업자번호", false),
+    CORPORATION("법인여부", true),
+    STATUS("운영상태", true);
+
+    private static final OverseasXlsColumn[] VALUES = values();
+
+    private final String header;
+    private final boolean required;
+
+    OverseasXlsColumn(String header, boolean required) {
+        this.header = header;
+        this.required = required;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    /**
+     * @return 헤더 이름에 해당하는 열, 읽지 않는 열이면 null
+     */
+    public static OverseasXlsColumn fromHeader(String header) {
+        for (OverseasXlsColumn column : VALUES) {
+            if (column.header.equals(header)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,329 @@
+package com.antock.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 국외사업자 XLS 파일을 힙에 올리지 않고 응답 스트림에서 바로 임시 파일로 내려받습니다.
+ * 파싱에 실패한 파일은 보관해 두었다가 유효 시간 안의 다음 실행에서 다시 내려받지 않고 사용합니다.
+ * 실행마다 고유한 파일을 사용하므로 동시에 실행되어도 서로의 파일을 지우지 않습니다.
+ * 마지막으로 수집한 파일의 ETag/Last-Modified와 내용 해시를 기록해 두고 조건부 요청을 보내며,
+ * 서버가 304를 반환하거나 내용 해시가 같으면 파싱과 저장 없이 '변경 없음'으로 끝냅니다.
+ */
+@Slf4j
+@Component
+public class OverseasXlsDownloader {
+
+    static final String OVERSEAS_URL = "https://www.ftc.go.kr/www/downloadBizOutnatn.do?key=255";
+    private static final String RETAINED_FILE_NAME = "overseas-business-retained.xls";
+    private static final String SNAPSHOT_FILE_NAME = "overseas-business.properties";
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "last-modified";
+    private static final String CONTENT_HASH_KEY = "content-hash";
+
+    private final RestTemplate restTemplate;
+    private final Path downloadDir;
+    private final Duration retainedFileTtl;
+
+    public OverseasXlsDownloader(
+            RestTemplate restTemplate,
+            @Value("${ingestion.overseas.download-dir:${java.io.tmpdir}/overseas-business}") String downloadDir,
+            @Value("${ingestion.overseas.retained-file-ttl-minutes:60}") long retainedFileTtlMinutes) {
+        this.restTemplate = restTemplate;
+        this.downloadDir = Paths.get(downloadDir);
+        this.retainedFileTtl = Duration.ofMinutes(retainedFileTtlMinutes);
+    }
+
+    /**
+     * 이번 실행에서 사용할 파일을 준비합니다. 보관된 파일이 있으면 그 파일을, 없으면 새로 내려받은 파일을 반환합니다.
+     * 사용이 끝나면 {@link #release} 또는 {@link #retain}을 호출하고, 저장까지 끝나면 {@link #markIngested}를 호출해야 합니다.
+     *
+     * @return 이번 실행의 다운로드 결과 (마지막 수집 이후 변경이 없으면 {@link Download#isUnchanged()}), 다운로드에 실패하면 null
+     */
+    public Download acquire() {
+        try {
+            Files.createDirectories(downloadDir);
+            Path retained = claimRetainedFile();
+            if (retained != null) {
+                return new Download(retained, null, null, hashFile(retained));
+            }
+            return download(loadSnapshot());
+        } catch (Exception e) {
+            log.error("국외사업자 XLS 파일 다운로드 중 오류 발생: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 파싱에 성공한 파일을 삭제합니다.
+     */
+    public void release(Download download) {
+        Path file = download.getFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("국외사업자 XLS 임시 파일 삭제 실패: {}, 이유: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 파싱에 실패한 파일을 다음 실행에서 다시 사용하도록 보관합니다.
+     */
+    public void retain(Download download) {
+        Path file = download.getFile();
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.move(file, retainedFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("국외사업자 XLS 파일을 다음 실행을 위해 보관합니다: {}", retainedFile());
+        } catch (IOException e) {
+            log.warn("국외사업자 XLS 파일 보관 실패: {}, 이유: {}", file, e.getMessage());
+            release(download);
+        }
+    }
+
+    /**
+     * 파싱과 저장이 끝난 파일의 검증 값(ETag, Last-Modified, 내용 해시)을 기록합니다.
+     * 다음 실행은 이 값으로 조건부 요청을 보내고, 같은 내용이면 파싱과 저장을 건너뜁니다.
+     */
+    public void markIngested(Download download) {
+        Properties snapshot = new Properties();
+        putIfPresent(snapshot, ETAG_KEY, download.getEtag());
+        putIfPresent(snapshot, LAST_MODIFIED_KEY, download.getLastModified());
+        putIfPresent(snapshot, CONTENT_HASH_KEY, download.getContentHash());
+        try {
+            // 다른 실행이 읽는 도중 일부만 기록된 파일을 보지 않도록 임시 파일에 쓴 뒤 교체
+            Path temp = Files.createTempFile(downloadDir, "overseas-business-", ".properties");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                snapshot.store(out, "국외사업자 XLS 마지막 수집 파일");
+            }
+            Files.move(temp, snapshotFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("국외사업자 XLS 검증 값 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 한 실행의 다운로드 결과
+     */
+    public static final class Download {
+
+        private final Path file;
+        private final String etag;
+        private final String lastModified;
+        private final String contentHash;
+
+        private Download(Path file, String etag, String lastModified, String contentHash) {
+            this.file = file;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+
+        private static Download unchanged(String etag, String lastModified, String contentHash) {
+            return new Download(null, etag, lastModified, contentHash);
+        }
+
+        /**
+         * @return 이번 실행 전용 파일, 변경이 없으면 null
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * 마지막 수집 이후 파일이 바뀌지 않았는지 여부
+         */
+        public boolean isUnchanged() {
+            return file == null;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * 파일 내용의 SHA-256 (16진수)
+         */
+        public String getContentHash() {
+            return contentHash;
+        }
+    }
+
+    private Download download(Properties snapshot) throws IOException {
+        log.info("국외사업자 XLS 파일 다운로드 시작: {}", OVERSEAS_URL);
+
+        // 필요한 헤더 추가
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) "
+            + "AppleWebKit/537.36 (KHTML, like Gecko) "
+            + "Chrome/90.0.4430.212 Safari/537.36");
+
+        String cookieValue = "SDSITE=z9hzmq1guy3B; JSESSIONID=\tp5DDclHYI3LHyep9GlzYyBZ5eX41OErmDRWxynYZ.KFTCEX11;";
+        cookieValue = cookieValue.replaceAll("[\\t\\n\\r]+", "").trim();
+        headers.set("Cookie", cookieValue);
+        headers.set("Referer", "https://www.ftc.go.kr/");
+
+        // 마지막 수집 파일의 검증 값으로 조건부 요청
+        String previousEtag = snapshot.getProperty(ETAG_KEY);
+        String previousLastModified = snapshot.getProperty(LAST_MODIFIED_KEY);
+        String previousHash = snapshot.getProperty(CONTENT_HASH_KEY);
+        if (previousEtag != null) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, previousEtag);
+        }
+        if (previousLastModified != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, previousLastModified);
+        }
+
+        Path target = Files.createTempFile(downloadDir, "overseas-business-", ".xls");
+        Download download = null;
+        try {
+            // 응답 본문을 byte[]로 모으지 않고 파일로 바로 복사하면서 내용 해시 계산
+            download = restTemplate.execute(OVERSEAS_URL, HttpMethod.GET,
+                request -> request.getHeaders().putAll(headers),
+                response -> {
+                    if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        return Download.unchanged(previousEtag, previousLastModified, previousHash);
+                    }
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        log.error("국외사업자 XLS 파일 다운로드 실패. 상태 코드: {}", response.getStatusCode());
+                        return null;
+                    }
+                    MessageDigest digest = newDigest();
+                    long size;
+                    try (InputStream body = new DigestInputStream(response.getBody(), digest)) {
+                        size = Files.copy(body, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    log.info("국외사업자 XLS 파일 다운로드 성공. 파일 크기: {} bytes", size);
+                    return new Download(target, response.getHeaders().getETag(),
+                        response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                        HexFormat.of().formatHex(digest.digest()));
+                });
+        } finally {
+            if (download == null || download.isUnchanged()) {
+                Files.deleteIfExists(target);
+            }
+        }
+        if (download == null || download.isUnchanged()) {
+            if (download != null) {
+                log.info("국외사업자 XLS 파일이 마지막 수집 이후 변경되지 않았습니다 (304 Not Modified).");
+            }
+            return download;
+        }
+
+        // 서버가 조건부 요청을 지원하지 않아도 내용이 같으면 변경 없음으로 처리
+        if (download.getContentHash().equals(previousHash)) {
+            log.info("국외사업자 XLS 파일 내용이 마지막 수집과 같습니다 (SHA-256 {}).", previousHash);
+            Files.deleteIfExists(target);
+            Download unchanged = Download.unchanged(download.getEtag(), download.getLastModified(), previousHash);
+            // 새 검증 값을 기록해 다음 실행부터는 304로 끝나도록 함
+            markIngested(unchanged);
+            return unchanged;
+        }
+        return download;
+    }
+
+    /**
+     * 보관된 파일을 이번 실행 전용 경로로 옮깁니다. 동시에 실행되면 한 실행만 가져갑니다.
+     *
+     * @return 가져온 파일, 보관된 파일이 없거나 유효 시간이 지났으면 null
+     */
+    private Path claimRetainedFile() throws IOException {
+        Path retained = retainedFile();
+        if (!Files.exists(retained)) {
+            return null;
+        }
+        Instant modifiedAt = Files.getLastModifiedTime(retained).toInstant();
+        if (modifiedAt.plus(retainedFileTtl).isBefore(Instant.now())) {
+            log.info("보관된 국외사업자 XLS 파일의 유효 시간이 지나 새로 내려받습니다.");
+            Files.deleteIfExists(retained);
+            return null;
+        }
+
+        Path claimed = Files.createTempFile(downloadDir, "overseas-business-", ".xls");
+        try {
+            Files.move(retained, claimed, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            // 다른 실행이 먼저 가져감
+            Files.deleteIfExists(claimed);
+            return null;
+        }
+        log.info("이전에 파싱하지 못한 국외사업자 XLS 파일을 다시 사용합니다. 파일 크기: {} bytes", Files.size(claimed));
+        return claimed;
+    }
+
+    private Path retainedFile() {
+        return downloadDir.resolve(RETAINED_FILE_NAME);
+    }
+
+    private Path snapshotFile() {
+        return downloadDir.resolve(SNAPSHOT_FILE_NAME);
+    }
+
+    /**
+     * 마지막 수집 파일의 검증 값을 읽습니다. 기록이 없거나 읽을 수 없으면 빈 값을 반환합니다. (조건 없이 다운로드)
+     */
+    private Properties loadSnapshot() {
+        Properties snapshot = new Properties();
+        Path file = snapshotFile();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                snapshot.load(in);
+            } catch (IOException e) {
+                log.warn("국외사업자 XLS 검증 값 읽기 실패. 조건 없이 내려받습니다: {}", e.getMessage());
+                snapshot.clear();
+            }
+        }
+        return snapshot;
+    }
+
+    private static String hashFile(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void putIfPresent(Properties properties, String key, String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+}
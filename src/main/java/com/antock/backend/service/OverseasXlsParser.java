@@ -0,0 +1,213 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.BusinessEntityDto;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 국외사업자 XLS/XLSX 파일에서 법인(Y)이면서 운영 중(01)인 사업자만 추출합니다.
+ * ingestion.overseas.parse-mode로 방식을 선택합니다.
+ * streaming(기본값): 이벤트/SAX 방식으로 한 행씩 읽으며 바로 필터링
+ * workbook: 워크북 전체를 메모리에 올린 뒤 행 구간별로 전용 스레드 풀(xlsParseExecutor)에서 병렬 처리
+ */
+@Slf4j
+@Component
+public class OverseasXlsParser {
+
+    public enum ParseMode {
+        STREAMING, WORKBOOK
+    }
+
+    // 행 구간 작업의 최소 행 수와 스레드당 작업 수
+    private static final int MIN_ROWS_PER_TASK = 100;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final ParseMode parseMode;
+    private final Executor parseExecutor;
+    private final int parseThreads;
+    private final OverseasXlsStreamingReader streamingReader = new OverseasXlsStreamingReader();
+
+    public OverseasXlsParser(
+            @Value("${ingestion.overseas.parse-mode:streaming}") String parseMode,
+            @Qualifier("xlsParseExecutor") Executor parseExecutor,
+            @Value("${ingestion.overseas.parse-threads:0}") int parseThreads) {
+        this.parseMode = ParseMode.valueOf(parseMode.toUpperCase(Locale.ROOT));
+        this.parseExecutor = parseExecutor;
+        this.parseThreads = parseThreads > 0 ? parseThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param file 국외사업자 XLS/XLSX 파일
+     * @return 추출된 국외사업자 목록 (파일 순서)
+     * @throws IOException 파일을 읽을 수 없거나 헤더 행 또는 필수 열이 없는 경우
+     */
+    public List<BusinessEntityDto> parse(Path file) throws IOException {
+        ParseStats stats = new ParseStats();
+        List<BusinessEntityDto> overseasEntities = new ArrayList<>();
+        try {
+            if (parseMode == ParseMode.STREAMING) {
+                streamingReader.read(file.toFile(), row -> {
+                    BusinessEntityDto dto = toDtoIfAccepted(row, stats);
+                    if (dto != null) {
+                        overseasEntities.add(dto);
+                    }
+                });
+            } else {
+                overseasEntities.addAll(parseWorkbook(file, stats));
+            }
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        log.info("국외사업자 XLS 파일 파싱 완료 ({}). 총 행 수: {}, 오류 행 수: {}, 필터링된 행 수: {}, 추출된 국외사업자 수: {}",
+            parseMode, stats.processed.sum(), stats.errors.sum(), stats.filteredOut.sum(), overseasEntities.size());
+        return overseasEntities;
+    }
+
+    /**
+     * 법인(Y)이면서 운영 중(01)이고 필수 정보가 있는 행만 DTO로 변환합니다.
+     *
+     * @return 변환된 DTO, 걸러진 행이면 null
+     */
+    static BusinessEntityDto toDtoIfAccepted(OverseasXlsRow row, ParseStats stats) {
+        stats.processed.increment();
+        if (!"Y".equals(row.get(OverseasXlsColumn.CORPORATION))
+                || !"01".equals(row.get(OverseasXlsColumn.STATUS))) {
+            stats.filteredOut.increment();
+            return null;
+        }
+
+        String managementNo = row.get(OverseasXlsColumn.MANAGEMENT_NO);
+        String companyName = row.get(OverseasXlsColumn.COMPANY_NAME);
+        if (managementNo.isEmpty() || companyName.isEmpty()) {
+            log.warn("필수 정보 누락 (행 {}): 관리번호={}, 법인명={}", row.getRowIndex(), managementNo, companyName);
+            stats.errors.increment();
+            return null;
+        }
+
+        BusinessEntityDto dto = new BusinessEntityDto();
+        dto.setMailOrderSalesNumber(managementNo);  // 관리번호
+        dto.setCompanyName(companyName);            // 법인명(상호)
+        String businessNumber = row.get(OverseasXlsColumn.BUSINESS_NUMBER);
+        if (!businessNumber.isEmpty()) {
+            dto.setBusinessNumber(businessNumber);
+        }
+        return dto;
+    }
+
+    /**
+     * 파싱 통계 (행 구간 작업에서 함께 갱신하므로 경합이 적은 LongAdder 사용)
+     */
+    static final class ParseStats {
+        final LongAdder processed = new LongAdder();
+        final LongAdder filteredOut = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private List<BusinessEntityDto> parseWorkbook(Path file, ParseStats stats) throws IOException {
+        List<BusinessEntityDto> overseasEntities = new ArrayList<>();
+
+        // POI 라이브러리를 사용하여 엑셀 파일 파싱 (읽기 전용)
+        try (org.apache.poi.ss.usermodel.Workbook workbook =
+                org.apache.poi.ss.usermodel.WorkbookFactory.create(file.toFile(), null, true)) {
+            org.apache.poi.ss.usermodel.Sheet sheet = workbook.getSheetAt(0); // 첫 번째 시트 사용
+
+            // 헤더 행 읽기 (첫 번째 행)
+            org.apache.poi.ss.usermodel.Row headerRow = sheet.getRow(0);
+            if (headerRow == null) {
+                throw new IllegalStateException("XLS 파일에 헤더 행이 없습니다.");
+            }
+
+            // 헤더 필드 매핑
+            Map<OverseasXlsColumn, Integer> columnIndexMap = new EnumMap<>(OverseasXlsColumn.class);
+            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
+                org.apache.poi.ss.usermodel.Cell cell = headerRow.getCell(i);
+                if (cell != null) {
+                    OverseasXlsColumn column = OverseasXlsColumn.fromHeader(cell.getStringCellValue().trim());
+                    if (column != null) {
+                        columnIndexMap.put(column, i);
+                    }
+                }
+            }
+
+            // 필수 필드가 없는 경우 처리
+            for (OverseasXlsColumn column : OverseasXlsColumn.values()) {
+                if (column.isRequired() && !columnIndexMap.containsKey(column)) {
+                    throw new IllegalStateException("필수 필드가 파일에 없습니다: " + column.getHeader());
+                }
+            }
+
+            // 열마다 셀 위치와 추출 방식을 한 번만 정함 (첫 데이터 행 기준)
+            org.apache.poi.ss.usermodel.Row sampleRow = sheet.getRow(1);
+            int[] cellIndexes = new int[OverseasXlsColumn.count()];
+            OverseasXlsCellExtractor[] extractors = new OverseasXlsCellExtractor[OverseasXlsColumn.count()];
+            Arrays.fill(cellIndexes, -1);
+            columnIndexMap.forEach((column, index) -> {
+                cellIndexes[column.ordinal()] = index;
+                extractors[column.ordinal()] =
+                    OverseasXlsCellExtractor.forColumn(sampleRow != null ? sampleRow.getCell(index) : null);
+            });
+
+            // 행 구간 작업 설정 (스레드마다 여러 구간을 나누어 늦게 끝나는 작업의 영향을 줄임)
+            int totalRows = sheet.getLastRowNum();
+            int batchSize = Math.max(MIN_ROWS_PER_TASK, totalRows / (parseThreads * TASKS_PER_THREAD));
+
+            log.info("병렬 처리 시작: 총 행 수={}, 파싱 스레드 수={}, 배치 크기={}", totalRows, parseThreads, batchSize);
+
+            // 작업마다 자기 결과 리스트를 채우므로 작업 간 공유 락이 없음
+            List<CompletableFuture<List<BusinessEntityDto>>> futures = new ArrayList<>();
+            for (int startRow = 1; startRow <= totalRows; startRow += batchSize) {
+                final int start = startRow;
+                final int end = Math.min(startRow + batchSize - 1, totalRows);
+                futures.add(CompletableFuture.supplyAsync(
+                    () -> parseRowRange(sheet, cellIndexes, extractors, start, end, stats), parseExecutor));
+            }
+
+            // 구간 순서대로 합쳐 원래 행 순서를 유지
+            for (CompletableFuture<List<BusinessEntityDto>> future : futures) {
+                overseasEntities.addAll(future.join());
+            }
+        }
+
+        return overseasEntities;
+    }
+
+    private List<BusinessEntityDto> parseRowRange(org.apache.poi.ss.usermodel.Sheet sheet, int[] cellIndexes,
+            OverseasXlsCellExtractor[] extractors, int start, int end, ParseStats stats) {
+        List<BusinessEntityDto> rangeEntities = new ArrayList<>();
+        for (int rowIndex = start; rowIndex <= end; rowIndex++) {
+            org.apache.poi.ss.usermodel.Row row = sheet.getRow(rowIndex);
+            if (row == null) continue;
+
+            try {
+                String[] values = new String[cellIndexes.length];
+                for (int i = 0; i < cellIndexes.length; i++) {
+                    if (cellIndexes[i] >= 0) {
+                        values[i] = extractors[i].extract(row.getCell(cellIndexes[i]));
+                    }
+                }
+                BusinessEntityDto dto = toDtoIfAccepted(new OverseasXlsRow(rowIndex, values), stats);
+                if (dto != null) {
+                    rangeEntities.add(dto);
+                }
+            } catch (Exception e) {
+                log.warn("행 파싱 중 오류 발생 (행 {}): 오류: {}", rowIndex, e.getMessage());
+                stats.errors.increment();
+            }
+        }
+        return rangeEntities;
+    }
+}
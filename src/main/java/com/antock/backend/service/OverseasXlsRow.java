@@ -0,0 +1,28 @@
+package com.antock.backend.service;
+
+/**
+ * 국외사업자 XLS 파일의 한 행 중 {@link OverseasXlsColumn} 열만 담은 값 (빈 셀은 빈 문자열)
+ */
+public final class OverseasXlsRow {
+
+    private final int rowIndex;
+    private final String[] values;
+
+    /**
+     * @param rowIndex 시트의 행 번호 (0부터, 0은 헤더)
+     * @param values OverseasXlsColumn 순서의 셀 값 (null은 빈 문자열로 취급)
+     */
+    public OverseasXlsRow(int rowIndex, String[] values) {
+        this.rowIndex = rowIndex;
+        this.values = values;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public String get(OverseasXlsColumn column) {
+        String value = values[column.ordinal()];
+        return value != null ? value : "";
+    }
+}
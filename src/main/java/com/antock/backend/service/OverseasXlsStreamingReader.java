@@ -0,0 +1,314 @@
+package com.antock.backend.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * 국외사업자 XLS/XLSX 파일의 첫 번째 시트를 워크북 객체 모델 없이 한 행씩 읽습니다.
+ * XLS는 HSSF 이벤트 API, XLSX는 XSSF SAX 리더를 사용하며, 헤더에서 찾은 {@link OverseasXlsColumn} 열만 보관하므로
+ * 파싱 중 메모리 사용량은 파일 크기가 아니라 한 행 크기에 비례합니다.
+ */
+public class OverseasXlsStreamingReader {
+
+    /**
+     * 첫 번째 시트의 데이터 행을 순서대로 handler에 전달합니다.
+     * 파일을 직접 열어 필요한 블록만 읽으므로 파일 전체를 힙에 올리지 않습니다.
+     *
+     * @throws IllegalStateException 헤더 행이나 필수 열이 없는 경우
+     */
+    public void read(File file, Consumer<OverseasXlsRow> handler) throws IOException {
+        FileMagic fileMagic = FileMagic.valueOf(file);
+        RowAssembler assembler = new RowAssembler(handler);
+        switch (fileMagic) {
+            case OLE2 -> readHssf(file, assembler);
+            case OOXML -> readXssf(file, assembler);
+            default -> throw new IllegalStateException("XLS/XLSX 형식이 아닙니다: " + fileMagic);
+        }
+        assembler.finish();
+    }
+
+    private void readHssf(File file, RowAssembler assembler) throws IOException {
+        try (POIFSFileSystem fileSystem = new POIFSFileSystem(file, true)) {
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(
+                new FormatTrackingHSSFListener(new MissingRecordAwareHSSFListener(new HssfRowListener(assembler))));
+            new HSSFEventFactory().processWorkbookEvents(request, fileSystem);
+        }
+    }
+
+    private void readXssf(File file, RowAssembler assembler) throws IOException {
+        try (OPCPackage opcPackage = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(opcPackage);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(),
+                new ReadOnlySharedStringsTable(opcPackage), new XssfRowHandler(assembler),
+                new PlainNumberFormatter(), false));
+            try (InputStream sheet = sheets.next()) {
+                xmlReader.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("XLSX 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 숫자 셀 값을 문자열로 변환합니다. 정수는 소수점 없이, 그 외는 Double.toString 형식입니다.
+     */
+    static String numericText(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            if (Math.abs(value) < 1e18) {
+                return Long.toString((long) value);
+            }
+            return new BigDecimal(value).toPlainString();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * 셀 이벤트를 행 단위로 모아 헤더 열 위치를 찾고, 데이터 행은 읽는 열만 담아 전달합니다.
+     */
+    private static final class RowAssembler {
+        private final Consumer<OverseasXlsRow> handler;
+        // 열 번호 -> OverseasXlsColumn 순서 (-1이면 읽지 않는 열)
+        private int[] columnSlots = new int[0];
+        private boolean headerRead;
+        private int currentRow = -1;
+        private String[] values;
+
+        private RowAssembler(Consumer<OverseasXlsRow> handler) {
+            this.handler = handler;
+        }
+
+        private void cell(int row, int column, String value) {
+            if (row != currentRow) {
+                finishRow();
+                startRow(row);
+            }
+            if (!headerRead) {
+                OverseasXlsColumn mapped = OverseasXlsColumn.fromHeader(value.trim());
+                if (mapped != null) {
+                    if (column >= columnSlots.length) {
+                        int oldLength = columnSlots.length;
+                        columnSlots = Arrays.copyOf(columnSlots, column + 1);
+                        Arrays.fill(columnSlots, oldLength, columnSlots.length, -1);
+                    }
+                    columnSlots[column] = mapped.ordinal();
+                }
+            } else if (column < columnSlots.length && columnSlots[column] >= 0) {
+                values[columnSlots[column]] = value.trim();
+            }
+        }
+
+        private void endRow(int row) {
+            if (row == currentRow) {
+                finishRow();
+            }
+        }
+
+        private void startRow(int row) {
+            if (!headerRead && row != 0) {
+                throw new IllegalStateException("XLS 파일에 헤더 행이 없습니다.");
+            }
+            currentRow = row;
+            values = headerRead ? new String[OverseasXlsColumn.count()] : null;
+        }
+
+        private void finishRow() {
+            if (currentRow < 0) {
+                return;
+            }
+            if (headerRead) {
+                handler.accept(new OverseasXlsRow(currentRow, values));
+            } else {
+                checkRequiredColumns();
+                headerRead = true;
+            }
+            currentRow = -1;
+            values = null;
+        }
+
+        private void finish() {
+            finishRow();
+            if (!headerRead) {
+                throw new IllegalStateException("XLS 파일에 헤더 행이 없습니다.");
+            }
+        }
+
+        private void checkRequiredColumns() {
+            boolean[] found = new boolean[OverseasXlsColumn.count()];
+            for (int slot : columnSlots) {
+                if (slot >= 0) {
+                    found[slot] = true;
+                }
+            }
+            List<String> missing = new ArrayList<>();
+            for (OverseasXlsColumn column : OverseasXlsColumn.values()) {
+                if (column.isRequired() && !found[column.ordinal()]) {
+                    missing.add(column.getHeader());
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("필수 필드가 파일에 없습니다: " + missing);
+            }
+        }
+    }
+
+    /**
+     * HSSF 레코드 이벤트를 셀 값으로 변환 (첫 번째 워크시트만)
+     */
+    private static final class HssfRowListener implements HSSFListener {
+        private final RowAssembler assembler;
+        private SSTRecord sharedStrings;
+        private int worksheetIndex = -1;
+        // 문자열 결과 수식은 값이 다음 StringRecord에 있음
+        private boolean pendingFormulaString;
+        private int pendingRow;
+        private int pendingColumn;
+
+        private HssfRowListener(RowAssembler assembler) {
+            this.assembler = assembler;
+        }
+
+        @Override
+        public void processRecord(org.apache.poi.hssf.record.Record record) {
+            if (record instanceof BOFRecord bof) {
+                if (bof.getType() == BOFRecord.TYPE_WORKSHEET) {
+                    worksheetIndex++;
+                }
+                return;
+            }
+            if (record instanceof SSTRecord sst) {
+                sharedStrings = sst;
+                return;
+            }
+            if (worksheetIndex != 0) {
+                return;
+            }
+
+            if (record instanceof LabelSSTRecord label) {
+                assembler.cell(label.getRow(), label.getColumn(),
+                    sharedStrings.getString(label.getSSTIndex()).getString());
+            } else if (record instanceof LabelRecord label) {
+                assembler.cell(label.getRow(), label.getColumn(), label.getValue());
+            } else if (record instanceof NumberRecord number) {
+                assembler.cell(number.getRow(), number.getColumn(), numericText(number.getValue()));
+            } else if (record instanceof FormulaRecord formula) {
+                if (formula.hasCachedResultString()) {
+                    pendingFormulaString = true;
+                    pendingRow = formula.getRow();
+                    pendingColumn = formula.getColumn();
+                } else if (!Double.isNaN(formula.getValue())) {
+                    assembler.cell(formula.getRow(), formula.getColumn(), numericText(formula.getValue()));
+                }
+            } else if (record instanceof StringRecord string && pendingFormulaString) {
+                pendingFormulaString = false;
+                assembler.cell(pendingRow, pendingColumn, string.getString());
+            } else if (record instanceof BoolErrRecord boolErr && boolErr.isBoolean()) {
+                assembler.cell(boolErr.getRow(), boolErr.getColumn(), String.valueOf(boolErr.getBooleanValue()));
+            } else if (record instanceof LastCellOfRowDummyRecord lastCell) {
+                assembler.endRow(lastCell.getRow());
+            }
+        }
+    }
+
+    /**
+     * XSSF SAX 셀 이벤트를 셀 값으로 변환
+     */
+    private static final class XssfRowHandler implements SheetContentsHandler {
+        private final RowAssembler assembler;
+        private int row;
+        private int nextColumn;
+
+        private XssfRowHandler(RowAssembler assembler) {
+            this.assembler = assembler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            row = rowNum;
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            assembler.endRow(rowNum);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? columnIndex(cellReference) : nextColumn;
+            nextColumn = column + 1;
+            assembler.cell(row, column, formattedValue != null ? formattedValue : "");
+        }
+
+        /**
+         * "AB12" 형식 셀 주소의 열 번호 (0부터)
+         */
+        private static int columnIndex(String cellReference) {
+            int column = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                column = column * 26 + (c - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+
+    /**
+     * 일반 서식 숫자를 워크북 모드와 같은 형식(정수는 소수점 없이)으로 변환
+     */
+    private static final class PlainNumberFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString,
+                boolean use1904Windowing) {
+            if (formatIndex == 0 || "General".equalsIgnoreCase(formatString)) {
+                return numericText(value);
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString, use1904Windowing);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.BusinessEntityRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 지역을 한 작업으로 수집합니다.
+ * 지역 N을 보강하는 동안 다음 지역(최대 prefetch-regions개)의 다운로드, 파싱, 검증을 미리 진행합니다.
+ * 보강 단계의 외부 조회는 공용 lookupExecutor와 LookupQuota를 거치므로 일괄 작업 전체가 같은 동시 호출 수와
+ * 일일 한도를 나눠 씁니다. 준비 단계는 단일 스레드 regionPrepareExecutor에서 실행하므로, 다운로드 디렉터리를
+ * 공유하는 공정위 CSV 다운로드는 여러 일괄 작업 사이에서도 한 번에 한 지역씩만 진행됩니다.
+ */
+@Slf4j
+@Component
+public class RegionBatchIngestor {
+
+    private final DomesticBusinessEntityService domesticBusinessEntityService;
+    private final OverseasBusinessEntityService overseasBusinessEntityService;
+    private final Executor prepareExecutor;
+    private final int prefetchRegions;
+
+    public RegionBatchIngestor(
+            DomesticBusinessEntityService domesticBusinessEntityService,
+            OverseasBusinessEntityService overseasBusinessEntityService,
+            @Qualifier("regionPrepareExecutor") Executor prepareExecutor,
+            @Value("${ingestion.batch.prefetch-regions:1}") int prefetchRegions) {
+        this.domesticBusinessEntityService = domesticBusinessEntityService;
+        this.overseasBusinessEntityService = overseasBusinessEntityService;
+        this.prepareExecutor = prepareExecutor;
+        this.prefetchRegions = Math.max(0, prefetchRegions);
+    }
+
+    /**
+     * 지역을 순서대로 보강, 저장합니다. 한 지역이 실패해도 나머지 지역은 계속 진행합니다.
+     *
+     * @param regions 수집할 지역
+     * @param job 지역별 완료 수와 전체 진행 상황을 기록할 작업
+     * @return 모든 지역에서 저장된 사업자 수
+     */
+    public int ingest(List<BusinessEntityRequest> regions, IngestionJob job) {
+        IngestionProgress progress = job.getProgress();
+        progress.enter(IngestionProgress.Stage.DOWNLOADING);
+
+        List<CompletableFuture<DomesticBusinessEntityService.PreparedRegion>> prepared = new ArrayList<>(regions.size());
+        // 지역별 건수는 따로 두고 작업 전체 건수에도 함께 더함 (같은 지역의 다른 실행에 합류하면 그 실행이 이 건수를 받음)
+        List<IngestionProgress> regionProgress = new ArrayList<>(regions.size());
+        int savedCount = 0;
+        for (int i = 0; i < regions.size(); i++) {
+            // 현재 지역 뒤로 prefetch-regions개까지 준비 단계를 예약
+            while (prepared.size() < regions.size() && prepared.size() <= i + prefetchRegions) {
+                IngestionProgress next = progress.child();
+                regionProgress.add(next);
+                prepared.add(schedulePrepare(regions.get(prepared.size()), next));
+            }
+
+            BusinessEntityRequest region = regions.get(i);
+            try {
+                int saved;
+                progress.enter(IngestionProgress.Stage.ENRICHING);
+                if (isOverseas(region)) {
+                    saved = overseasBusinessEntityService.processBusinessEntities(
+                        region.getCity(), region.getDistrict(), regionProgress.get(i));
+                } else {
+                    saved = domesticBusinessEntityService.enrichAndSave(prepared.get(i).join(), regionProgress.get(i));
+                }
+                savedCount += saved;
+                job.regionFinished(false);
+                log.info("일괄 수집 지역 완료 ({}/{}) - city: {}, district: {}, 저장: {}",
+                    i + 1, regions.size(), region.getCity(), region.getDistrict(), saved);
+            } catch (Exception e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                job.regionFinished(true);
+                log.error("일괄 수집 지역 실패 ({}/{}) - city: {}, district: {}, error: {}",
+                    i + 1, regions.size(), region.getCity(), region.getDistrict(), cause.getMessage());
+            }
+            // 끝난 지역의 보강 대상 목록은 바로 놓아줌
+            prepared.set(i, null);
+            regionProgress.set(i, null);
+        }
+        log.info("일괄 수집 완료 - 지역: {}, 실패: {}, 저장: {}", regions.size(), job.getRegionsFailed(), savedCount);
+        return savedCount;
+    }
+
+    /**
+     * 지역의 다운로드, 파싱, 검증을 준비 스레드에 예약합니다.
+     * 국외사업자는 별도 다운로더를 쓰므로 보강 순서가 되었을 때 한 번에 처리합니다.
+     */
+    private CompletableFuture<DomesticBusinessEntityService.PreparedRegion> schedulePrepare(
+            BusinessEntityRequest region, IngestionProgress regionProgress) {
+        if (isOverseas(region)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            // 지역별 단계는 하위 진행 상황에만 기록되어 작업 진행 상황의 단계를 덮어쓰지 않음
+            return CompletableFuture.supplyAsync(
+                () -> domesticBusinessEntityService.prepareRegion(region.getCity(), region.getDistrict(), regionProgress),
+                prepareExecutor);
+        } catch (RuntimeException e) {
+            // 실행 풀이 가득 차 등록이 거절된 경우 이 지역만 실패 처리
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean isOverseas(BusinessEntityRequest region) {
+        return "국외사업자".equals(region.getCity());
+    }
+}
@@ -0,0 +1,12 @@
+package com.antock.backend.service;
+
+public interface RegionRefreshService {
+    /**
+     * 모든 국내 시/도 전체와 국외사업자를 오래된 순서로 갱신합니다.
+     * 지역 사이에는 설정된 간격만큼 쉬고, 공공데이터포털 일일 호출 한도가 부족하면 해당 지역을 다음 실행으로 미룹니다.
+     * 이미 갱신이 진행 중이면 아무것도 하지 않습니다.
+     *
+     * @return 끝까지 갱신한 지역 수
+     */
+    int refreshAll();
+}
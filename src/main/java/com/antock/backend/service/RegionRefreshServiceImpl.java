@@ -0,0 +1,167 @@
+package com.antock.backend.service;
+
+import com.antock.backend.client.FtcCsvClient;
+import com.antock.backend.domain.RegionRefreshState;
+import com.antock.backend.repository.RegionRefreshStateRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class RegionRefreshServiceImpl implements RegionRefreshService {
+
+    private static final String OVERSEAS = "국외사업자";
+
+    // 한 번도 갱신하지 않은 지역이 가장 먼저, 그다음 오래된 순, 같으면 행 수가 적은 지역부터 (한도 안에서 더 많은 지역 완료)
+    private static final Comparator<RegionRefreshState> STALEST_FIRST = Comparator
+        .comparing(RegionRefreshState::getLastRefreshedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+        .thenComparingLong(RegionRefreshState::getExpectedRows);
+
+    private final DomesticBusinessEntityService domesticBusinessEntityService;
+    private final OverseasBusinessEntityService overseasBusinessEntityService;
+    private final FtcCsvClient ftcCsvClient;
+    private final RegionRefreshStateRepository refreshStateRepository;
+    private final LookupQuota lookupQuota;
+    private final long staggerMillis;
+    private final int quotaReserve;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RegionRefreshServiceImpl(
+            DomesticBusinessEntityService domesticBusinessEntityService,
+            OverseasBusinessEntityService overseasBusinessEntityService,
+            FtcCsvClient ftcCsvClient,
+            RegionRefreshStateRepository refreshStateRepository,
+            LookupQuota lookupQuota,
+            @Value("${ingestion.refresh.stagger-seconds:60}") long staggerSeconds,
+            @Value("${ingestion.refresh.quota-reserve:500}") int quotaReserve) {
+        this.domesticBusinessEntityService = domesticBusinessEntityService;
+        this.overseasBusinessEntityService = overseasBusinessEntityService;
+        this.ftcCsvClient = ftcCsvClient;
+        this.refreshStateRepository = refreshStateRepository;
+        this.lookupQuota = lookupQuota;
+        this.staggerMillis = TimeUnit.SECONDS.toMillis(staggerSeconds);
+        this.quotaReserve = quotaReserve;
+    }
+
+    @Override
+    public int refreshAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("예약 갱신이 이미 진행 중입니다. 이번 실행은 건너뜁니다.");
+            return 0;
+        }
+        try {
+            return refreshInStalenessOrder();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int refreshInStalenessOrder() {
+        Map<String, RegionRefreshState> stored = refreshStateRepository.findAll().stream()
+            .collect(Collectors.toMap(RegionRefreshState::getRegionKey, Function.identity()));
+        List<RegionRefreshState> regions = new ArrayList<>();
+        for (String city : ftcCsvClient.getDomesticCities()) {
+            String regionKey = InFlightRegionRuns.regionKey(city, "");
+            regions.add(stored.getOrDefault(regionKey, RegionRefreshState.initial(regionKey)));
+        }
+        String overseasKey = InFlightRegionRuns.regionKey(OVERSEAS, "");
+        regions.add(stored.getOrDefault(overseasKey, RegionRefreshState.initial(overseasKey)));
+        regions.sort(STALEST_FIRST);
+        log.info("예약 갱신 시작 - 지역 수: {}, 남은 조회 한도: {}", regions.size(), lookupQuota.remaining());
+
+        int refreshed = 0;
+        int deferred = 0;
+        boolean started = false;
+        for (RegionRefreshState state : regions) {
+            String city = cityOf(state.getRegionKey());
+            boolean overseas = OVERSEAS.equals(city);
+
+            // 국내 지역은 보강 단계에서 공공데이터포털 조회를 쓰므로 한도(수동 요청용 여유분 제외)를 먼저 확인
+            // 하루 한도로도 끝낼 수 없는 지역은 기다려도 나아지지 않으므로, 남은 한도가 있으면 실행하고 다음 실행에서 이어서 진행
+            if (!overseas) {
+                int available = lookupQuota.remaining() - quotaReserve;
+                long dailyBudget = lookupQuota.getDailyLimit() - quotaReserve;
+                long expected = state.getExpectedLookups();
+                if (available <= 0 || (expected <= dailyBudget && expected > available)) {
+                    log.info("조회 한도 부족으로 다음 실행으로 미룸 - region: {}, 예상 조회: {}, 사용 가능: {}",
+                        state.getRegionKey(), state.getExpectedLookups(), Math.max(available, 0));
+                    state.deferred(0);
+                    refreshStateRepository.save(state);
+                    deferred++;
+                    continue;
+                }
+            }
+
+            // 지역 사이 간격 (외부 사이트에 요청이 몰리지 않도록)
+            if (started && !pause()) {
+                log.warn("예약 갱신 중단 (인터럽트)");
+                break;
+            }
+            started = true;
+
+            IngestionProgress progress = new IngestionProgress();
+            try {
+                if (overseas) {
+                    overseasBusinessEntityService.processBusinessEntities(OVERSEAS, "", progress);
+                } else {
+                    domesticBusinessEntityService.processBusinessEntities(city, "", progress);
+                }
+            } catch (Exception e) {
+                log.error("예약 갱신 실패 - region: {}, error: {}", state.getRegionKey(), e.getMessage());
+                state.failed();
+                refreshStateRepository.save(state);
+                continue;
+            }
+
+            // 실제로 외부 API를 호출한 수만 예상치로 사용 (한도 때문에 건너뛴 조회는 제외)
+            long lookups = progress.getLookupsCompleted() + progress.getLookupsFailed();
+            if (!overseas && lookupQuota.remaining() == 0 && progress.getLookupsDenied() > 0) {
+                // 실행 중에 한도를 다 써서 일부 조회를 건너뜀 - 다음 실행에서 이어서 (저장된 행은 다시 조회하지 않음)
+                log.info("실행 중 조회 한도 소진 - region: {}, 다음 실행에서 이어서 갱신합니다.", state.getRegionKey());
+                state.deferred(lookups);
+                refreshStateRepository.save(state);
+                deferred++;
+                continue;
+            }
+            if (progress.getRowsParsed() == 0 && lookups == 0) {
+                // 다운로드 실패 등으로 이번 실행에서 측정한 작업이 없으면
+                // 직전 예상치를 지우지 않음 (다음 실행의 순서와 한도 예측 유지)
+                state.refreshed();
+            } else {
+                state.refreshed(progress.getRowsParsed(), lookups);
+            }
+            refreshStateRepository.save(state);
+            refreshed++;
+        }
+        log.info("예약 갱신 완료 - 갱신: {}, 미룸: {}, 남은 조회 한도: {}", refreshed, deferred, lookupQuota.remaining());
+        return refreshed;
+    }
+
+    private boolean pause() {
+        if (staggerMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(staggerMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String cityOf(String regionKey) {
+        return regionKey.substring(0, regionKey.indexOf(':'));
+    }
+}
@@ -0,0 +1,175 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보강 작업 스레드와 저장소 사이의 write-behind 버퍼
+ * 생산자는 put으로 엔티티를 넣고, 전용 쓰기 스레드가 batchSize만큼 모이거나 maxDelay가 지나면 배치로 저장합니다.
+ * 버퍼가 가득 차면 put이 대기하므로 DB가 느려지면 보강 작업도 함께 느려집니다 (backpressure).
+ * 한 번의 수집 실행 동안만 사용하고 close로 남은 엔티티를 모두 저장한 뒤 종료합니다.
+ */
+@Slf4j
+public class WriteBehindBuffer implements AutoCloseable {
+
+    // 쓰기 스레드가 죽었는지 확인하는 간격 (put 대기 중)
+    private static final long PUT_CHECK_INTERVAL_MS = 1000;
+
+    // close가 마지막으로 넣는 종료 신호 (대기 중인 쓰기 스레드를 바로 깨움)
+    private static final BusinessEntity CLOSE_SIGNAL = BusinessEntity.builder().build();
+
+    private final BlockingQueue<BusinessEntity> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Consumer<List<BusinessEntity>> sink;
+    private final Thread writerThread;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder blockedPuts = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * @param name 쓰기 스레드 이름
+     * @param capacity 버퍼 크기 (가득 차면 생산자가 대기)
+     * @param batchSize 한 번에 저장할 최대 건수
+     * @param maxDelayMillis 첫 엔티티가 들어온 뒤 배치를 저장하기까지 최대 대기 시간
+     * @param sink 배치 저장 함수 (쓰기 스레드에서만 호출됨)
+     */
+    public WriteBehindBuffer(String name, int capacity, int batchSize, long maxDelayMillis,
+            Consumer<List<BusinessEntity>> sink) {
+        if (capacity <= 0 || batchSize <= 0 || maxDelayMillis <= 0) {
+            throw new IllegalArgumentException("capacity, batchSize, maxDelayMillis는 0보다 커야 합니다.");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.sink = sink;
+        this.writerThread = new Thread(this::drainLoop, name);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 엔티티를 버퍼에 넣습니다. 버퍼가 가득 차 있으면 자리가 날 때까지 대기합니다.
+     *
+     * @throws IllegalStateException 버퍼가 닫혔거나 쓰기 스레드가 종료된 경우
+     */
+    public void put(BusinessEntity entity) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("닫힌 write-behind 버퍼입니다.");
+        }
+        if (queue.offer(entity)) {
+            return;
+        }
+        blockedPuts.increment();
+        while (!queue.offer(entity, PUT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+            if (!writerThread.isAlive()) {
+                throw new IllegalStateException("write-behind 쓰기 스레드가 종료되었습니다.");
+            }
+        }
+    }
+
+    /**
+     * 새 엔티티를 더 받지 않고, 남은 엔티티를 모두 저장할 때까지 기다립니다.
+     * 모든 생산자의 put이 끝난 뒤 호출해야 합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        boolean interrupted = false;
+        boolean signaled = false;
+        while (writerThread.isAlive()) {
+            try {
+                if (!signaled) {
+                    signaled = queue.offer(CLOSE_SIGNAL, PUT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                } else {
+                    writerThread.join();
+                }
+            } catch (InterruptedException e) {
+                // 남은 엔티티 저장을 끝까지 기다린 뒤 인터럽트 상태를 복원
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("write-behind 버퍼 종료 [{}]. 전달: {}건, 저장 오류: {}건, 생산자 대기: {}회",
+            writerThread.getName(), written.sum(), failed.sum(), blockedPuts.sum());
+    }
+
+    /**
+     * 저장 함수로 전달된 건수
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * 저장 함수가 예외를 던져 저장되지 못한 건수
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * 버퍼가 가득 차 생산자가 대기한 횟수
+     */
+    public long getBlockedPutCount() {
+        return blockedPuts.sum();
+    }
+
+    private void drainLoop() {
+        List<BusinessEntity> batch = new ArrayList<>(batchSize);
+        long batchDeadline = 0;
+        boolean closing = false;
+        while (!closing) {
+            BusinessEntity entity;
+            try {
+                long waitNanos = batch.isEmpty() ? maxDelayNanos : batchDeadline - System.nanoTime();
+                entity = waitNanos > 0 ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : queue.poll();
+            } catch (InterruptedException e) {
+                // 쓰기 스레드는 종료 신호로만 끝나며, 인터럽트되어도 계속 저장
+                entity = null;
+            }
+            if (entity == CLOSE_SIGNAL) {
+                closing = true;
+            } else if (entity != null) {
+                if (batch.isEmpty()) {
+                    batchDeadline = System.nanoTime() + maxDelayNanos;
+                }
+                batch.add(entity);
+                queue.drainTo(batch, batchSize - batch.size());
+                // 종료 신호는 항상 마지막 원소이므로 끝만 확인
+                if (batch.get(batch.size() - 1) == CLOSE_SIGNAL) {
+                    batch.remove(batch.size() - 1);
+                    closing = true;
+                }
+            }
+
+            boolean due = !batch.isEmpty() && System.nanoTime() - batchDeadline >= 0;
+            if (batch.size() >= batchSize || due || (closing && !batch.isEmpty())) {
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    private void flush(List<BusinessEntity> batch) {
+        try {
+            sink.accept(batch);
+            written.add(batch.size());
+        } catch (Exception e) {
+            // 쓰기 스레드가 종료되면 생산자가 대기하므로 오류는 집계만 하고 계속 진행
+            failed.add(batch.size());
+            log.error("write-behind 배치 저장 실패 [{}]: {}건, 이유: {}",
+                writerThread.getName(), batch.size(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정값(ingestion.write-behind.*)으로 수집 실행마다 write-behind 버퍼를 생성합니다.
+ */
+@Component
+public class WriteBehindBufferFactory {
+
+    private final int capacity;
+    private final int batchSize;
+    private final long maxDelayMillis;
+
+    public WriteBehindBufferFactory(
+            @Value("${ingestion.write-behind.capacity:2000}") int capacity,
+            @Value("${ingestion.commit-chunk-size:500}") int batchSize,
+            @Value("${ingestion.write-behind.max-delay-ms:1000}") long maxDelayMillis) {
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public WriteBehindBuffer open(String name, Consumer<List<BusinessEntity>> sink) {
+        return new WriteBehindBuffer(name, capacity, batchSize, maxDelayMillis, sink);
+    }
+}
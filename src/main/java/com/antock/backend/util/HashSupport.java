@@ -0,0 +1,46 @@
+package com.antock.backend.util;
+
+/**
+ * 원시 타입 해시 컬렉션 공통 계산
+ */
+final class HashSupport {
+
+    static final float LOAD_FACTOR = 0.6f;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private HashSupport() {
+    }
+
+    /**
+     * 예상 크기를 부하율 이하로 담을 수 있는 2의 거듭제곱 테이블 크기
+     */
+    static int tableSizeFor(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        int capacity = 16;
+        while (capacity < required && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * 연속된 사업자등록번호가 같은 구간에 몰리지 않도록 비트를 섞은 뒤 슬롯을 계산
+     */
+    static int slot(long key, int mask) {
+        return (int) mix(key) & mask;
+    }
+
+    /**
+     * murmur3 fmix64 (슬롯은 하위 비트, 캐시 세그먼트는 상위 비트를 사용)
+     */
+    static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,198 @@
+package com.antock.backend.util;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * long 키 read-through LRU 캐시 (스레드 안전)
+ * 키를 세그먼트로 나누어 세그먼트마다 잠금, LRU 목록, 최대 크기를 따로 둡니다.
+ * 세그먼트가 가득 차면 가장 오래 사용하지 않은 항목을 제거합니다.
+ *
+ * @param <V> 값 타입 (로더가 null을 반환하면 캐시하지 않음)
+ */
+public class LongLruCache<V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public LongLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다: " + maxSize);
+        }
+        // 세그먼트 수는 2의 거듭제곱이고 maxSize를 넘지 않음 (전체 항목 수 <= maxSize)
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maxSize / segmentCount);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.maxSize = segmentCount * (maxSize / segmentCount);
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 로더로 읽어 캐시합니다.
+     * 로딩 중에 같은 세그먼트가 무효화되었다면 읽은 값이 이미 오래되었을 수 있으므로 캐시하지 않습니다.
+     *
+     * @return 값, 로더가 null을 반환했으면 null
+     */
+    public V get(long key, LongFunction<V> loader) {
+        Segment<V> segment = segmentFor(key);
+        V cached = segment.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long generation = segment.generation();
+        V loaded = loader.apply(key);
+        if (loaded != null && segment.put(key, loaded, generation)) {
+            evictions.increment();
+        }
+        return loaded;
+    }
+
+    public void invalidate(long key) {
+        segmentFor(key).invalidate(key);
+    }
+
+    public void invalidateAll() {
+        for (Segment<V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment<V> segmentFor(long key) {
+        // 세그먼트 안의 해시 맵은 하위 비트로 슬롯을 정하므로 상위 비트로 세그먼트를 선택
+        return segments[(int) (HashSupport.mix(key) >>> 32) & segmentMask];
+    }
+
+    private static final class Node<V> {
+        private final long key;
+        private V value;
+        private Node<V> prev;
+        private Node<V> next;
+
+        private Node(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static final class Segment<V> {
+        private final LongObjectHashMap<Node<V>> entries;
+        private final int capacity;
+        // 원형 목록의 기준 노드: head.next가 가장 최근, head.prev가 가장 오래된 항목
+        private final Node<V> head = new Node<>(0, null);
+        // 무효화될 때마다 증가 (로딩 중 무효화 감지용)
+        private long generation;
+
+        private Segment(int capacity) {
+            this.entries = new LongObjectHashMap<>(capacity + 1);
+            this.capacity = capacity;
+            head.prev = head;
+            head.next = head;
+        }
+
+        private synchronized V get(long key) {
+            Node<V> node = entries.get(key);
+            if (node == null) {
+                return null;
+            }
+            unlink(node);
+            linkFirst(node);
+            return node.value;
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+
+        /**
+         * @return 항목을 제거했으면 true
+         */
+        private synchronized boolean put(long key, V value, long expectedGeneration) {
+            if (generation != expectedGeneration) {
+                return false;
+            }
+            Node<V> node = entries.get(key);
+            if (node != null) {
+                node.value = value;
+                unlink(node);
+                linkFirst(node);
+                return false;
+            }
+            node = new Node<>(key, value);
+            entries.put(key, node);
+            linkFirst(node);
+            if (entries.size() > capacity) {
+                Node<V> eldest = head.prev;
+                unlink(eldest);
+                entries.remove(eldest.key);
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void invalidate(long key) {
+            generation++;
+            Node<V> node = entries.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        }
+
+        private synchronized void clear() {
+            generation++;
+            entries.clear();
+            head.prev = head;
+            head.next = head;
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private void linkFirst(Node<V> node) {
+            node.prev = head;
+            node.next = head.next;
+            head.next.prev = node;
+            head.next = node;
+        }
+
+        private void unlink(Node<V> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.antock.backend.controller;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.repository.BusinessEntityStorage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("사업자 정보 내보내기 API 테스트")
+class BusinessEntityExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BusinessEntityStorage businessEntityStorage;
+
+    @Test
+    @DisplayName("CSV 내보내기는 조건에 맞는 모든 행을 id 순서로 쓰고 특수문자가 있는 값은 따옴표로 감싸야 함")
+    void export_shouldStreamCsvRows() throws Exception {
+        // Given - fetch size(1000)보다 많은 행
+        List<BusinessEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            entities.add(entity("EXPORT-CSV-" + i, String.format("49%08d", i), "9944000000", "상호 " + i));
+        }
+        entities.add(entity("EXPORT-CSV-QUOTE", "4990000000", "9944000000", "주식회사 \"큰따옴표\", 쉼표"));
+        businessEntityStorage.saveAll(entities);
+
+        // When
+        MvcResult started = mockMvc.perform(get("/v1/business/export")
+                .param("format", "csv")
+                .param("administrativeCode", "9944"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"business_entity.csv\""))
+            .andReturn();
+
+        // Then
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2_502, lines.length);
+        assertEquals("id,mail_order_sales_number,company_name,business_number,"
+            + "corporate_registration_number,administrative_code,is_overseas", lines[0]);
+        assertEquals(",EXPORT-CSV-0,상호 0,4900000000,,9944000000,false",
+            lines[1].substring(lines[1].indexOf(',')));
+        assertEquals(",EXPORT-CSV-QUOTE,\"주식회사 \"\"큰따옴표\"\", 쉼표\",4990000000,,9944000000,false",
+            lines[2_501].substring(lines[2_501].indexOf(',')));
+    }
+
+    @Test
+    @DisplayName("gzip NDJSON 내보내기는 압축된 한 줄당 JSON 객체 하나를 써야 함")
+    void export_shouldStreamGzippedNdjson() throws Exception {
+        // Given
+        businessEntityStorage.saveAll(List.of(
+            entity("EXPORT-JSON-1", "4991000001", "9955000000", "상호 1"),
+            entity("EXPORT-JSON-2", "4991000002", "9955000000", "상호 2")));
+
+        // When
+        MvcResult started = mockMvc.perform(get("/v1/business/export")
+                .param("format", "ndjson")
+                .param("gzip", "true")
+                .param("administrativeCode", "9955"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andReturn();
+
+        // Then
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("EXPORT-JSON-1", first.get("mailOrderSalesNumber").asText());
+        assertEquals("EXPORT-JSON-2", objectMapper.readTree(lines[1]).get("mailOrderSalesNumber").asText());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 스트리밍을 시작하지 않고 400을 반환해야 함")
+    void export_shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/v1/business/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private BusinessEntity entity(String mailOrderSalesNumber, String businessNumber,
+            String administrativeCode, String companyName) {
+        return BusinessEntity.builder()
+            .mailOrderSalesNumber(mailOrderSalesNumber)
+            .companyName(companyName)
+            .businessNumber(businessNumber)
+            .administrativeCode(administrativeCode)
+            .build();
+    }
+}
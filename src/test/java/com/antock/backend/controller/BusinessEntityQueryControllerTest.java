@@ -0,0 +1,195 @@
+package com.antock.backend.controller;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.repository.BusinessEntityStorage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("사업자 목록 조회 API 테스트")
+class BusinessEntityQueryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BusinessEntityStorage businessEntityStorage;
+
+    @Test
+    @DisplayName("cursor로 끝까지 조회하면 조건에 맞는 사업자를 중복이나 누락 없이 id 순서로 반환해야 함")
+    void getBusinessEntities_shouldPageThroughFilteredRowsWithoutGapsOrDuplicates() throws Exception {
+        // Given - 조회 대상 25건 (국내), 같은 행정구역의 국외 사업자 5건, 다른 행정구역 5건
+        List<BusinessEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            entities.add(entity("PAGE-DOM-" + i, String.format("45%08d", i), "9911000000", false));
+        }
+        for (int i = 0; i < 5; i++) {
+            entities.add(entity("PAGE-OVS-" + i, String.format("46%08d", i), "9911000000", true));
+            entities.add(entity("PAGE-ETC-" + i, String.format("47%08d", i), "9922000000", false));
+        }
+        businessEntityStorage.saveAll(entities);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/v1/business")
+                .param("administrativeCode", "9911")
+                .param("isOverseas", "false")
+                .param("size", "10");
+            if (cursor != null) {
+                request.param("cursor", String.valueOf(cursor));
+            }
+            String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            for (JsonNode item : page.get("items")) {
+                assertEquals("9911000000", item.get("administrativeCode").asText());
+                ids.add(item.get("id").asLong());
+            }
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asLong() : null;
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertEquals(3, pages);
+        assertEquals(25, ids.size());
+        assertEquals(25, new HashSet<>(ids).size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("행정구역코드는 시/도 코드, 앞자리, 전체 코드 조건 모두 해당 행정구역의 사업자만 반환해야 함")
+    void getBusinessEntities_shouldFilterByRegionPrefixAndExactCode() throws Exception {
+        // Given
+        businessEntityStorage.saveAll(List.of(
+            entity("PAGE-REG-1", "4970000001", "9811010100", false),
+            entity("PAGE-REG-2", "4970000002", "9811020100", false),
+            entity("PAGE-REG-3", "4970000003", "9822010100", false),
+            entity("PAGE-REG-4", "4970000004", "9711010100", false)));
+
+        // When & Then
+        assertEquals(Set.of("PAGE-REG-1", "PAGE-REG-2", "PAGE-REG-3"), mailOrderSalesNumbers("98"));
+        assertEquals(Set.of("PAGE-REG-1", "PAGE-REG-2"), mailOrderSalesNumbers("98110"));
+        assertEquals(Set.of("PAGE-REG-2"), mailOrderSalesNumbers("9811020100"));
+    }
+
+    @Test
+    @DisplayName("사업자등록번호로 조회하면 해당 사업자만 반환해야 함")
+    void getBusinessEntities_shouldFilterByBusinessNumber() throws Exception {
+        // Given
+        businessEntityStorage.saveAll(List.of(
+            entity("PAGE-BN-1", "4800000001", "9933000000", false),
+            entity("PAGE-BN-2", "4800000002", "9933000000", false)));
+
+        // When
+        String body = mockMvc.perform(get("/v1/business").param("businessNumber", "4800000002"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // Then
+        JsonNode page = objectMapper.readTree(body);
+        Set<String> mailOrderSalesNumbers = new HashSet<>();
+        page.get("items").forEach(item -> mailOrderSalesNumbers.add(item.get("mailOrderSalesNumber").asText()));
+        assertEquals(Set.of("PAGE-BN-2"), mailOrderSalesNumbers);
+        assertEquals(false, page.get("hasNext").asBoolean());
+    }
+
+    @Test
+    @DisplayName("단건 조회는 하이픈 없는 10자리로 저장된 행과 원본 표기로 저장된 이전 행을 모두 찾아야 함")
+    void getBusinessEntity_shouldFindNormalizedAndLegacyRows() throws Exception {
+        // Given - 정규화된 행과 하이픈 표기로 저장된 이전 국내 행
+        businessEntityStorage.saveAll(List.of(
+            entity("SINGLE-BN-1", "4650000018", "9933000000", false),
+            entity("SINGLE-BN-2", "465-00-00022", "9933000000", false)));
+
+        // When / Then
+        String normalized = mockMvc.perform(get("/v1/business/4650000018"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        assertEquals("SINGLE-BN-1", objectMapper.readTree(normalized).get("mailOrderSalesNumber").asText());
+        String legacy = mockMvc.perform(get("/v1/business/4650000022"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        assertEquals("SINGLE-BN-2", objectMapper.readTree(legacy).get("mailOrderSalesNumber").asText());
+        mockMvc.perform(get("/v1/business/4650000037"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("통신판매번호로 사업자 한 건을 조회하고, 없으면 404를 반환해야 함")
+    void getBusinessEntityByMailOrderSalesNumber_shouldReturnSingleEntity() throws Exception {
+        // Given
+        businessEntityStorage.saveAll(List.of(entity("2024-서울강남-0001", "4650000041", "9933000000", false)));
+
+        // When / Then
+        String body = mockMvc.perform(get("/v1/business/mail-order-sales-number")
+                .param("mailOrderSalesNumber", "2024-서울강남-0001"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        assertEquals("4650000041", objectMapper.readTree(body).get("businessNumber").asText());
+        mockMvc.perform(get("/v1/business/mail-order-sales-number").param("mailOrderSalesNumber", "2024-서울강남-9999"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("행정구역코드 형식이나 페이지 크기가 잘못되면 400을 반환해야 함")
+    void getBusinessEntities_shouldRejectInvalidParameters() throws Exception {
+        mockMvc.perform(get("/v1/business").param("administrativeCode", "11%"))
+            .andExpect(status().isBadRequest());
+        // 시/도 코드(2자리)보다 짧은 앞자리는 인덱스로 찾을 수 없음
+        mockMvc.perform(get("/v1/business").param("administrativeCode", "1"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/business").param("size", "0"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/business").param("size", "1001"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private Set<String> mailOrderSalesNumbers(String administrativeCode) throws Exception {
+        String body = mockMvc.perform(get("/v1/business").param("administrativeCode", administrativeCode))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        Set<String> mailOrderSalesNumbers = new HashSet<>();
+        objectMapper.readTree(body).get("items")
+            .forEach(item -> mailOrderSalesNumbers.add(item.get("mailOrderSalesNumber").asText()));
+        return mailOrderSalesNumbers;
+    }
+
+    private BusinessEntity entity(String mailOrderSalesNumber, String businessNumber,
+            String administrativeCode, boolean overseas) {
+        return BusinessEntity.builder()
+            .mailOrderSalesNumber(mailOrderSalesNumber)
+            .companyName("목록 조회 " + mailOrderSalesNumber)
+            .businessNumber(businessNumber)
+            .administrativeCode(administrativeCode)
+            .isOverseas(overseas)
+            .build();
+    }
+}
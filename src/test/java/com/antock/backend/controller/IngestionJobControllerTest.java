@@ -0,0 +1,105 @@
+package com.antock.backend.controller;
+
+import com.antock.backend.dto.BusinessEntityRequest;
+import com.antock.backend.service.DomesticBusinessEntityService;
+import com.antock.backend.service.IngestionProgress;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "ingestion.jobs.events.interval-ms=50")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("비동기 수집 작업 API 테스트")
+class IngestionJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private DomesticBusinessEntityService domesticBusinessEntityService;
+
+    @Test
+    @DisplayName("작업 등록은 202와 작업 주소를 반환하고, 그 주소로 결과를 조회할 수 있어야 함")
+    void submit_shouldReturnAcceptedWithJobLocation() throws Exception {
+        // Given
+        when(domesticBusinessEntityService.processBusinessEntitiesAsync(
+                eq("서울특별시"), eq("강남구"), any(IngestionProgress.class)))
+            .thenReturn(CompletableFuture.completedFuture(3));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/v1/business/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BusinessEntityRequest("서울특별시", "강남구"))))
+            .andExpect(status().isAccepted())
+            .andExpect(header().exists("Location"))
+            .andReturn();
+
+        // Then
+        mockMvc.perform(get(result.getResponse().getHeader("Location")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("SUCCEEDED"))
+            .andExpect(jsonPath("$.processedCount").value(3))
+            .andExpect(jsonPath("$.regionsCompleted").value(1));
+    }
+
+    @Test
+    @DisplayName("진행 이벤트 스트림은 작업이 끝나면 finished 이벤트를 보내고 닫혀야 함")
+    void streamJobEvents_shouldSendFinishedEvent() throws Exception {
+        // Given
+        when(domesticBusinessEntityService.processBusinessEntitiesAsync(
+                eq("부산광역시"), eq(""), any(IngestionProgress.class)))
+            .thenReturn(CompletableFuture.completedFuture(0));
+        String location = mockMvc.perform(post("/v1/business/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BusinessEntityRequest("부산광역시", ""))))
+            .andReturn().getResponse().getHeader("Location");
+
+        // When
+        MvcResult result = mockMvc.perform(get(location + "/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then: 전송 주기(50ms) 안에 최종 이벤트가 도착
+        String body = "";
+        for (int i = 0; i < 100 && !body.contains("event:finished"); i++) {
+            Thread.sleep(50);
+            body = result.getResponse().getContentAsString();
+        }
+        assertTrue(body.contains("event:finished"), body);
+        assertTrue(body.contains("\"state\":\"SUCCEEDED\""), body);
+    }
+
+    @Test
+    @DisplayName("없는 작업은 조회와 이벤트 스트림 모두 404를 반환해야 함")
+    void unknownJob_shouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/v1/business/jobs/unknown-job"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/business/jobs/unknown-job/events"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,53 @@
+package com.antock.backend.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("사업자등록번호 값 타입 테스트")
+class BusinessNumberTest {
+
+    @Test
+    @DisplayName("하이픈 포함/미포함 문자열을 같은 long 값으로 파싱해야 함")
+    void parse_shouldNormalizeHyphenatedInput() {
+        BusinessNumber hyphenated = BusinessNumber.parse("124-81-00998");
+        BusinessNumber plain = BusinessNumber.parse("1248100998");
+
+        assertEquals(1248100998L, hyphenated.longValue());
+        assertEquals(hyphenated, plain);
+        assertEquals("1248100998", hyphenated.digits());
+        assertEquals("124-81-00998", plain.toString());
+    }
+
+    @Test
+    @DisplayName("앞자리 0이 있는 번호도 10자리 문자열로 복원해야 함")
+    void digits_shouldKeepLeadingZeros() {
+        long value = BusinessNumber.parseDigits("000-00-00000");
+
+        assertEquals(0L, value);
+        assertEquals("0000000000", BusinessNumber.of(value).digits());
+    }
+
+    @Test
+    @DisplayName("검증번호가 맞지 않으면 거부해야 함")
+    void parse_shouldRejectInvalidCheckDigit() {
+        assertTrue(BusinessNumber.isChecksumValid(1248100998L));
+        assertFalse(BusinessNumber.isChecksumValid(1248100997L));
+        assertNull(BusinessNumber.parseOrNull("124-81-00997"));
+        assertThrows(IllegalArgumentException.class, () -> BusinessNumber.parse("124-81-00997"));
+    }
+
+    @Test
+    @DisplayName("자릿수가 다르거나 숫자가 아닌 문자가 있으면 형식 오류로 처리해야 함")
+    void parseDigits_shouldRejectMalformedInput() {
+        assertEquals(BusinessNumber.INVALID, BusinessNumber.parseDigits(null));
+        assertEquals(BusinessNumber.INVALID, BusinessNumber.parseDigits("124-81-0099"));
+        assertEquals(BusinessNumber.INVALID, BusinessNumber.parseDigits("124-81-009981"));
+        assertEquals(BusinessNumber.INVALID, BusinessNumber.parseDigits("124-8I-00998"));
+    }
+}
@@ -27,7 +27,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.ByteArrayInputStream;
@@ -204,16 +207,12 @@ class BusinessEntityIntegrationTest {
         ApplicationContext context = mock(ApplicationContext.class);
         when(context.getBean(OverseasBusinessEntityService.class)).thenReturn(overseasService);
         
-        // 국외 사업자 XLS 파일 다운로드 모킹
-        ResponseEntity<byte[]> mockXlsResponse = new ResponseEntity<>(xlsOutputStream.toByteArray(), HttpStatus.OK);
-        
-        // 모든 RestTemplate.exchange 호출에 대해 응답 설정
-        when(restTemplate.exchange(
-            anyString(), 
-            any(HttpMethod.class),
-            any(HttpEntity.class), 
-            eq(byte[].class)
-        )).thenReturn(mockXlsResponse);
+        // 국외 사업자 XLS 파일 다운로드 모킹 (다운로더의 ResponseExtractor에 응답 전달)
+        doAnswer(invocation -> {
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(new MockClientHttpResponse(xlsData, HttpStatus.OK));
+        }).when(restTemplate).execute(anyString(), any(HttpMethod.class), any(RequestCallback.class),
+            any(ResponseExtractor.class));
         
         // 요청 객체 생성
         BusinessEntityRequest request = new BusinessEntityRequest();
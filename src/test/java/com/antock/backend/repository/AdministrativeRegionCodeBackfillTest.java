@@ -0,0 +1,54 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("시/도 코드 채우기 테스트")
+class AdministrativeRegionCodeBackfillTest {
+
+    @Autowired
+    private AdministrativeRegionCodeBackfill backfill;
+
+    @Autowired
+    private BusinessEntityStorage businessEntityStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("시/도 코드 컬럼이 생기기 전에 저장된 행도 채운 뒤에는 행정구역코드 조회로 찾아야 함")
+    void backfill_shouldMakeExistingRowsVisibleToRegionSearch() {
+        // Given - 컬럼이 비어 있는 이전 행
+        businessEntityStorage.save(BusinessEntity.builder()
+            .mailOrderSalesNumber("BACKFILL-1")
+            .companyName("이전 행")
+            .businessNumber("4660000001")
+            .administrativeCode("9611010100")
+            .build());
+        jdbcTemplate.update("UPDATE business_entity SET administrative_region_code = NULL "
+            + "WHERE mail_order_sales_number = ?", "BACKFILL-1");
+        BusinessEntitySearch search = BusinessEntitySearch.builder().administrativeCodePrefix("9611").build();
+        assertTrue(businessEntityStorage.findPage(search, 0, 10).isEmpty());
+
+        // When
+        int updated = backfill.backfill();
+
+        // Then
+        assertTrue(updated >= 1);
+        List<BusinessEntity> found = businessEntityStorage.findPage(search, 0, 10);
+        assertEquals(List.of("BACKFILL-1"), found.stream().map(BusinessEntity::getMailOrderSalesNumber).toList());
+        assertEquals(0, backfill.backfill());
+    }
+}
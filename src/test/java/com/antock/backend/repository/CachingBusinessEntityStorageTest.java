@@ -0,0 +1,112 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("사업자등록번호 단건 조회 캐시 테스트")
+class CachingBusinessEntityStorageTest {
+
+    @Autowired
+    private JpaBusinessEntityStorage jpaStorage;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CachingBusinessEntityStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new CachingBusinessEntityStorage(jpaStorage, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환하고, 저장하면 다음 조회에서 새 값을 읽어야 함")
+    void findByBusinessNumber_shouldServeFromCacheUntilSaved() {
+        // Given
+        BusinessEntity saved = storage.save(entity("CACHE-1", "5010000001", "캐시 상호"));
+        storage.findByBusinessNumber("5010000001");
+
+        // When
+        BusinessEntity cached = storage.findByBusinessNumber("5010000001").orElseThrow();
+        storage.save(BusinessEntity.builder()
+            .id(saved.getId())
+            .version(saved.getVersion())
+            .mailOrderSalesNumber("CACHE-1")
+            .companyName("변경된 상호")
+            .businessNumber("5010000001")
+            .build());
+
+        // Then
+        assertEquals("캐시 상호", cached.getCompanyName());
+        assertEquals(1, storage.getCache().hitCount());
+        assertEquals("변경된 상호", storage.findByBusinessNumber("5010000001").orElseThrow().getCompanyName());
+        assertEquals(2, storage.getCache().missCount());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 저장한 키는 커밋 전에 다시 읽혀도 커밋 후 캐시에서 제거되어야 함")
+    void saveAll_shouldInvalidateAgainAfterCommit() {
+        // Given
+        storage.saveAll(List.of(entity("CACHE-2", "5010000002", "이전 상호")));
+        BusinessEntity before = storage.findByBusinessNumber("5010000002").orElseThrow();
+
+        // When - 커밋 전 다른 조회가 이전 값을 다시 캐시
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            storage.insertIgnoreAll(List.of(entity("CACHE-2", "5010000002", "무시될 상호")));
+            storage.findByBusinessNumber("5010000002");
+        });
+
+        // Then
+        assertEquals(0, storage.getCache().size());
+        assertEquals(before.getId(), storage.findByBusinessNumber("5010000002").orElseThrow().getId());
+        assertTrue(storage.getCache().size() > 0);
+    }
+
+    @Test
+    @DisplayName("통신판매번호 조회도 두 번째부터 캐시에서 반환하고, 저장하면 다음 조회에서 새 값을 읽어야 함")
+    void findByMailOrderSalesNumber_shouldServeFromCacheUntilSaved() {
+        // Given
+        BusinessEntity saved = storage.save(entity("CACHE-MO-1", "5010000003", "캐시 상호"));
+        storage.findByMailOrderSalesNumber("CACHE-MO-1");
+
+        // When
+        BusinessEntity cached = storage.findByMailOrderSalesNumber("CACHE-MO-1").orElseThrow();
+        storage.save(BusinessEntity.builder()
+            .id(saved.getId())
+            .version(saved.getVersion())
+            .mailOrderSalesNumber("CACHE-MO-1")
+            .companyName("변경된 상호")
+            .businessNumber("5010000003")
+            .build());
+
+        // Then
+        assertEquals("캐시 상호", cached.getCompanyName());
+        assertEquals(1, storage.getMailOrderCache().hitCount());
+        assertEquals("변경된 상호", storage.findByMailOrderSalesNumber("CACHE-MO-1").orElseThrow().getCompanyName());
+        assertEquals(2, storage.getMailOrderCache().missCount());
+        assertTrue(storage.findByMailOrderSalesNumber("CACHE-MO-없음").isEmpty());
+    }
+
+    private BusinessEntity entity(String mailOrderSalesNumber, String businessNumber, String companyName) {
+        return BusinessEntity.builder()
+            .mailOrderSalesNumber(mailOrderSalesNumber)
+            .companyName(companyName)
+            .businessNumber(businessNumber)
+            .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JDBC 저장소 테스트")
+class JdbcBusinessEntityStorageTest {
+
+    @Autowired
+    private JdbcBusinessEntityStorage jdbcStorage;
+
+    @Autowired
+    private JpaBusinessEntityStorage jpaStorage;
+
+    @Test
+    @DisplayName("saveAll은 배치 크기로 나누어떨어지지 않는 건수도 모두 저장하고 고유 ID를 부여해야 함")
+    void saveAll_shouldInsertAllRowsWithUniqueIds() {
+        // Given
+        int count = 1_234;
+        List<BusinessEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(entity("JDBC-" + i, String.format("44%08d", i)));
+        }
+
+        // When
+        List<BusinessEntity> saved = jdbcStorage.saveAll(entities);
+
+        // Then
+        assertEquals(count, saved.size());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            assertNotNull(saved.get(i).getId());
+            assertEquals(entities.get(i).getMailOrderSalesNumber(), saved.get(i).getMailOrderSalesNumber());
+            ids.add(saved.get(i).getId());
+        }
+        assertEquals(count, ids.size());
+        assertEquals(count, jdbcStorage.findByMailOrderSalesNumberIn(
+            entities.stream().map(BusinessEntity::getMailOrderSalesNumber).toList()).size());
+    }
+
+    @Test
+    @DisplayName("JPA와 JDBC 구현체를 번갈아 사용해도 시퀀스 ID가 충돌하지 않아야 함")
+    void saveAll_shouldNotCollideWithJpaIds() {
+        // Given
+        List<BusinessEntity> jpaSaved = jpaStorage.saveAll(List.of(
+            entity("MIXED-JPA-1", "4310000001"), entity("MIXED-JPA-2", "4310000002")));
+
+        // When
+        List<BusinessEntity> jdbcSaved = jdbcStorage.saveAll(List.of(
+            entity("MIXED-JDBC-1", "4320000001"), entity("MIXED-JDBC-2", "4320000002")));
+        List<BusinessEntity> jpaSavedAgain = jpaStorage.saveAll(List.of(entity("MIXED-JPA-3", "4310000003")));
+
+        // Then
+        Set<Long> ids = new HashSet<>();
+        jpaSaved.forEach(entity -> ids.add(entity.getId()));
+        jdbcSaved.forEach(entity -> ids.add(entity.getId()));
+        jpaSavedAgain.forEach(entity -> ids.add(entity.getId()));
+        assertEquals(5, ids.size());
+    }
+
+    @Test
+    @DisplayName("save는 버전이 일치할 때만 갱신하고, 오래된 버전이면 낙관적 락 예외를 던져야 함")
+    void save_shouldCheckVersionOnUpdate() {
+        // Given
+        BusinessEntity saved = jdbcStorage.save(entity("VERSION-1", "4330000001"));
+        BusinessEntity changed = BusinessEntity.builder()
+            .id(saved.getId())
+            .version(saved.getVersion())
+            .mailOrderSalesNumber(saved.getMailOrderSalesNumber())
+            .companyName("변경된 상호")
+            .businessNumber(saved.getBusinessNumber())
+            .build();
+
+        // When
+        BusinessEntity updated = jdbcStorage.save(changed);
+
+        // Then
+        assertEquals(saved.getVersion() + 1, updated.getVersion());
+        assertEquals("변경된 상호", jdbcStorage.findByBusinessNumber("4330000001").orElseThrow().getCompanyName());
+        assertThrows(OptimisticLockingFailureException.class, () -> jdbcStorage.save(changed));
+    }
+
+    @Test
+    @DisplayName("insertIgnoreAll과 중복 조회는 JPA 구현체와 같은 결과를 반환해야 함")
+    void insertIgnoreAll_shouldSkipExistingAndDuplicateRows() {
+        // Given
+        jdbcStorage.insertIgnoreAll(List.of(entity("JDBC-UPSERT-1", "4340000001")));
+
+        // When
+        BulkWriteResult result = jdbcStorage.insertIgnoreAll(Arrays.asList(
+            entity("JDBC-UPSERT-1", "4340000001"),
+            entity("JDBC-UPSERT-2", "4340000002"),
+            entity("JDBC-UPSERT-2", "4340000002")));
+
+        // Then
+        assertEquals(1, result.getInserted());
+        assertEquals(2, result.getSkipped());
+        assertEquals(Set.of("4340000001", "4340000002"),
+            jdbcStorage.findExistingBusinessNumbers(List.of("4340000001", "4340000002", "4340000003")));
+        assertTrue(jdbcStorage.existsByMailOrderSalesNumber("JDBC-UPSERT-2"));
+    }
+
+    @Test
+    @DisplayName("soft-delete된 행은 목록 조회에서 제외되고, includeDeleted 조건에서만 조회되어야 함")
+    void findPage_shouldExcludeSoftDeletedRows() {
+        // Given
+        BusinessEntity saved = jdbcStorage.save(entity("SOFT-DELETE-1", "4350000001"));
+        jdbcStorage.save(BusinessEntity.builder()
+            .id(saved.getId())
+            .version(saved.getVersion())
+            .mailOrderSalesNumber(saved.getMailOrderSalesNumber())
+            .companyName(saved.getCompanyName())
+            .businessNumber(saved.getBusinessNumber())
+            .deletedAt(LocalDateTime.now())
+            .build());
+
+        // When
+        List<BusinessEntity> visible = jdbcStorage.findPage(
+            BusinessEntitySearch.builder().businessNumber("4350000001").build(), 0L, 10);
+        List<BusinessEntity> all = jdbcStorage.findPage(
+            BusinessEntitySearch.builder().businessNumber("4350000001").includeDeleted(true).build(), 0L, 10);
+
+        // Then
+        assertTrue(visible.isEmpty());
+        assertEquals(1, all.size());
+        assertTrue(all.get(0).isDeleted());
+    }
+
+    private BusinessEntity entity(String mailOrderSalesNumber, String businessNumber) {
+        return BusinessEntity.builder()
+            .mailOrderSalesNumber(mailOrderSalesNumber)
+            .companyName("JDBC 테스트 " + mailOrderSalesNumber)
+            .businessNumber(businessNumber)
+            .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.antock.backend.repository;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.service.ChunkCommitResult;
+import com.antock.backend.service.IngestionChunkCommitter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("JPA 저장소 벌크 쓰기 테스트")
+class JpaBusinessEntityStorageBatchTest {
+
+    @Autowired
+    private BusinessEntityStorage businessEntityStorage;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JpaBusinessEntityStorage jpaBusinessEntityStorage;
+
+    @Autowired
+    private IngestionChunkCommitter chunkCommitter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("saveAll은 행마다 INSERT를 준비하지 않고 JDBC 배치로 묶어야 함")
+    void saveAll_shouldGroupInsertsIntoJdbcBatches() {
+        // Given
+        int count = 250;
+        List<BusinessEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(BusinessEntity.builder()
+                .mailOrderSalesNumber("BATCH-" + i)
+                .companyName("배치 테스트 회사" + i)
+                .businessNumber(String.format("77%08d", i))
+                .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> businessEntityStorage.saveAll(entities));
+
+        // Then
+        assertEquals(count, statistics.getEntityInsertCount());
+        // 배치가 비활성화되면 INSERT마다 PreparedStatement가 준비되어 count 이상이 된다
+        long preparedStatements = statistics.getPrepareStatementCount();
+        System.out.println("INSERT " + count + "건에 사용된 PreparedStatement 수: " + preparedStatements);
+        assertTrue(preparedStatements < count / 10,
+            "INSERT가 배치로 묶여야 합니다. PreparedStatement 수: " + preparedStatements);
+    }
+
+    @Test
+    @DisplayName("bulkSaveAll은 10만 건을 한 트랜잭션에서 저장해도 영속성 컨텍스트에 엔티티를 남기지 않아야 함")
+    void bulkSaveAll_shouldKeepPersistenceContextBounded() {
+        // Given
+        int slices = 10;
+        int sliceSize = 10_000;
+        long[] managedEntities = new long[slices];
+
+        // When: 같은 트랜잭션 안에서 1만 건씩 저장하며 매번 관리 중인 엔티티 수를 측정
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int slice = 0; slice < slices; slice++) {
+                List<BusinessEntity> entities = new ArrayList<>(sliceSize);
+                for (int i = 0; i < sliceSize; i++) {
+                    int n = slice * sliceSize + i;
+                    entities.add(BusinessEntity.builder()
+                        .mailOrderSalesNumber("BULK-" + n)
+                        .companyName("대량 적재 회사" + n)
+                        .businessNumber(String.format("88%08d", n))
+                        .build());
+                }
+                jpaBusinessEntityStorage.bulkSaveAll(entities);
+                managedEntities[slice] = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            }
+        });
+
+        // Then: saveAll이었다면 슬라이스마다 1만 건씩 늘어난다
+        Runtime runtime = Runtime.getRuntime();
+        System.out.println("슬라이스별 관리 엔티티 수: " + Arrays.toString(managedEntities)
+            + ", 사용 힙: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + "MB");
+        for (long count : managedEntities) {
+            assertEquals(0, count);
+        }
+        assertTrue(businessEntityStorage.existsByMailOrderSalesNumber("BULK-99999"));
+    }
+
+    @Test
+    @DisplayName("insertIgnoreAll은 이미 존재하거나 배치 내에서 중복된 행을 건너뛰고 건수를 보고해야 함")
+    void insertIgnoreAll_shouldSkipExistingAndDuplicateRows() {
+        // Given
+        businessEntityStorage.insertIgnoreAll(List.of(
+            entity("UPSERT-1", "6600000001")));
+
+        List<BusinessEntity> batch = Arrays.asList(
+            entity("UPSERT-1", "6600000001"),   // 이미 존재
+            entity("UPSERT-2", "6600000002"),
+            entity("UPSERT-3", "6600000003"),
+            entity("UPSERT-3", "6600000003"));  // 배치 내 중복
+
+        // When
+        BulkWriteResult result = businessEntityStorage.insertIgnoreAll(batch);
+
+        // Then
+        assertEquals(2, result.getInserted());
+        assertEquals(2, result.getSkipped());
+        assertTrue(businessEntityStorage.existsByBusinessNumber("6600000002"));
+        assertTrue(businessEntityStorage.existsByMailOrderSalesNumber("UPSERT-3"));
+    }
+
+    @Test
+    @DisplayName("배치 중복 조회는 이미 존재하는 키만 집합으로 반환해야 함")
+    void findExisting_shouldReturnOnlyStoredKeys() {
+        // Given
+        businessEntityStorage.insertIgnoreAll(List.of(
+            entity("EXISTS-1", "5500000001"),
+            entity("EXISTS-2", "5500000002")));
+
+        // When
+        Set<String> existingBusinessNumbers = businessEntityStorage.findExistingBusinessNumbers(
+            List.of("5500000001", "5500000002", "5500000003"));
+        Set<String> existingMailOrderSalesNumbers = businessEntityStorage.findExistingMailOrderSalesNumbers(
+            List.of("EXISTS-2", "EXISTS-3"));
+
+        // Then
+        assertEquals(Set.of("5500000001", "5500000002"), existingBusinessNumbers);
+        assertEquals(Set.of("EXISTS-2"), existingMailOrderSalesNumbers);
+    }
+
+    private BusinessEntity entity(String mailOrderSalesNumber, String businessNumber) {
+        return BusinessEntity.builder()
+            .mailOrderSalesNumber(mailOrderSalesNumber)
+            .companyName("업서트 테스트 " + mailOrderSalesNumber)
+            .businessNumber(businessNumber)
+            .build();
+    }
+
+    @Test
+    @DisplayName("bulkSaveAll 청크의 한 행이 unique 제약에 걸려도 행 단위 재시도로 나머지 새 행은 저장되어야 함")
+    void bulkSaveAll_whenOneRowViolatesUniqueConstraint_shouldSaveOtherRowsOnRetry() {
+        // Given: 국내 수집으로 이미 저장된 사업자등록번호와 겹치는 국외사업자 행
+        businessEntityStorage.save(BusinessEntity.builder()
+            .mailOrderSalesNumber("BULK-CONFLICT-DOMESTIC")
+            .companyName("국내 법인")
+            .businessNumber("6610000000")
+            .build());
+        List<BusinessEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            entities.add(BusinessEntity.builder()
+                .mailOrderSalesNumber("BULK-CONFLICT-" + i)
+                .companyName("국외 법인" + i)
+                .businessNumber(i == 1 ? "6610000000" : String.format("66100000%02d", i + 1))
+                .isOverseas(true)
+                .build());
+        }
+
+        // When: 청크 전체가 한 트랜잭션에서 실패한 뒤 같은 엔티티로 행 단위 재시도
+        ChunkCommitResult result = chunkCommitter.commit("test:bulk-conflict", entities,
+            chunk -> new BulkWriteResult(jpaBusinessEntityStorage.bulkSaveAll(chunk), 0));
+
+        // Then
+        assertFalse(result.isAborted());
+        assertEquals(Set.of("BULK-CONFLICT-1"), result.getFailedRows().keySet());
+        assertTrue(businessEntityStorage.existsByMailOrderSalesNumber("BULK-CONFLICT-0"));
+        assertTrue(businessEntityStorage.existsByMailOrderSalesNumber("BULK-CONFLICT-2"));
+        assertFalse(businessEntityStorage.existsByMailOrderSalesNumber("BULK-CONFLICT-1"));
+    }
+}
@@ -2,7 +2,9 @@ package com.antock.backend.service;
 
 import com.antock.backend.client.FtcCsvClient;
 import com.antock.backend.domain.BusinessEntity;
-import com.antock.backend.repository.BusinessEntityRepository;
+import com.antock.backend.domain.IngestionCheckpoint;
+import com.antock.backend.repository.BulkWriteResult;
+import com.antock.backend.repository.BusinessEntityStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,14 +15,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -32,11 +43,17 @@ class DomesticBusinessEntityServiceTest {
     private FtcCsvClient ftcCsvClient;
 
     @Mock
-    private BusinessEntityRepository businessEntityRepository;
+    private BusinessEntityStorage businessEntityStorage;
 
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private IngestionChunkCommitter chunkCommitter;
+
+    @Mock
+    private IngestionSourceStore sourceStore;
+
     public void setRestTemplate(RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
     }
@@ -56,7 +73,7 @@ class DomesticBusinessEntityServiceTest {
         // Then
         assertEquals(0, result);
         verify(ftcCsvClient).downloadCsvFile("서울특별시", "강남구");
-        verifyNoMoreInteractions(businessEntityRepository);
+        verifyNoMoreInteractions(businessEntityStorage);
     }
 
     @Test
@@ -76,6 +93,143 @@ class DomesticBusinessEntityServiceTest {
         // Then
         assertEquals(0, result);
         verify(ftcCsvClient).downloadCsvFile("서울특별시", "강남구");
-        verifyNoMoreInteractions(businessEntityRepository);
+        verifyNoMoreInteractions(businessEntityStorage);
+    }
+
+    @Test
+    @DisplayName("사업자등록번호 형식/검증번호 오류 행은 API 호출과 DB 조회 없이 제외되어야 함")
+    void processBusinessEntities_whenBusinessNumbersInvalid_shouldSkipBeforeNetwork() throws Exception {
+        // Given - 검증번호 불일치(124-81-00997)와 형식 오류(12-34) 법인
+        String csvContent = "번호,상호,대표자,사업자등록번호,법인여부\n" +
+                            "1,테스트법인1,홍길동,124-81-00997,법인\n" +
+                            "2,테스트법인2,김철수,12-34,법인\n";
+
+        InputStream csvStream = new ByteArrayInputStream(csvContent.getBytes("EUC-KR"));
+        when(ftcCsvClient.downloadCsvFile(anyString(), anyString())).thenReturn(csvStream);
+        // 서비스가 생성자로 주입받은 RestTemplate이 이 mock이어야 아래 호출 없음 검증이 의미가 있음
+        assertSame(restTemplate, ReflectionTestUtils.getField(domesticBusinessEntityService, "restTemplate"));
+
+        // When
+        int result = domesticBusinessEntityService.processBusinessEntities("서울특별시", "강남구");
+
+        // Then
+        assertEquals(0, result);
+        verifyNoInteractions(restTemplate);
+        verifyNoMoreInteractions(businessEntityStorage);
+    }
+
+    @Test
+    @DisplayName("조회 중 통신 오류가 난 키는 조회 완료로 기록하지 않아 다음 실행에서 다시 조회해야 함")
+    void processBusinessEntities_whenLookupFails_shouldNotRecordEnrichedKey() throws Exception {
+        // Given - 조회 스레드와 호출 한도, 버퍼까지 갖춘 서비스
+        DomesticBusinessEntityServiceImpl service = new DomesticBusinessEntityServiceImpl(
+                businessEntityStorage, ftcCsvClient, chunkCommitter, new WriteBehindBufferFactory(10, 10, 1000),
+                Runnable::run, new LookupQuota(100), sourceStore, restTemplate);
+        String csvContent = "번호,상호,대표자,사업자등록번호,법인여부\n" +
+                            "1,테스트법인1,홍길동,124-81-00998,법인\n";
+        when(ftcCsvClient.downloadCsvFile(anyString(), anyString())).thenAnswer(
+                invocation -> new ByteArrayInputStream(csvContent.getBytes("EUC-KR")));
+        when(sourceStore.save(any())).thenReturn("hash");
+        IngestionChunkCommitter.CommitSession commitSession = mock(IngestionChunkCommitter.CommitSession.class);
+        when(chunkCommitter.begin(anyString(), anyString(), anyLong(), any(), any())).thenReturn(commitSession);
+        when(commitSession.finish()).thenReturn(new ChunkCommitResult(BulkWriteResult.empty(), Map.of(), 0, false));
+        // 첫 실행은 통신 오류, 다음 실행은 정상 응답이지만 항목 없음
+        when(restTemplate.getForEntity(any(URI.class), eq(String.class)))
+                .thenThrow(new ResourceAccessException("connection reset"))
+                .thenReturn(ResponseEntity.ok("{\"resultCode\":\"00\",\"items\":[]}"));
+
+        // When - 통신 오류
+        service.processBusinessEntities("서울특별시", "강남구");
+
+        // Then - 조회 완료로 기록하지 않음
+        verify(commitSession, never()).recordEnriched(anyString());
+
+        // When - 다시 실행
+        service.processBusinessEntities("서울특별시", "강남구");
+
+        // Then - 같은 키를 다시 조회하고, 정상적인 "결과 없음"만 조회 완료로 기록
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(String.class));
+        verify(commitSession).recordEnriched("1248100998");
+    }
+
+    @Test
+    @DisplayName("일괄 수집의 보강 단계도 진행 중인 같은 지역의 수집에 합류하여 다시 보강하지 않아야 함")
+    void enrichAndSave_whenSameRegionInFlight_shouldAttachToRunningRegion() throws Exception {
+        // Given - 조회 중에 멈춰 있는 단건 수집
+        DomesticBusinessEntityServiceImpl service = new DomesticBusinessEntityServiceImpl(
+                businessEntityStorage, ftcCsvClient, chunkCommitter, new WriteBehindBufferFactory(10, 10, 1000),
+                Runnable::run, new LookupQuota(100), sourceStore, restTemplate);
+        String csvContent = "번호,상호,대표자,사업자등록번호,법인여부\n" +
+                            "1,테스트법인1,홍길동,124-81-00998,법인\n";
+        when(ftcCsvClient.downloadCsvFile(anyString(), anyString())).thenAnswer(
+                invocation -> new ByteArrayInputStream(csvContent.getBytes("EUC-KR")));
+        when(sourceStore.save(any())).thenReturn("hash");
+        IngestionChunkCommitter.CommitSession commitSession = mock(IngestionChunkCommitter.CommitSession.class);
+        when(chunkCommitter.begin(anyString(), anyString(), anyLong(), any(), any())).thenReturn(commitSession);
+        when(commitSession.finish()).thenReturn(new ChunkCommitResult(BulkWriteResult.empty(), Map.of(), 0, false));
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.getForEntity(any(URI.class), eq(String.class))).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok("{\"resultCode\":\"00\",\"items\":[]}");
+        });
+        CompletableFuture<Integer> running = CompletableFuture.supplyAsync(
+                () -> service.processBusinessEntities("서울특별시", "강남구"));
+        assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+
+        // When - 일괄 수집이 같은 지역을 준비하고 보강 시작
+        DomesticBusinessEntityService.PreparedRegion prepared =
+                service.prepareRegion("서울특별시", "강남구", new IngestionProgress());
+        CompletableFuture<Integer> batch = CompletableFuture.supplyAsync(
+                () -> service.enrichAndSave(prepared, new IngestionProgress()));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then - 체크포인트 세션과 외부 조회는 한 번만
+        assertEquals(running.get(5, TimeUnit.SECONDS), batch.get(5, TimeUnit.SECONDS));
+        verify(chunkCommitter, times(1)).begin(anyString(), anyString(), anyLong(), any(), any());
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("체크포인트 키는 진행 중인 실행을 합치는 지역 키와 같은 방식으로 정규화되어야 함")
+    void prepareRegion_shouldUseNormalizedRegionKeyForCheckpoint() {
+        // Given
+        when(ftcCsvClient.downloadCsvFile(anyString(), anyString())).thenReturn(null);
+
+        // When
+        domesticBusinessEntityService.prepareRegion(" 서울특별시 ", "전체", new IngestionProgress());
+
+        // Then
+        verify(chunkCommitter).findResumable("domestic:서울특별시:");
+    }
+
+    @Test
+    @DisplayName("이어서 진행할 때 이전 실행에서 조회가 끝난 키는 표기(하이픈 유무)와 관계없이 다시 조회하지 않아야 함")
+    void processBusinessEntities_whenResuming_shouldSkipEnrichedKeysInAnyNotation() throws Exception {
+        // Given - 같은 원본의 끝나지 않은 실행과, 원본 표기와 10자리 표기로 기록된 조회 완료 키
+        DomesticBusinessEntityServiceImpl service = new DomesticBusinessEntityServiceImpl(
+                businessEntityStorage, ftcCsvClient, chunkCommitter, new WriteBehindBufferFactory(10, 10, 1000),
+                Runnable::run, new LookupQuota(100), sourceStore, restTemplate);
+        byte[] csv = ("번호,상호,대표자,사업자등록번호,법인여부\n" +
+                      "1,테스트법인1,홍길동,124-81-00998,법인\n" +
+                      "2,테스트법인2,김철수,4650000018,법인\n").getBytes("EUC-KR");
+        when(chunkCommitter.findResumable("domestic:서울특별시:강남구"))
+                .thenReturn(Optional.of(IngestionCheckpoint.start("domestic:서울특별시:강남구", 2, "hash")));
+        when(sourceStore.load("hash")).thenReturn(Optional.of(csv));
+        when(sourceStore.save(any())).thenReturn("hash");
+        when(chunkCommitter.findEnrichedKeys("domestic:서울특별시:강남구")).thenReturn(Set.of("124-81-00998", "4650000018"));
+        IngestionChunkCommitter.CommitSession commitSession = mock(IngestionChunkCommitter.CommitSession.class);
+        when(chunkCommitter.begin(anyString(), anyString(), anyLong(), any(), any())).thenReturn(commitSession);
+        when(commitSession.finish()).thenReturn(new ChunkCommitResult(BulkWriteResult.empty(), Map.of(), 0, false));
+        IngestionProgress progress = new IngestionProgress();
+
+        // When
+        service.processBusinessEntities("서울특별시", "강남구", progress);
+
+        // Then
+        verifyNoInteractions(restTemplate, ftcCsvClient);
+        assertEquals(2, progress.getLookupsCached());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package com.antock.backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("진행 중인 지역 수집 합치기 테스트")
+class InFlightRegionRunsTest {
+
+    @Test
+    @DisplayName("같은 지역을 동시에 요청하면 한 번만 실행하고 결과를 공유해야 함")
+    void run_whenSameRegionInFlight_shouldShareResult() throws Exception {
+        // Given
+        InFlightRegionRuns runs = new InFlightRegionRuns();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When: 첫 실행이 끝나기 전에 같은 지역(정규화 후 같은 키)을 다시 요청
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> runs.run("서울특별시", "강남구", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 7;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(
+            () -> runs.run(" 서울특별시", "강남구 ", executions::incrementAndGet));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertEquals(7, first.get(5, TimeUnit.SECONDS));
+        assertEquals(7, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+
+        // 끝난 뒤의 요청은 새로 실행
+        assertEquals(2, runs.run("서울특별시", "강남구", executions::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("진행 중인 실행에 합류한 쪽의 진행 상황에도 실행한 쪽의 건수가 반영되어야 함")
+    void run_whenAttached_shouldShareOwnerProgress() throws Exception {
+        // Given
+        InFlightRegionRuns runs = new InFlightRegionRuns();
+        IngestionProgress ownerProgress = new IngestionProgress();
+        IngestionProgress attachedProgress = new IngestionProgress();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When: 실행한 쪽이 기록하는 동안 같은 지역에 합류
+        CompletableFuture<Integer> owner = CompletableFuture.supplyAsync(
+            () -> runs.run("서울특별시", "", ownerProgress, () -> {
+                ownerProgress.addRowsParsed(10);
+                started.countDown();
+                await(release);
+                ownerProgress.lookupCompleted();
+                ownerProgress.lookupDenied();
+                ownerProgress.addCommitted(1, 0, 0);
+                return 1;
+            }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> attached = CompletableFuture.supplyAsync(
+            () -> runs.run("서울특별시", "전체", attachedProgress, () -> -1));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertEquals(1, owner.get(5, TimeUnit.SECONDS));
+        assertEquals(1, attached.get(5, TimeUnit.SECONDS));
+        assertEquals(10, attachedProgress.getRowsParsed());
+        assertEquals(1, attachedProgress.getLookupsCompleted());
+        assertEquals(1, attachedProgress.getLookupsDenied());
+        assertEquals(1, attachedProgress.getRowsSaved());
+    }
+
+    @Test
+    @DisplayName("하위 진행 상황의 건수는 상위 진행 상황에도 더해지고, 단계는 따로 기록되어야 함")
+    void child_shouldForwardCountsButNotStage() {
+        // Given
+        IngestionProgress job = new IngestionProgress();
+        job.enter(IngestionProgress.Stage.ENRICHING);
+        IngestionProgress region = job.child();
+
+        // When
+        region.enter(IngestionProgress.Stage.PARSING);
+        region.addRowsParsed(5);
+        region.lookupCached();
+        region.addCommitted(2, 1, 0);
+
+        // Then
+        assertEquals(IngestionProgress.Stage.ENRICHING, job.getStage());
+        assertEquals(5, job.getRowsParsed());
+        assertEquals(1, job.getLookupsCached());
+        assertEquals(2, job.getRowsSaved());
+        assertEquals(1, job.getRowsSkipped());
+    }
+
+    @Test
+    @DisplayName("지역 키는 공백과 전체 구/군을 정규화하고, 국외사업자는 구/군을 무시해야 함")
+    void regionKey_shouldNormalize() {
+        assertEquals("서울특별시:", InFlightRegionRuns.regionKey(" 서울특별시 ", "전체"));
+        assertEquals("서울특별시:", InFlightRegionRuns.regionKey("서울특별시", null));
+        assertEquals("국외사업자:", InFlightRegionRuns.regionKey("국외사업자", "테스트"));
+        assertEquals("부산광역시:해운대구", InFlightRegionRuns.regionKey("부산광역시", " 해운대구"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.domain.IngestionCheckpoint;
+import com.antock.backend.repository.BusinessEntityStorage;
+import com.antock.backend.repository.IngestionCheckpointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "ingestion.commit-chunk-size=2")
+@ActiveProfiles("test")
+@DisplayName("청크 단위 커밋 테스트")
+class IngestionChunkCommitterTest {
+
+    @Autowired
+    private IngestionChunkCommitter chunkCommitter;
+
+    @Autowired
+    private BusinessEntityStorage businessEntityStorage;
+
+    @Autowired
+    private IngestionCheckpointRepository checkpointRepository;
+
+    @Test
+    @DisplayName("실패한 청크는 행 단위로 재시도하고 나머지 행은 저장해야 함")
+    void commit_whenChunkFails_shouldRetryRowByRow() {
+        // Given
+        List<BusinessEntity> entities = entities("CHUNK-RETRY-", "4410000", 5);
+
+        // When: 세 번째 행이 포함된 청크만 실패
+        ChunkCommitResult result = chunkCommitter.commit("test:retry", entities, chunk -> {
+            if (chunk.stream().anyMatch(entity -> entity.getMailOrderSalesNumber().equals("CHUNK-RETRY-2"))) {
+                throw new IllegalStateException("저장 실패");
+            }
+            return businessEntityStorage.insertIgnoreAll(chunk);
+        });
+
+        // Then
+        assertFalse(result.isAborted());
+        assertEquals(4, result.getWritten().getInserted());
+        assertEquals(List.of("CHUNK-RETRY-2"), new ArrayList<>(result.getFailedRows().keySet()));
+        assertTrue(businessEntityStorage.existsByMailOrderSalesNumber("CHUNK-RETRY-3"));
+
+        IngestionCheckpoint checkpoint = checkpointRepository.findById("test:retry").orElseThrow();
+        assertEquals(IngestionCheckpoint.Status.COMPLETED, checkpoint.getStatus());
+        assertEquals(5, checkpoint.getCommittedOffset());
+    }
+
+    @Test
+    @DisplayName("도중에 저장이 불가능해지면 중단하되, 이미 커밋된 청크는 유지해야 함")
+    void commit_whenStorageBecomesUnavailable_shouldKeepCommittedChunks() {
+        // Given
+        List<BusinessEntity> entities = entities("CHUNK-ABORT-", "4420000", 6);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When: 첫 청크 이후 모든 쓰기가 실패
+        ChunkCommitResult result = chunkCommitter.commit("test:abort", entities, chunk -> {
+            if (calls.getAndIncrement() > 0) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            return businessEntityStorage.insertIgnoreAll(chunk);
+        });
+
+        // Then
+        assertTrue(result.isAborted());
+        assertEquals(2, result.getCommittedOffset());
+        assertTrue(businessEntityStorage.existsByMailOrderSalesNumber("CHUNK-ABORT-1"));
+        assertFalse(businessEntityStorage.existsByMailOrderSalesNumber("CHUNK-ABORT-2"));
+
+        IngestionCheckpoint checkpoint = checkpointRepository.findById("test:abort").orElseThrow();
+        assertEquals(IngestionCheckpoint.Status.FAILED, checkpoint.getStatus());
+        assertEquals(2, checkpoint.getCommittedOffset());
+    }
+
+    @Test
+    @DisplayName("같은 원본으로 다시 시작하면 커밋된 오프셋과 조회 완료 키를 이어서 사용해야 함")
+    void begin_whenSameSourceHash_shouldResumeFromCommittedOffset() {
+        // Given: 첫 청크와 조회 완료 키를 커밋한 뒤 끝나지 않은 실행 (프로세스 중단)
+        List<BusinessEntity> entities = entities("CHUNK-RESUME-", "4430000", 4);
+        IngestionChunkCommitter.CommitSession interrupted = chunkCommitter.begin(
+            "test:resume", "hash-a", 4, businessEntityStorage::insertIgnoreAll, new IngestionProgress());
+        interrupted.recordEnriched("4439999000");
+        interrupted.write(entities.subList(0, 2));
+
+        // When
+        assertTrue(chunkCommitter.findResumable("test:resume").isPresent());
+        Set<String> enrichedKeys = chunkCommitter.findEnrichedKeys("test:resume");
+        IngestionChunkCommitter.CommitSession resumed = chunkCommitter.begin(
+            "test:resume", "hash-a", 4, businessEntityStorage::insertIgnoreAll, new IngestionProgress());
+        resumed.write(entities.subList(2, 4));
+        ChunkCommitResult result = resumed.finish();
+
+        // Then
+        assertEquals(Set.of("4439999000"), enrichedKeys);
+        assertEquals(4, result.getCommittedOffset());
+        IngestionCheckpoint checkpoint = checkpointRepository.findById("test:resume").orElseThrow();
+        assertEquals(IngestionCheckpoint.Status.COMPLETED, checkpoint.getStatus());
+        assertFalse(chunkCommitter.findResumable("test:resume").isPresent());
+        assertTrue(chunkCommitter.findEnrichedKeys("test:resume").isEmpty());
+    }
+
+    @Test
+    @DisplayName("원본이 바뀌면 이전 실행의 오프셋과 조회 완료 키를 버리고 처음부터 시작해야 함")
+    void begin_whenSourceHashChanged_shouldStartOver() {
+        // Given
+        List<BusinessEntity> entities = entities("CHUNK-RESTART-", "4440000", 2);
+        IngestionChunkCommitter.CommitSession interrupted = chunkCommitter.begin(
+            "test:restart", "hash-a", 2, businessEntityStorage::insertIgnoreAll, new IngestionProgress());
+        interrupted.recordEnriched("4449999000");
+        interrupted.write(entities);
+
+        // When
+        IngestionChunkCommitter.CommitSession restarted = chunkCommitter.begin(
+            "test:restart", "hash-b", 2, businessEntityStorage::insertIgnoreAll, new IngestionProgress());
+
+        // Then
+        IngestionCheckpoint checkpoint = checkpointRepository.findById("test:restart").orElseThrow();
+        assertEquals("hash-b", checkpoint.getSourceHash());
+        assertEquals(0, checkpoint.getCommittedOffset());
+        assertTrue(chunkCommitter.findEnrichedKeys("test:restart").isEmpty());
+        restarted.finish();
+    }
+
+    private List<BusinessEntity> entities(String prefix, String businessNumberPrefix, int count) {
+        List<BusinessEntity> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(BusinessEntity.builder()
+                .mailOrderSalesNumber(prefix + i)
+                .companyName("청크 테스트 " + i)
+                .businessNumber(businessNumberPrefix + String.format("%03d", i))
+                .build());
+        }
+        return entities;
+    }
+}
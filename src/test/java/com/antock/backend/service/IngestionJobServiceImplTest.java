@@ -0,0 +1,153 @@
+package com.antock.backend.service;
+
+import com.antock.backend.client.FtcCsvClient;
+import com.antock.backend.dto.BusinessEntityRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("비동기 수집 작업 서비스 테스트")
+class IngestionJobServiceImplTest {
+
+    @Mock
+    private DomesticBusinessEntityService domesticBusinessEntityService;
+
+    @Mock
+    private OverseasBusinessEntityService overseasBusinessEntityService;
+
+    @Mock
+    private RegionBatchIngestor regionBatchIngestor;
+
+    @Mock
+    private FtcCsvClient ftcCsvClient;
+
+    private IngestionJobServiceImpl ingestionJobService;
+
+    @BeforeEach
+    void setUp() {
+        ingestionJobService = new IngestionJobServiceImpl(
+            domesticBusinessEntityService, overseasBusinessEntityService, regionBatchIngestor, ftcCsvClient,
+            Runnable::run, 60);
+    }
+
+    @Test
+    @DisplayName("작업은 끝나기 전까지 진행 상황을 보여주고, 끝나면 처리 건수와 함께 SUCCEEDED가 되어야 함")
+    void submit_shouldTrackProgressUntilCompletion() {
+        // Given
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        when(domesticBusinessEntityService.processBusinessEntitiesAsync(
+                eq("서울특별시"), eq("강남구"), any(IngestionProgress.class)))
+            .thenReturn(future);
+
+        // When
+        IngestionJob job = ingestionJobService.submit("서울특별시", "강남구");
+
+        // Then: 실행 스레드가 시작하기 전
+        assertSame(job, ingestionJobService.find(job.getId()).orElseThrow());
+        assertEquals(IngestionJob.State.QUEUED, job.getState());
+
+        // 실행 스레드가 단계와 건수를 기록
+        job.getProgress().enter(IngestionProgress.Stage.ENRICHING);
+        job.getProgress().addRowsParsed(10);
+        job.getProgress().lookupCompleted();
+        assertEquals(IngestionJob.State.RUNNING, job.getState());
+        assertNull(job.getProcessedCount());
+
+        future.complete(7);
+        assertEquals(IngestionJob.State.SUCCEEDED, job.getState());
+        assertEquals(7, job.getProcessedCount());
+        assertEquals(IngestionProgress.Stage.FINISHED, job.getProgress().getStage());
+        assertEquals(10, job.getProgress().getRowsParsed());
+        verify(overseasBusinessEntityService, never()).processBusinessEntitiesAsync(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 지역 작업이 실행 중이면 새로 시작하지 않고 기존 작업에 연결하고, 끝난 뒤에는 새 작업을 시작해야 함")
+    void submit_whenSameRegionRunning_shouldAttachToExistingJob() {
+        // Given
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        when(domesticBusinessEntityService.processBusinessEntitiesAsync(
+                eq("서울특별시"), any(), any(IngestionProgress.class)))
+            .thenReturn(first, CompletableFuture.completedFuture(1));
+
+        // When
+        IngestionJob job = ingestionJobService.submit("서울특별시", "전체");
+        IngestionJob attached = ingestionJobService.submit(" 서울특별시 ", "");
+        first.complete(2);
+        IngestionJob next = ingestionJobService.submit("서울특별시", "");
+
+        // Then
+        assertSame(job, attached);
+        assertNotSame(job, next);
+        assertEquals(2, job.getProcessedCount());
+        verify(domesticBusinessEntityService, times(2)).processBusinessEntitiesAsync(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("국외사업자 작업이 실패하면 오류 메시지와 함께 FAILED가 되어야 함")
+    void submit_forOverseas_whenProcessingFails_shouldMarkFailed() {
+        // Given
+        when(overseasBusinessEntityService.processBusinessEntitiesAsync(
+                eq("국외사업자"), eq(""), any(IngestionProgress.class)))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("다운로드 실패")));
+
+        // When
+        IngestionJob job = ingestionJobService.submit("국외사업자", "");
+
+        // Then
+        assertEquals(IngestionJob.State.FAILED, job.getState());
+        assertEquals("다운로드 실패", job.getError());
+        assertTrue(job.getFinishedAt() != null);
+    }
+
+    @Test
+    @DisplayName("지역 없이 일괄 작업을 등록하면 모든 국내 시/도 전체를 수집해야 함")
+    void submitBatch_withoutRegions_shouldUseAllDomesticCities() {
+        // Given
+        when(ftcCsvClient.getDomesticCities()).thenReturn(List.of("서울특별시", "부산광역시"));
+        when(regionBatchIngestor.ingest(any(), any())).thenReturn(5);
+
+        // When
+        IngestionJob job = ingestionJobService.submitBatch(List.of());
+
+        // Then
+        verify(regionBatchIngestor).ingest(eq(List.of(
+            new BusinessEntityRequest("서울특별시", ""),
+            new BusinessEntityRequest("부산광역시", ""))), eq(job));
+        assertEquals(2, job.getRegionCount());
+        assertEquals(IngestionJob.State.SUCCEEDED, job.getState());
+        assertEquals(5, job.getProcessedCount());
+    }
+
+    @Test
+    @DisplayName("실행 풀이 작업을 거절하면 예외를 전달하고 작업을 남기지 않아야 함")
+    void submit_whenExecutorRejects_shouldNotKeepJob() {
+        // Given
+        when(domesticBusinessEntityService.processBusinessEntitiesAsync(any(), any(), any()))
+            .thenThrow(new TaskRejectedException("대기열 가득 참"));
+
+        // When & Then
+        assertThrows(TaskRejectedException.class, () -> ingestionJobService.submit("서울특별시", "강남구"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.antock.backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("수집 원본 파일 보관 테스트")
+class IngestionSourceStoreTest {
+
+    private static final byte[] CONTENT = "번호,상호,대표자,사업자등록번호,법인여부\n".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path sourceDir;
+
+    @Test
+    @DisplayName("보관한 원본은 해시로 다시 읽을 수 있고, 삭제하면 읽을 수 없어야 함")
+    void saveAndLoad_shouldRoundTripByHash() {
+        // Given
+        IngestionSourceStore store = new IngestionSourceStore(sourceDir.toString());
+
+        // When
+        String hash = store.save(CONTENT);
+
+        // Then
+        assertEquals(hash, store.save(CONTENT));
+        assertArrayEquals(CONTENT, store.load(hash).orElseThrow());
+        store.delete(hash);
+        assertFalse(store.load(hash).isPresent());
+    }
+
+    @Test
+    @DisplayName("보관된 파일의 내용이 해시와 다르면 사용하지 않아야 함")
+    void load_whenContentCorrupted_shouldReturnEmpty() throws Exception {
+        // Given
+        IngestionSourceStore store = new IngestionSourceStore(sourceDir.toString());
+        String hash = store.save(CONTENT);
+        Path file = sourceDir.resolve(hash + ".csv");
+        assertTrue(Files.exists(file));
+
+        // When: 쓰다가 끊긴 것처럼 내용 일부만 남음
+        Files.write(file, new byte[] {CONTENT[0]});
+
+        // Then
+        assertFalse(store.load(hash).isPresent());
+    }
+}
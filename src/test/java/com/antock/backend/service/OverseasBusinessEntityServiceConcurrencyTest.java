@@ -3,17 +3,27 @@ package com.antock.backend.service;
 import com.antock.backend.client.ApiClient;
 import com.antock.backend.domain.BusinessEntity;
 import com.antock.backend.repository.BusinessEntityStorage;
+import com.antock.backend.repository.IngestionCheckpointRepository;
+import com.antock.backend.repository.IngestionEnrichedKeyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -40,25 +50,34 @@ public class OverseasBusinessEntityServiceConcurrencyTest {
     @Mock
     private RestTemplate restTemplate;  // ApiClient 대신 RestTemplate 사용
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private IngestionCheckpointRepository checkpointRepository;
+
+    @Mock
+    private IngestionEnrichedKeyRepository enrichedKeyRepository;
+
     // 테스트용 XLS 파일 데이터
     private byte[] mockXlsData;
 
+    @TempDir
+    Path downloadDir;
+
     @BeforeEach
     public void setup() throws Exception {
         // 테스트용 XLS 파일 생성
         mockXlsData = createMockXlsData();
 
         // RestTemplate과 BusinessEntityStorage를 사용하는 서비스 생성
-        overseasBusinessEntityService = new OverseasBusinessEntityServiceImpl(businessEntityStorage, restTemplate);
+        overseasBusinessEntityService = new OverseasBusinessEntityServiceImpl(businessEntityStorage,
+            new OverseasXlsDownloader(restTemplate, downloadDir.toString(), 60),
+            new IngestionChunkCommitter(transactionManager, checkpointRepository, enrichedKeyRepository, 100),
+            new OverseasXlsParser("streaming", Runnable::run, 1), "insert-only", 0.2);
 
-        // RestTemplate 모의 설정 (ApiClient 대신)
-        // 여기서는 OverseasBusinessEntityServiceImpl이 RestTemplate을 사용한다고 가정
-        when(restTemplate.exchange(
-            anyString(), 
-            any(), 
-            any(), 
-            eq(byte[].class)
-        )).thenReturn(new org.springframework.http.ResponseEntity<>(mockXlsData, org.springframework.http.HttpStatus.OK));
+        // RestTemplate 모의 설정 (응답 본문을 다운로더의 ResponseExtractor에 전달)
+        mockDownload(mockXlsData);
 
         // 저장 메소드 모의 설정
         when(businessEntityStorage.existsByMailOrderSalesNumber(anyString())).thenReturn(false);
@@ -76,6 +95,9 @@ public class OverseasBusinessEntityServiceConcurrencyTest {
             return savedEntities;
         });
         
+        when(businessEntityStorage.bulkSaveAll(anyList()))
+            .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        
         when(businessEntityStorage.save(any(BusinessEntity.class))).thenAnswer(invocation -> {
             BusinessEntity entity = invocation.getArgument(0);
             setEntityId(entity, 1L);
@@ -110,7 +132,7 @@ public class OverseasBusinessEntityServiceConcurrencyTest {
 
         // 검증
         assertTrue(completed, "모든 스레드가 시간 내에 완료되어야 합니다");
-        verify(businessEntityStorage, atLeastOnce()).saveAll(anyList());
+        verify(businessEntityStorage, atLeastOnce()).bulkSaveAll(anyList());
         
         // 중복 저장이 발생하지 않았는지 확인
         assertTrue(totalProcessed.get() > 0, "데이터가 처리되어야 합니다");
@@ -125,12 +147,7 @@ public class OverseasBusinessEntityServiceConcurrencyTest {
         
         // API 출처 변경 시뮬레이션 (다른 데이터 준비)
         byte[] newMockData = createLargeMockXlsData(20); // 20개 데이터로 변경
-        when(restTemplate.exchange(
-            anyString(), 
-            any(), 
-            any(), 
-            eq(byte[].class)
-        )).thenReturn(new org.springframework.http.ResponseEntity<>(newMockData, org.springframework.http.HttpStatus.OK));
+        mockDownload(newMockData);
         
         // 변경된 API로 다시 호출
         int newProcessed = overseasBusinessEntityService.processBusinessEntities("국외사업자", "테스트");
@@ -145,12 +162,7 @@ public class OverseasBusinessEntityServiceConcurrencyTest {
         byte[] largeMockXlsData = createLargeMockXlsData(1000); // 1000개 데이터
         
         // RestTemplate 응답 재설정
-        when(restTemplate.exchange(
-            anyString(), 
-            any(), 
-            any(), 
-            eq(byte[].class)
-        )).thenReturn(new org.springframework.http.ResponseEntity<>(largeMockXlsData, org.springframework.http.HttpStatus.OK));
+        mockDownload(largeMockXlsData);
 
         // 성능 측정 시작
         long startTime = System.currentTimeMillis();
@@ -170,6 +182,15 @@ public class OverseasBusinessEntityServiceConcurrencyTest {
         assertTrue(duration < 10000, "대량 데이터 처리가 10초 이내에 완료되어야 합니다");
     }
 
+    // 다운로더가 넘긴 ResponseExtractor에 모의 응답을 전달
+    private void mockDownload(byte[] body) throws Exception {
+        doAnswer(invocation -> {
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+        }).when(restTemplate).execute(anyString(), any(HttpMethod.class), any(RequestCallback.class),
+            any(ResponseExtractor.class));
+    }
+
     // 엔티티에 ID 설정하는 메서드 추가
     private void setEntityId(BusinessEntity entity, Long id) {
         try {
@@ -0,0 +1,124 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import com.antock.backend.dto.BusinessEntityDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("국외사업자 delta 비교 테스트")
+class OverseasDeltaPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 1, 3, 0);
+
+    @Test
+    @DisplayName("해시가 같은 행은 건드리지 않고, 새 행은 추가, 바뀐 행은 갱신, 사라진 행은 soft-delete해야 함")
+    void of_shouldClassifyRowsByFieldsHash() {
+        // Given
+        BusinessEntity closed = stored(3L, "2025-공정-0003", "폐업 회사", null, null);
+        Map<String, OverseasDeltaPlan.StoredRow> stored = new HashMap<>();
+        stored.put("2025-공정-0001", OverseasDeltaPlan.StoredRow.of(
+            stored(1L, "2025-공정-0001", "그대로 회사", "1234567801", null)));
+        stored.put("2025-공정-0002", OverseasDeltaPlan.StoredRow.of(
+            stored(2L, "2025-공정-0002", "예전 상호", null, null)));
+        stored.put("2025-공정-0003", OverseasDeltaPlan.StoredRow.of(closed));
+        stored.put("2025-공정-0004", OverseasDeltaPlan.StoredRow.of(
+            stored(4L, "2025-공정-0004", "복구 회사", null, NOW.minusDays(1))));
+
+        List<BusinessEntityDto> parsed = List.of(
+            dto("2025-공정-0001", "그대로 회사", "1234567801"),
+            dto("2025-공정-0002", "새 상호", ""),
+            dto("2025-공정-0004", "복구 회사", null),
+            dto("2025-공정-0005", "신규 회사", "1234567805"),
+            dto("2025-공정-0005", "중복 행", null));
+
+        // When
+        OverseasDeltaPlan plan = OverseasDeltaPlan.of(parsed, stored);
+
+        // Then
+        assertEquals(1, plan.getUnchanged());
+
+        assertEquals(1, plan.getInserts().size());
+        BusinessEntity inserted = plan.getInserts().get(0);
+        assertNull(inserted.getId());
+        assertEquals("신규 회사", inserted.getCompanyName());
+        assertTrue(inserted.isOverseas());
+
+        assertEquals(List.of("2025-공정-0002", "2025-공정-0004"),
+            plan.getUpdates().stream().map(BusinessEntity::getMailOrderSalesNumber).sorted().toList());
+        BusinessEntity renamed = plan.getUpdates().stream()
+            .filter(entity -> entity.getId() == 2L).findFirst().orElseThrow();
+        assertEquals("새 상호", renamed.getCompanyName());
+        assertEquals(7L, renamed.getVersion());
+        plan.getUpdates().forEach(entity -> assertNull(entity.getDeletedAt()));
+
+        assertEquals(Set.of("2025-공정-0003"), plan.getDeleteKeys());
+        List<BusinessEntity> deletes = plan.softDeletes(List.of(closed), NOW);
+        assertEquals(1, deletes.size());
+        BusinessEntity deleted = deletes.get(0);
+        assertEquals(3L, deleted.getId());
+        assertEquals("폐업 회사", deleted.getCompanyName());
+        assertEquals(NOW, deleted.getDeletedAt());
+    }
+
+    @Test
+    @DisplayName("스캔 이후 다른 실행이 바꾼 삭제 대상 행은 soft-delete하지 않아야 함")
+    void softDeletes_whenRowChangedSinceScan_shouldSkip() {
+        // Given
+        Map<String, OverseasDeltaPlan.StoredRow> stored = new HashMap<>();
+        stored.put("2025-공정-0003", OverseasDeltaPlan.StoredRow.of(
+            stored(3L, "2025-공정-0003", "폐업 회사", null, null)));
+        OverseasDeltaPlan plan = OverseasDeltaPlan.of(List.of(), stored);
+
+        // When: 다시 읽은 행의 버전이 스캔한 버전과 다름
+        BusinessEntity changed = BusinessEntity.builder()
+            .id(3L)
+            .version(8L)
+            .mailOrderSalesNumber("2025-공정-0003")
+            .companyName("바뀐 상호")
+            .isOverseas(true)
+            .build();
+
+        // Then
+        assertTrue(plan.softDeletes(List.of(changed), NOW).isEmpty());
+    }
+
+    @Test
+    @DisplayName("필드 해시는 빈 사업자등록번호와 null을 같게, 필드 경계는 다르게 취급해야 함")
+    void fieldsHash_shouldNormalizeEmptyAndSeparateFields() {
+        assertEquals(OverseasDeltaPlan.fieldsHash("회사", null), OverseasDeltaPlan.fieldsHash("회사", ""));
+        assertNotEquals(OverseasDeltaPlan.fieldsHash("회사1", "23"), OverseasDeltaPlan.fieldsHash("회사", "123"));
+        assertNotEquals(OverseasDeltaPlan.fieldsHash("회사", null), OverseasDeltaPlan.fieldsHash("회사", "0"));
+    }
+
+    private BusinessEntity stored(long id, String mailOrderSalesNumber, String companyName, String businessNumber,
+            LocalDateTime deletedAt) {
+        return BusinessEntity.builder()
+            .id(id)
+            .version(7L)
+            .mailOrderSalesNumber(mailOrderSalesNumber)
+            .companyName(companyName)
+            .businessNumber(businessNumber)
+            .isOverseas(true)
+            .deletedAt(deletedAt)
+            .build();
+    }
+
+    private BusinessEntityDto dto(String mailOrderSalesNumber, String companyName, String businessNumber) {
+        BusinessEntityDto dto = new BusinessEntityDto();
+        dto.setMailOrderSalesNumber(mailOrderSalesNumber);
+        dto.setCompanyName(companyName);
+        dto.setBusinessNumber(businessNumber);
+        return dto;
+    }
+}
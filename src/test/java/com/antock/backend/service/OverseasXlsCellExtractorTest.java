@@ -0,0 +1,62 @@
+package com.antock.backend.service;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("국외사업자 XLS 셀 추출기 테스트")
+class OverseasXlsCellExtractorTest {
+
+    @Test
+    @DisplayName("첫 데이터 행의 셀 서식으로 열의 추출 방식을 정해야 함")
+    void forColumn_shouldResolveFromSampleCell() throws Exception {
+        try (Workbook workbook = new HSSFWorkbook()) {
+            // Given
+            Sheet sheet = workbook.createSheet();
+            Row row = sheet.createRow(1);
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            row.createCell(0).setCellValue(new Date());
+            row.getCell(0).setCellStyle(dateStyle);
+            row.createCell(1).setCellValue(1234567801d);
+
+            // When & Then
+            assertSame(OverseasXlsCellExtractor.DATE, OverseasXlsCellExtractor.forColumn(row.getCell(0)));
+            assertSame(OverseasXlsCellExtractor.TEXT, OverseasXlsCellExtractor.forColumn(row.getCell(1)));
+            assertSame(OverseasXlsCellExtractor.TEXT, OverseasXlsCellExtractor.forColumn(null));
+        }
+    }
+
+    @Test
+    @DisplayName("수식 셀은 예외 없이 캐시된 결과 타입으로 읽고, 정수는 소수점 없이 읽어야 함")
+    void extract_shouldReadCachedFormulaResult() throws Exception {
+        try (Workbook workbook = new HSSFWorkbook()) {
+            // Given
+            Row row = workbook.createSheet().createRow(1);
+            row.createCell(0).setCellValue(1234567801d);
+            row.createCell(1).setCellValue(" 테스트 회사 ");
+            row.createCell(2).setCellFormula("A2");
+            row.createCell(3).setCellFormula("B2");
+            row.createCell(4).setCellValue(12.5d);
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+
+            // When & Then
+            OverseasXlsCellExtractor extractor = OverseasXlsCellExtractor.TEXT;
+            assertEquals("1234567801", extractor.extract(row.getCell(0)));
+            assertEquals("테스트 회사", extractor.extract(row.getCell(1)));
+            assertEquals("1234567801", extractor.extract(row.getCell(2)));
+            assertEquals("테스트 회사", extractor.extract(row.getCell(3)));
+            assertEquals("12.5", extractor.extract(row.getCell(4)));
+            assertEquals("", extractor.extract(row.getCell(5)));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.antock.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("국외사업자 XLS 다운로더 테스트")
+class OverseasXlsDownloaderTest {
+
+    private static final byte[] BODY = "국외사업자 파일 내용".getBytes();
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @TempDir
+    Path downloadDir;
+
+    private OverseasXlsDownloader downloader;
+
+    @BeforeEach
+    void setUp() {
+        downloader = new OverseasXlsDownloader(restTemplate, downloadDir.toString(), 60);
+    }
+
+    @Test
+    @DisplayName("응답 본문을 파일로 저장하고, 파싱 성공 후 release하면 파일을 삭제해야 함")
+    void acquire_shouldWriteResponseBodyToFile() throws Exception {
+        // Given
+        mockResponse(HttpStatus.OK);
+
+        // When
+        OverseasXlsDownloader.Download download = downloader.acquire();
+
+        // Then
+        Path file = download.getFile();
+        assertArrayEquals(BODY, Files.readAllBytes(file));
+        downloader.release(download);
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    @DisplayName("파싱에 실패해 보관한 파일은 다음 실행에서 다시 내려받지 않고 사용해야 함")
+    void acquire_shouldReuseRetainedFile() throws Exception {
+        // Given
+        mockResponse(HttpStatus.OK);
+        OverseasXlsDownloader.Download first = downloader.acquire();
+        downloader.retain(first);
+
+        // When
+        Path second = downloader.acquire().getFile();
+        Path third = downloader.acquire().getFile();
+
+        // Then - 보관 파일은 한 번만 재사용되고 그 다음은 새로 다운로드
+        assertArrayEquals(BODY, Files.readAllBytes(second));
+        assertNotEquals(first.getFile(), second);
+        verify(restTemplate, times(2)).execute(anyString(), any(HttpMethod.class), any(RequestCallback.class),
+            any(ResponseExtractor.class));
+        assertArrayEquals(BODY, Files.readAllBytes(third));
+    }
+
+    @Test
+    @DisplayName("성공 응답이 아니면 null을 반환하고 임시 파일을 남기지 않아야 함")
+    void acquire_shouldReturnNullOnErrorStatus() throws Exception {
+        // Given
+        mockResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        // When & Then
+        assertNull(downloader.acquire());
+        try (var files = Files.list(downloadDir)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("수집 완료 후 같은 내용을 다시 받으면 변경 없음으로 처리하고 다음 요청은 조건부로 보내야 함")
+    void acquire_shouldReportUnchangedForSameContent() throws Exception {
+        // Given - 서버가 조건부 요청을 무시하고 항상 200과 같은 본문을 반환
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.setETag("\"v1\"");
+        List<HttpHeaders> requestHeaders = mockResponse(HttpStatus.OK, responseHeaders);
+        OverseasXlsDownloader.Download first = downloader.acquire();
+        downloader.release(first);
+        downloader.markIngested(first);
+
+        // When
+        OverseasXlsDownloader.Download second = downloader.acquire();
+
+        // Then
+        assertFalse(first.isUnchanged());
+        assertTrue(second.isUnchanged());
+        assertNull(second.getFile());
+        assertEquals(first.getContentHash(), second.getContentHash());
+        assertNull(requestHeaders.get(0).getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("\"v1\"", requestHeaders.get(1).getFirst(HttpHeaders.IF_NONE_MATCH));
+        try (var files = Files.list(downloadDir)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".xls")));
+        }
+    }
+
+    @Test
+    @DisplayName("서버가 304를 반환하면 파일을 만들지 않고 변경 없음으로 처리해야 함")
+    void acquire_shouldReportUnchangedOnNotModified() throws Exception {
+        // Given
+        mockResponse(HttpStatus.OK);
+        OverseasXlsDownloader.Download first = downloader.acquire();
+        downloader.release(first);
+        downloader.markIngested(first);
+        mockResponse(HttpStatus.NOT_MODIFIED);
+
+        // When
+        OverseasXlsDownloader.Download second = downloader.acquire();
+
+        // Then
+        assertTrue(second.isUnchanged());
+        assertEquals(first.getContentHash(), second.getContentHash());
+    }
+
+    private List<HttpHeaders> mockResponse(HttpStatus status) throws Exception {
+        return mockResponse(status, new HttpHeaders());
+    }
+
+    // 다운로더가 보낸 요청 헤더를 기록하고, ResponseExtractor에 모의 응답을 전달
+    private List<HttpHeaders> mockResponse(HttpStatus status, HttpHeaders responseHeaders) throws Exception {
+        List<HttpHeaders> requestHeaders = new ArrayList<>();
+        doAnswer(invocation -> {
+            MockClientHttpRequest request = new MockClientHttpRequest();
+            ((RequestCallback) invocation.getArgument(2)).doWithRequest(request);
+            requestHeaders.add(request.getHeaders());
+
+            MockClientHttpResponse response = new MockClientHttpResponse(BODY, status);
+            response.getHeaders().putAll(responseHeaders);
+            ResponseExtractor<?> extractor = invocation.getArgument(3);
+            return extractor.extractData(response);
+        }).when(restTemplate).execute(anyString(), any(HttpMethod.class), any(RequestCallback.class),
+            any(ResponseExtractor.class));
+        return requestHeaders;
+    }
+}
@@ -0,0 +1,145 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.BusinessEntityDto;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("국외사업자 XLS 파서 테스트")
+class OverseasXlsParserTest {
+
+    private static final int PARSE_THREADS = 4;
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService parseExecutor;
+
+    private static final String[] HEADERS =
+        {"순번", "관리번호", "대표자명", "법인여부", "법인명(상호)", "사업자번호", "소재지주소", "신고일자", "운영상태", "공개여부"};
+
+    @BeforeEach
+    void setUp() {
+        parseExecutor = Executors.newFixedThreadPool(PARSE_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parseExecutor.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "xlsx={0}")
+    @ValueSource(booleans = {true, false})
+    @DisplayName("스트리밍 모드는 XLS/XLSX 모두 워크북 모드와 같은 행을 같은 순서로 추출해야 함")
+    void parse_streamingShouldMatchWorkbookMode(boolean xlsx) throws Exception {
+        // Given
+        Path file = write(createFile(xlsx, 300));
+
+        // When
+        List<BusinessEntityDto> streaming = parser("streaming").parse(file);
+        List<BusinessEntityDto> workbook = parser("workbook").parse(file);
+
+        // Then - 3행마다 하나는 폐업(02), 5행마다 하나는 개인(N)
+        long expected = IntStream.rangeClosed(1, 300)
+            .filter(i -> i % 3 != 0 && i % 5 != 0)
+            .count();
+        assertEquals(expected, streaming.size());
+        assertEquals("2023-공정-0001", streaming.get(0).getMailOrderSalesNumber());
+        assertEquals("테스트 회사1", streaming.get(0).getCompanyName());
+        // 숫자 셀은 소수점 없이 읽음
+        assertEquals("1234567801", streaming.get(0).getBusinessNumber());
+        // 빈 사업자번호는 null
+        assertNull(streaming.get(1).getBusinessNumber());
+        // 워크북 모드는 행 구간을 병렬로 처리해도 원래 행 순서대로 합침
+        assertEquals(
+            streaming.stream().map(BusinessEntityDto::getMailOrderSalesNumber).toList(),
+            workbook.stream().map(BusinessEntityDto::getMailOrderSalesNumber).toList());
+    }
+
+    @ParameterizedTest(name = "xlsx={0}")
+    @ValueSource(booleans = {true, false})
+    @DisplayName("필수 헤더가 없으면 두 모드 모두 IOException을 던져야 함")
+    void parse_shouldReturnEmptyWhenRequiredHeaderMissing(boolean xlsx) throws Exception {
+        // Given
+        byte[] file;
+        try (Workbook workbook = xlsx ? new XSSFWorkbook() : new HSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("국외사업자");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("관리번호");
+            header.createCell(1).setCellValue("법인명(상호)");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("2023-공정-0001");
+            row.createCell(1).setCellValue("테스트 회사");
+            file = toBytes(workbook);
+        }
+
+        // When & Then
+        Path path = write(file);
+        assertThrows(IOException.class, () -> parser("streaming").parse(path));
+        assertThrows(IOException.class, () -> parser("workbook").parse(path));
+    }
+
+    private OverseasXlsParser parser(String parseMode) {
+        return new OverseasXlsParser(parseMode, parseExecutor, PARSE_THREADS);
+    }
+
+    private byte[] createFile(boolean xlsx, int count) throws Exception {
+        try (Workbook workbook = xlsx ? new XSSFWorkbook() : new HSSFWorkbook()) {
+            // 첫 번째 시트만 읽어야 하므로 두 번째 시트에는 다른 데이터
+            Sheet sheet = workbook.createSheet("국외사업자");
+            Sheet other = workbook.createSheet("기타");
+            other.createRow(0).createCell(0).setCellValue("관리번호");
+
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                headerRow.createCell(i).setCellValue(HEADERS[i]);
+            }
+            for (int i = 1; i <= count; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue(String.format("2023-공정-%04d", i));
+                row.createCell(2).setCellValue("대표자" + i);
+                row.createCell(3).setCellValue(i % 5 == 0 ? "N" : "Y");
+                row.createCell(4).setCellValue("테스트 회사" + i);
+                if (i % 2 == 1) {
+                    row.createCell(5).setCellValue(1234567800d + i);
+                }
+                row.createCell(8).setCellValue(i % 3 == 0 ? "02" : "01");
+            }
+            return toBytes(workbook);
+        }
+    }
+
+    private Path write(byte[] content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "overseas-", ".xls");
+        Files.write(file, content);
+        return file;
+    }
+
+    private byte[] toBytes(Workbook workbook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        workbook.write(out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,106 @@
+package com.antock.backend.service;
+
+import com.antock.backend.dto.BusinessEntityRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("일괄 지역 수집 테스트")
+class RegionBatchIngestorTest {
+
+    @Mock
+    private DomesticBusinessEntityService domesticBusinessEntityService;
+
+    @Mock
+    private OverseasBusinessEntityService overseasBusinessEntityService;
+
+    private ExecutorService prepareExecutor;
+    private RegionBatchIngestor regionBatchIngestor;
+
+    @BeforeEach
+    void setUp() {
+        prepareExecutor = Executors.newSingleThreadExecutor();
+        regionBatchIngestor = new RegionBatchIngestor(
+            domesticBusinessEntityService, overseasBusinessEntityService, prepareExecutor, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prepareExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("현재 지역을 보강하는 동안 다음 지역을 미리 준비하고, 실패한 지역은 건너뛰고 계속해야 함")
+    void ingest_shouldPrepareNextRegionWhileEnrichingCurrent() throws Exception {
+        // Given
+        DomesticBusinessEntityService.PreparedRegion seoul = region("서울특별시");
+        DomesticBusinessEntityService.PreparedRegion daegu = region("대구광역시");
+        CountDownLatch busanPrepared = new CountDownLatch(1);
+        when(domesticBusinessEntityService.prepareRegion(eq("서울특별시"), eq(""), any())).thenReturn(seoul);
+        when(domesticBusinessEntityService.prepareRegion(eq("부산광역시"), eq(""), any())).thenAnswer(invocation -> {
+            busanPrepared.countDown();
+            throw new IllegalStateException("다운로드 실패");
+        });
+        when(domesticBusinessEntityService.prepareRegion(eq("대구광역시"), eq(""), any())).thenReturn(daegu);
+        // 서울 보강은 부산 준비가 시작되어야 끝남 (겹쳐 실행되지 않으면 시간 초과)
+        when(domesticBusinessEntityService.enrichAndSave(eq(seoul), any())).thenAnswer(invocation -> {
+            assertTrue(busanPrepared.await(5, TimeUnit.SECONDS));
+            return 3;
+        });
+        when(domesticBusinessEntityService.enrichAndSave(eq(daegu), any())).thenReturn(2);
+        when(overseasBusinessEntityService.processBusinessEntities(eq("국외사업자"), eq(""), any())).thenReturn(4);
+
+        IngestionJob job = new IngestionJob("batch-1", 4);
+
+        // When
+        int saved = regionBatchIngestor.ingest(List.of(
+            new BusinessEntityRequest("서울특별시", ""),
+            new BusinessEntityRequest("부산광역시", ""),
+            new BusinessEntityRequest("국외사업자", ""),
+            new BusinessEntityRequest("대구광역시", "")), job);
+
+        // Then
+        assertEquals(9, saved);
+        assertEquals(4, job.getRegionsCompleted());
+        assertEquals(1, job.getRegionsFailed());
+        verify(domesticBusinessEntityService, never()).prepareRegion(eq("국외사업자"), any(), any());
+    }
+
+    private DomesticBusinessEntityService.PreparedRegion region(String city) {
+        return new DomesticBusinessEntityService.PreparedRegion() {
+            @Override
+            public String city() {
+                return city;
+            }
+
+            @Override
+            public String district() {
+                return "";
+            }
+
+            @Override
+            public int targetCount() {
+                return 1;
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.antock.backend.service;
+
+import com.antock.backend.client.FtcCsvClient;
+import com.antock.backend.domain.RegionRefreshState;
+import com.antock.backend.repository.RegionRefreshStateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 갱신 테스트")
+class RegionRefreshServiceImplTest {
+
+    @Mock
+    private DomesticBusinessEntityService domesticBusinessEntityService;
+
+    @Mock
+    private OverseasBusinessEntityService overseasBusinessEntityService;
+
+    @Mock
+    private FtcCsvClient ftcCsvClient;
+
+    @Mock
+    private RegionRefreshStateRepository refreshStateRepository;
+
+    // 조회 작업을 흉내 내는 mock이 현재 실행의 한도를 쓰도록 공유
+    private LookupQuota currentQuota;
+
+    @Test
+    @DisplayName("오래된 지역부터 갱신하고, 남은 조회 한도로 부족한 지역은 갱신 시각을 유지한 채 미뤄야 함")
+    void refreshAll_shouldOrderByStalenessAndDeferWhenQuotaIsShort() {
+        // Given - 일일 한도 700, 여유분 500 -> 하루에 예약 갱신에 쓸 수 있는 조회는 200, 오늘은 100건을 이미 사용
+        LocalDateTime now = LocalDateTime.now();
+        RegionRefreshState seoul = state("서울특별시:", now.minusDays(3), 150);
+        RegionRefreshState daegu = state("대구광역시:", now.minusDays(1), 50);
+        RegionRefreshState overseas = state("국외사업자:", now.minusDays(2), 0);
+        when(ftcCsvClient.getDomesticCities()).thenReturn(List.of("서울특별시", "부산광역시", "대구광역시"));
+        when(refreshStateRepository.findAll()).thenReturn(List.of(seoul, daegu, overseas));
+
+        LookupQuota lookupQuota = new LookupQuota(700);
+        for (int i = 0; i < 100; i++) {
+            lookupQuota.tryAcquire();
+        }
+        RegionRefreshServiceImpl refreshService = new RegionRefreshServiceImpl(
+            domesticBusinessEntityService, overseasBusinessEntityService, ftcCsvClient, refreshStateRepository,
+            lookupQuota, 0, 500);
+
+        // When
+        int refreshed = refreshService.refreshAll();
+
+        // Then - 한 번도 갱신하지 않은 부산, (서울은 미룸), 국외사업자, 대구 순서
+        assertEquals(3, refreshed);
+        InOrder order = inOrder(domesticBusinessEntityService, overseasBusinessEntityService);
+        order.verify(domesticBusinessEntityService).processBusinessEntities(eq("부산광역시"), eq(""), any());
+        order.verify(overseasBusinessEntityService).processBusinessEntities(eq("국외사업자"), eq(""), any());
+        order.verify(domesticBusinessEntityService).processBusinessEntities(eq("대구광역시"), eq(""), any());
+        verify(domesticBusinessEntityService, never()).processBusinessEntities(eq("서울특별시"), any(), any());
+
+        assertEquals(RegionRefreshState.Status.DEFERRED, seoul.getStatus());
+        assertEquals(now.minusDays(3), seoul.getLastRefreshedAt());
+        assertEquals(RegionRefreshState.Status.REFRESHED, daegu.getStatus());
+        // 진행 상황에 기록된 작업이 없으면(다운로드 실패 등) 직전 예상 조회 수를 유지
+        assertEquals(50, daegu.getExpectedLookups());
+        verify(refreshStateRepository).save(seoul);
+    }
+
+    @Test
+    @DisplayName("첫 실행에서 조회 한도를 소진한 지역은 실제 호출 수만 예상치로 남기고, 다음 날 이어서 갱신해야 함")
+    void refreshAll_whenFirstRunExhaustsQuota_shouldResumeNextDay() {
+        // Given - 한도 700 중 예약 갱신에 쓸 수 있는 조회는 200, 서울은 처음 갱신하며 1000건을 조회해야 함
+        when(ftcCsvClient.getDomesticCities()).thenReturn(List.of("서울특별시"));
+        when(refreshStateRepository.findAll()).thenReturn(List.of());
+        doAnswer(invocation -> {
+            IngestionProgress progress = invocation.getArgument(2);
+            LookupQuota quota = currentQuota;
+            for (int i = 0; i < 1000; i++) {
+                if (quota.tryAcquire()) {
+                    progress.lookupCompleted();
+                } else {
+                    progress.lookupDenied();
+                }
+            }
+            progress.addRowsParsed(1000);
+            return 0;
+        }).when(domesticBusinessEntityService).processBusinessEntities(eq("서울특별시"), eq(""), any());
+
+        currentQuota = new LookupQuota(700);
+        RegionRefreshServiceImpl firstDay = new RegionRefreshServiceImpl(
+            domesticBusinessEntityService, overseasBusinessEntityService, ftcCsvClient, refreshStateRepository,
+            currentQuota, 0, 500);
+
+        // When - 첫날 실행
+        firstDay.refreshAll();
+
+        // Then - 한도 때문에 건너뛴 300건은 예상치에 포함하지 않음
+        ArgumentCaptor<RegionRefreshState> saved = ArgumentCaptor.forClass(RegionRefreshState.class);
+        verify(refreshStateRepository, times(2)).save(saved.capture());
+        RegionRefreshState seoul = saved.getAllValues().stream()
+            .filter(state -> state.getRegionKey().equals("서울특별시:"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(RegionRefreshState.Status.DEFERRED, seoul.getStatus());
+        assertEquals(700, seoul.getExpectedLookups());
+
+        // When - 다음 날 (한도가 다시 채워짐) 실행
+        when(refreshStateRepository.findAll()).thenReturn(List.of(seoul));
+        currentQuota = new LookupQuota(700);
+        RegionRefreshServiceImpl nextDay = new RegionRefreshServiceImpl(
+            domesticBusinessEntityService, overseasBusinessEntityService, ftcCsvClient, refreshStateRepository,
+            currentQuota, 0, 500);
+        nextDay.refreshAll();
+
+        // Then - 예상치(700)가 하루에 쓸 수 있는 조회(200)보다 커도 미루지 않고 이어서 갱신
+        verify(domesticBusinessEntityService, times(2)).processBusinessEntities(eq("서울특별시"), eq(""), any());
+    }
+
+    private RegionRefreshState state(String regionKey, LocalDateTime lastRefreshedAt, long expectedLookups) {
+        return RegionRefreshState.builder()
+            .regionKey(regionKey)
+            .lastRefreshedAt(lastRefreshedAt)
+            .expectedLookups(expectedLookups)
+            .status(RegionRefreshState.Status.REFRESHED)
+            .build();
+    }
+}
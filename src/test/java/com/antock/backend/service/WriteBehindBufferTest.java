@@ -0,0 +1,88 @@
+package com.antock.backend.service;
+
+import com.antock.backend.domain.BusinessEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("write-behind 버퍼 테스트")
+class WriteBehindBufferTest {
+
+    @Test
+    @DisplayName("배치 크기가 차면 저장하고, close 시 남은 엔티티를 모두 저장해야 함")
+    void put_shouldFlushFullBatchesAndRemainderOnClose() throws Exception {
+        // Given
+        List<List<BusinessEntity>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        try (WriteBehindBuffer buffer = new WriteBehindBuffer("test-writer", 100, 10, 60_000, batches::add)) {
+            for (int i = 0; i < 25; i++) {
+                buffer.put(entity(i));
+            }
+        }
+
+        // Then
+        List<String> saved = new ArrayList<>();
+        batches.forEach(batch -> batch.forEach(entity -> saved.add(entity.getMailOrderSalesNumber())));
+        assertEquals(25, saved.size());
+        assertEquals("WB-0", saved.get(0));
+        assertEquals("WB-24", saved.get(24));
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않아도 최대 대기 시간이 지나면 저장해야 함")
+    void put_shouldFlushPartialBatchAfterMaxDelay() throws Exception {
+        // Given
+        CountDownLatch flushed = new CountDownLatch(1);
+
+        try (WriteBehindBuffer buffer = new WriteBehindBuffer("test-writer", 100, 10, 50, batch -> flushed.countDown())) {
+            // When
+            buffer.put(entity(1));
+
+            // Then: close 전에 시간 조건으로 저장됨
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("저장이 느리면 버퍼가 가득 찬 생산자는 대기하고, 엔티티는 유실되지 않아야 함")
+    void put_shouldBlockProducerWhenBufferIsFull() throws Exception {
+        // Given: 배치마다 20ms 걸리는 저장소
+        List<BusinessEntity> saved = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindBuffer buffer = new WriteBehindBuffer("test-writer", 4, 2, 1_000, batch -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            saved.addAll(batch);
+        });
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            buffer.put(entity(i));
+        }
+        buffer.close();
+
+        // Then
+        assertEquals(50, saved.size());
+        assertEquals(50, buffer.getWrittenCount());
+        assertTrue(buffer.getBlockedPutCount() > 0, "버퍼가 가득 차면 생산자가 대기해야 합니다.");
+    }
+
+    private BusinessEntity entity(int i) {
+        return BusinessEntity.builder()
+            .mailOrderSalesNumber("WB-" + i)
+            .companyName("버퍼 테스트 " + i)
+            .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.antock.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("블룸 필터 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 키는 항상 있을 수 있음으로 판단해야 함 (거짓 음성 없음)")
+    void mightContain_shouldNeverReturnFalseForAddedKeys() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("2023-서울강남-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("2023-서울강남-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률은 목표치 근처에 머물러야 함")
+    void falsePositiveRate_shouldStayNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(String.format("%010d", i));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(String.format("%010d", 1_000_000 + i))) {
+                falsePositives++;
+            }
+        }
+
+        double rate = (double) falsePositives / probes;
+        System.out.println("측정 오탐률: " + rate + ", 추정 오탐률: " + filter.expectedFalsePositiveProbability());
+        assertTrue(rate < 0.03, "오탐률이 너무 높습니다: " + rate);
+    }
+}
@@ -0,0 +1,49 @@
+package com.antock.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("원시 long 해시 집합 테스트")
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("중복 추가는 false를 반환하고 0 키도 처리해야 함")
+    void add_shouldDetectDuplicatesIncludingZero() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(1248100998L));
+        assertFalse(set.add(1248100998L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0L));
+        assertFalse(set.contains(1L));
+    }
+
+    @Test
+    @DisplayName("크기 확장 후에도 HashSet과 같은 결과를 내야 함")
+    void add_shouldMatchJdkSetAcrossResizes() {
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(50_000) * 10L;
+            assertEquals(expected.add(key), set.add(key));
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (long key = 0; key < 500_000; key += 10) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+    }
+}
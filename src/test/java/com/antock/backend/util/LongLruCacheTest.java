@@ -0,0 +1,73 @@
+package com.antock.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("long 키 LRU 캐시 테스트")
+class LongLruCacheTest {
+
+    @Test
+    @DisplayName("캐시된 키는 로더를 다시 호출하지 않고 적중/미적중 수를 집계해야 함")
+    void get_shouldLoadOnceAndCountHits() {
+        LongLruCache<String> cache = new LongLruCache<>(100);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("v1", cache.get(1L, key -> {
+                loads.incrementAndGet();
+                return "v" + key;
+            }));
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        // 로더가 null을 반환한 키는 캐시하지 않음
+        assertNull(cache.get(2L, key -> null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거해야 함")
+    void get_shouldEvictLeastRecentlyUsed() {
+        // 최대 크기 1이면 세그먼트 하나
+        LongLruCache<String> single = new LongLruCache<>(1);
+        single.get(1L, key -> "a");
+        single.get(2L, key -> "b");
+        assertEquals(1, single.size());
+        assertEquals(1, single.evictionCount());
+        assertEquals("b", single.get(2L, key -> "reloaded"));
+
+        LongLruCache<Long> cache = new LongLruCache<>(1_000);
+        for (long key = 1; key <= 10_000; key++) {
+            cache.get(key, key2 -> key2);
+            // 자주 쓰는 키는 제거되지 않아야 함
+            cache.get(7L, key2 -> key2);
+        }
+        assertTrue(cache.size() <= cache.maxSize());
+        assertEquals(10_000 - cache.size(), cache.evictionCount());
+        assertEquals(7L, cache.get(7L, key -> -1L));
+    }
+
+    @Test
+    @DisplayName("로딩 중에 무효화된 키는 읽은 값을 캐시하지 않아야 함")
+    void get_shouldNotCacheValueLoadedDuringInvalidation() {
+        LongLruCache<String> cache = new LongLruCache<>(100);
+
+        String loaded = cache.get(1L, key -> {
+            // 로더가 이전 값을 읽는 동안 다른 스레드가 저장 후 무효화
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertEquals(0, cache.size());
+        assertEquals("fresh", cache.get(1L, key -> "fresh"));
+    }
+}
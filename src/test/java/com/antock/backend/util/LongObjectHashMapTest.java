@@ -0,0 +1,58 @@
+package com.antock.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("원시 long 키 해시 맵 테스트")
+class LongObjectHashMapTest {
+
+    @Test
+    @DisplayName("put/get/remove가 HashMap과 같은 결과를 내야 함")
+    void operations_shouldMatchJdkMap() {
+        LongObjectHashMap<Integer> map = new LongObjectHashMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000);
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(key, i), map.put(key, i));
+                case 1 -> assertEquals(expected.remove(key), map.remove(key));
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("삭제 후 같은 탐사 체인의 다른 키를 계속 찾을 수 있어야 함")
+    void remove_shouldKeepProbeChainReachable() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(4);
+        for (long key = 1; key <= 1_000; key++) {
+            map.put(key, "v" + key);
+        }
+        for (long key = 1; key <= 1_000; key += 2) {
+            map.remove(key);
+        }
+
+        for (long key = 1; key <= 1_000; key++) {
+            if (key % 2 == 1) {
+                assertNull(map.get(key));
+            } else {
+                assertEquals("v" + key, map.get(key));
+            }
+        }
+        assertEquals(500, map.size());
+    }
+}